@@ -80,6 +80,15 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
                                                             newIsoDateTimeFormat(),
                                                             newIsoDateFormat());
 
+  /**
+   * Copies of {@link #DEFAULT_DATE_FORMATS} confined to each thread as DateFormat is not thread safe, this avoids
+   * synchronizing the threads parsing dates.
+   */
+  private static final ThreadLocal<List<DateFormat>> threadDefaultDateFormats = ThreadLocal
+      .withInitial(AbstractDateAssert::copyOfDefaultDateFormats);
+
+  private static volatile boolean lenientDateParsing = DEFAULT_DATE_FORMATS.get(0).isLenient();
+
   private static final String DATE_FORMAT_PATTERN_SHOULD_NOT_BE_NULL = "Given date format pattern should not be null";
   private static final String DATE_FORMAT_SHOULD_NOT_BE_NULL = "Given date format should not be null";
 
@@ -3340,9 +3349,12 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
    */
   public static void setLenientDateParsing(boolean value) {
     ConfigurationProvider.loadRegisteredConfiguration();
-    for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
-      defaultDateFormat.setLenient(value);
+    synchronized (DEFAULT_DATE_FORMATS) {
+      for (DateFormat defaultDateFormat : DEFAULT_DATE_FORMATS) {
+        defaultDateFormat.setLenient(value);
+      }
     }
+    lenientDateParsing = value;
   }
 
   /**
@@ -3532,8 +3544,20 @@ public abstract class AbstractDateAssert<SELF extends AbstractDateAssert<SELF>>
   }
 
   private Date parseDateWithDefaultDateFormats(final String dateAsString) {
+    List<DateFormat> defaultDateFormats = threadDefaultDateFormats.get();
+    // the lenient mode might have been changed since the date formats were copied
+    boolean lenient = lenientDateParsing;
+    for (DateFormat defaultDateFormat : defaultDateFormats) {
+      defaultDateFormat.setLenient(lenient);
+    }
+    return parseDateWith(dateAsString, defaultDateFormats);
+  }
+
+  private static List<DateFormat> copyOfDefaultDateFormats() {
     synchronized (DEFAULT_DATE_FORMATS) {
-      return parseDateWith(dateAsString, DEFAULT_DATE_FORMATS);
+      return DEFAULT_DATE_FORMATS.stream()
+                                 .map(dateFormat -> (DateFormat) dateFormat.clone())
+                                 .collect(toList());
     }
   }
 
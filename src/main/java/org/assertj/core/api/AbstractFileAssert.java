@@ -1372,6 +1372,55 @@ public abstract class AbstractFileAssert<SELF extends AbstractFileAssert<SELF>>
     return internalContent(charset);
   }
 
+  /**
+   * Returns assertions verifying the content of the actual {@code File} read with the {@link Charset#defaultCharset() default charset}
+   * while reading it, without loading it in memory, see {@link ContentStreamingAssert}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> File xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes()).toFile();
+   *
+   * // assertion succeeds (default charset is used to read xFile content):
+   * assertThat(xFile).streamingContent().startsWith("The Truth Is ").hasLineCount(1);
+   *
+   * // assertion fails:
+   * assertThat(xFile).streamingContent().contains("Elsewhere");</code></pre>
+   *
+   * @return a {@link ContentStreamingAssert} on the content of the actual {@code File} read with the default {@link Charset}.
+   * @since 3.23.0
+   */
+  public ContentStreamingAssert streamingContent() {
+    // does not call streamingContent(Charset.defaultCharset()) to avoid double proxying in soft assertions.
+    return internalStreamingContent(Charset.defaultCharset());
+  }
+
+  /**
+   * Returns assertions verifying the content of the actual {@code File} read with the given {@link Charset} while reading
+   * it, without loading it in memory, see {@link ContentStreamingAssert}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> File utf8File = Files.write(Paths.get("utf8.txt"), "é à".getBytes()).toFile();
+   *
+   * // assertion succeeds:
+   * assertThat(utf8File).streamingContent(StandardCharsets.UTF_8).endsWith("é à");
+   *
+   * // assertion fails:
+   * assertThat(utf8File).streamingContent(StandardCharsets.UTF_8).contains("e");</code></pre>
+   *
+   * @param charset the {@link Charset} to use to read the actual {@code File}.
+   * @return a {@link ContentStreamingAssert} on the content of the actual {@code File} read with the given {@link Charset}.
+   * @throws NullPointerException if the given {@link Charset} is {@code null}.
+   * @since 3.23.0
+   */
+  public ContentStreamingAssert streamingContent(Charset charset) {
+    return internalStreamingContent(charset);
+  }
+
+  // the content is only read by the assertions of the returned object
+  private ContentStreamingAssert internalStreamingContent(Charset charset) {
+    isNotNull();
+    return new ContentStreamingAssert(actual.toPath(), charset).withAssertionState(myself);
+  }
+
   /**
    * Verifies that the actual {@code File} has no extension.
    *
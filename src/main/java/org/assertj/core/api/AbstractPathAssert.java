@@ -299,6 +299,47 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return myself;
   }
 
+  /**
+   * Verifies that the actual {@code Path} is a directory with the same structure and content as the given one, that is
+   * both directories contain entries with the same relative paths, the same types and, for the files, the same binary
+   * content.
+   * <p>
+   * The directory trees are compared in parallel: subdirectories are listed and files are compared by different tasks of
+   * the common {@link java.util.concurrent.ForkJoinPool}. Files of different sizes are reported as different without
+   * being read, the other ones are compared until their first different byte, large files through memory mapping.
+   * Symbolic links to files are followed but not the ones to directories.
+   * <p>
+   * The error message reports the paths, relative to the compared directories, of the missing, unexpected and different
+   * entries, a missing or unexpected directory is reported without its content.
+   * <p>
+   * Examples given the following directory structures:
+   * <pre><code class="text"> expected               actual                 other
+   * |—— foo                |—— foo                |—— foo
+   * |    |—— foo.txt       |    |—— foo.txt       |    |—— foo.txt (different content)
+   * |—— bar.txt            |—— bar.txt            |—— baz.txt</code></pre>
+   *
+   * Here are some assertions examples:
+   * <pre><code class="java"> // The following assertion succeeds:
+   * assertThat(actual).hasSameDirectoryStructureAndContentAs(expected);
+   *
+   * // The following assertion fails reporting that bar.txt is missing, baz.txt is unexpected and foo/foo.txt is different:
+   * assertThat(other).hasSameDirectoryStructureAndContentAs(expected);</code></pre>
+   *
+   * @param expected the given directory to compare the actual {@code Path} to.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@code Path} is {@code null}.
+   * @throws IllegalArgumentException if the given {@code Path} is not an existing directory.
+   * @throws AssertionError if the actual {@code Path} is {@code null}.
+   * @throws AssertionError if the actual {@code Path} does not exist or is not a directory.
+   * @throws UncheckedIOException if any I/O error occurs.
+   * @throws AssertionError if the actual directory does not have the same structure and content as the given one.
+   * @since 3.23.0
+   */
+  public SELF hasSameDirectoryStructureAndContentAs(Path expected) {
+    paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected);
+    return myself;
+  }
+
   /**
    * Specifies the name of the charset to use for text-based assertions on the path's contents (path must be a readable
    * file).
@@ -1889,6 +1930,55 @@ public abstract class AbstractPathAssert<SELF extends AbstractPathAssert<SELF>>
     return internalContent(charset);
   }
 
+  /**
+   * Returns assertions verifying the content of the actual {@code Path} read with the {@link Charset#defaultCharset() default charset}
+   * while reading it, without loading it in memory, see {@link ContentStreamingAssert}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   *
+   * // assertion succeeds (default charset is used to read xFile content):
+   * assertThat(xFile).streamingContent().startsWith("The Truth Is ").hasLineCount(1);
+   *
+   * // assertion fails:
+   * assertThat(xFile).streamingContent().contains("Elsewhere");</code></pre>
+   *
+   * @return a {@link ContentStreamingAssert} on the content of the actual {@code Path} read with the default {@link Charset}.
+   * @since 3.23.0
+   */
+  public ContentStreamingAssert streamingContent() {
+    // does not call streamingContent(Charset.defaultCharset()) to avoid double proxying in soft assertions.
+    return internalStreamingContent(Charset.defaultCharset());
+  }
+
+  /**
+   * Returns assertions verifying the content of the actual {@code Path} read with the given {@link Charset} while reading
+   * it, without loading it in memory, see {@link ContentStreamingAssert}.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path utf8Path = Files.write(Paths.get("utf8.txt"), "é à".getBytes());
+   *
+   * // assertion succeeds:
+   * assertThat(utf8Path).streamingContent(StandardCharsets.UTF_8).endsWith("é à");
+   *
+   * // assertion fails:
+   * assertThat(utf8Path).streamingContent(StandardCharsets.UTF_8).contains("e");</code></pre>
+   *
+   * @param charset the {@link Charset} to use to read the actual {@code Path}.
+   * @return a {@link ContentStreamingAssert} on the content of the actual {@code Path} read with the given {@link Charset}.
+   * @throws NullPointerException if the given {@link Charset} is {@code null}.
+   * @since 3.23.0
+   */
+  public ContentStreamingAssert streamingContent(Charset charset) {
+    return internalStreamingContent(charset);
+  }
+
+  // the content is only read by the assertions of the returned object
+  private ContentStreamingAssert internalStreamingContent(Charset charset) {
+    isNotNull();
+    return new ContentStreamingAssert(actual, charset).withAssertionState(myself);
+  }
+
   // this method was introduced to avoid double proxying in soft assertions for content()
   private AbstractStringAssert<?> internalContent(Charset charset) {
     paths.assertIsReadable(info, actual);
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.error.StreamElementsShould.streamShouldHaveSizeGreaterThan;
+import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
+import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.lang.reflect.Array;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.BaseStream;
+
+/**
+ * Base class for the assertions verifying the elements of a stream while traversing it, without collecting them.
+ * <p>
+ * Each assertion traverses the stream once, only as far as needed to succeed or fail (for example {@code anyMatch}
+ * stops at the first matching element), so that large or infinite streams can be verified. The stream is closed at the
+ * end of the assertion and since a stream can only be traversed once, <b>an assertion consuming the stream can't be
+ * followed by another one</b>: the second one throws an {@link IllegalStateException}.
+ * <p>
+ * Use {@code assertThat(stream)} to get {@link ListAssert} assertions on the collected stream elements instead.
+ *
+ * @param <SELF> the "self" type of this assertion class.
+ * @param <ACTUAL> the type of the stream.
+ * @since 3.23.0
+ */
+public abstract class AbstractStreamingAssert<SELF extends AbstractStreamingAssert<SELF, ACTUAL>, ACTUAL extends BaseStream<?, ?>>
+    extends AbstractAssert<SELF, ACTUAL> {
+
+  private boolean consumed;
+
+  protected AbstractStreamingAssert(ACTUAL actual, Class<?> selfType) {
+    super(actual, selfType);
+  }
+
+  /**
+   * Verifies that the actual stream has more elements than the given boundary, the stream is only traversed until it has
+   * more elements than the boundary so that it can be infinite.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).hasSizeGreaterThan(1_000_000);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.of(1, 2, 3)).hasSizeGreaterThan(3);</code></pre>
+   *
+   * @param boundary the given value to compare the actual size to.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the given boundary is negative.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not have more elements than the boundary.
+   */
+  public SELF hasSizeGreaterThan(long boundary) {
+    checkArgument(boundary >= 0, "The boundary must be >= 0 but was %s", boundary);
+    try (ACTUAL stream = consume()) {
+      Spliterator<?> spliterator = stream.spliterator();
+      ElementCounter counter = new ElementCounter();
+      while (counter.count <= boundary && spliterator.tryAdvance(counter)) {
+        // counting
+      }
+      if (counter.count <= boundary) throwAssertionError(streamShouldHaveSizeGreaterThan(boundary, counter.count));
+    }
+    return myself;
+  }
+
+  /**
+   * Returns the actual stream to traverse it, it can only be done by one assertion.
+   *
+   * @return the actual stream.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws IllegalStateException if the actual stream has already been consumed by a previous assertion.
+   */
+  protected ACTUAL consume() {
+    isNotNull();
+    if (consumed) throw new IllegalStateException("The stream under test has already been consumed by a previous assertion");
+    consumed = true;
+    return actual;
+  }
+
+  protected static void checkIsNotNullAndNotEmpty(Object values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (Array.getLength(values) == 0) throw arrayOfValuesToLookForIsEmpty();
+  }
+
+  // counts the elements of any kind of stream without boxing the primitive ones
+  private static class ElementCounter implements Consumer<Object>, IntConsumer, LongConsumer, DoubleConsumer {
+
+    private long count;
+
+    @Override
+    public void accept(Object element) {
+      count++;
+    }
+
+    @Override
+    public void accept(int element) {
+      count++;
+    }
+
+    @Override
+    public void accept(long element) {
+      count++;
+    }
+
+    @Override
+    public void accept(double element) {
+      count++;
+    }
+  }
+}
@@ -96,6 +96,8 @@ import org.assertj.core.data.TemporalUnitWithinOffset;
 import org.assertj.core.description.Description;
 import org.assertj.core.groups.Properties;
 import org.assertj.core.groups.Tuple;
+import org.assertj.core.internal.Diff;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.BinaryRepresentation;
 import org.assertj.core.presentation.HexadecimalRepresentation;
 import org.assertj.core.presentation.Representation;
@@ -1939,6 +1941,76 @@ public class Assertions implements InstanceOfAssertFactories {
     StandardRepresentation.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed);
   }
 
+  /**
+   * Sets the maximum number of lines of each textual content used to compute their differences when comparing their
+   * content, for example with {@code hasSameTextualContentAs} (default is {@value Configuration#MAX_LINES_FOR_TEXTUAL_DIFF}).
+   * <p>
+   * The identical lines before the first difference and after the last one are not compared, only the given number of
+   * lines of each content are then compared from the first difference on. If a content has more lines than that, the
+   * differences are computed on these lines only and a last difference reports from which line the contents were not
+   * compared.
+   * <p>
+   * This bounds the memory and time used to compare very large contents.
+   *
+   * @param maxLinesForTextualDiff the maximum number of lines of each content used to compute their differences.
+   * @throws IllegalArgumentException if the given value is not strictly positive.
+   * @since 3.23.0
+   * @see Configuration
+   */
+  public static void setMaxLinesForTextualDiff(int maxLinesForTextualDiff) {
+    Diff.setMaxLinesForTextualDiff(maxLinesForTextualDiff);
+  }
+
+  /**
+   * Sets the maximum number of errors collected by soft assertions whose failure message is rendered (by default all of
+   * them are).
+   * <p>
+   * Rendering a failure message formats the actual and expected values, which can be costly for large values. When this
+   * limit is set, the failure message of a soft assertion is only rendered when its error is collected and if fewer errors
+   * than the limit have been collected before, the message of the following errors only contains the assertion
+   * description and a note explaining why it was not rendered.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxRenderedSoftAssertionErrors(10);
+   *
+   * SoftAssertions softly = new SoftAssertions();
+   * // only the messages of the first 10 failures are rendered
+   * hugeReports.forEach(report -&gt; softly.assertThat(report).as(report.getName()).isEqualTo(expectedReport));
+   * softly.assertAll();</code></pre>
+   *
+   * @param maxRenderedSoftAssertionErrors the maximum number of rendered soft assertion errors.
+   * @throws IllegalArgumentException if the given value is negative.
+   * @since 3.23.0
+   * @see Configuration
+   */
+  public static void setMaxRenderedSoftAssertionErrors(int maxRenderedSoftAssertionErrors) {
+    Failures.instance().setMaxRenderedSoftAssertionErrors(maxRenderedSoftAssertionErrors);
+  }
+
+  /**
+   * Sets the maximum number of characters used to represent all the values of an assertion error message (default is
+   * {@value Configuration#MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES}).
+   * <p>
+   * The values of a failure message share this budget, their representation is ended with {@code "..."} once it is
+   * reached. Collections, arrays and maps are formatted element by element and stop being formatted there, which prevents
+   * a failing assertion on a huge object graph from running out of memory or taking ages to build its message.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Assertions.setMaxLengthForErrorMessageValues(10_000);
+   *
+   * // the error message only shows the first 10_000 characters of the representation of the values
+   * assertThat(millionsOfCustomers).containsExactlyElementsOf(expectedCustomers);</code></pre>
+   *
+   * @param maxLengthForErrorMessageValues the maximum number of characters used to represent the values of an assertion
+   *          error message.
+   * @throws IllegalArgumentException if the given value is negative.
+   * @since 3.23.0
+   * @see Configuration
+   */
+  public static void setMaxLengthForErrorMessageValues(int maxLengthForErrorMessageValues) {
+    StandardRepresentation.setMaxLengthForErrorMessageValues(maxLengthForErrorMessageValues);
+  }
+
   // ------------------------------------------------------------------------------------------------------
   // properties methods : not assertions but here to have a single entry point to all AssertJ features.
   // ------------------------------------------------------------------------------------------------------
@@ -3425,6 +3497,82 @@ public class Assertions implements InstanceOfAssertFactories {
     return AssertionsForInterfaceTypes.assertThat(actual);
   }
 
+  /**
+   * Creates a new instance of <code>{@link StreamingAssert}</code> verifying the elements of the given {@link Stream} while
+   * traversing it, the elements are not collected so that large or infinite streams can be verified.
+   * <p>
+   * <b>Each assertion consumes the stream, only one assertion can be called on the returned {@link StreamingAssert}</b>,
+   * use {@code assertThat(stream)} to chain assertions on the collected stream elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass after traversing the first million elements of an infinite stream
+   * assertThatLazily(Stream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1_000_000);</code></pre>
+   *
+   * @param actual the actual {@link Stream} value.
+   * @return the created assertion object.
+   * @since 3.23.0
+   */
+  public static <ELEMENT> StreamingAssert<ELEMENT> assertThatLazily(Stream<? extends ELEMENT> actual) {
+    return new StreamingAssert<>(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link DoubleStreamingAssert}</code> verifying the elements of the given {@link DoubleStream} while
+   * traversing it, the elements are not collected so that large or infinite streams can be verified.
+   * <p>
+   * <b>Each assertion consumes the stream, only one assertion can be called on the returned {@link DoubleStreamingAssert}</b>,
+   * use {@code assertThat(stream)} to chain assertions on the collected stream elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass after traversing the first million elements of an infinite stream
+   * assertThatLazily(DoubleStream.iterate(1.0, d -&gt; d + 1.0)).anyMatch(d -&gt; d == 1_000_000.0);</code></pre>
+   *
+   * @param actual the actual {@link DoubleStream} value.
+   * @return the created assertion object.
+   * @since 3.23.0
+   */
+  public static DoubleStreamingAssert assertThatLazily(DoubleStream actual) {
+    return new DoubleStreamingAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link LongStreamingAssert}</code> verifying the elements of the given {@link LongStream} while
+   * traversing it, the elements are not collected so that large or infinite streams can be verified.
+   * <p>
+   * <b>Each assertion consumes the stream, only one assertion can be called on the returned {@link LongStreamingAssert}</b>,
+   * use {@code assertThat(stream)} to chain assertions on the collected stream elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass after traversing the first million elements of an infinite stream
+   * assertThatLazily(LongStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1_000_000);</code></pre>
+   *
+   * @param actual the actual {@link LongStream} value.
+   * @return the created assertion object.
+   * @since 3.23.0
+   */
+  public static LongStreamingAssert assertThatLazily(LongStream actual) {
+    return new LongStreamingAssert(actual);
+  }
+
+  /**
+   * Creates a new instance of <code>{@link IntStreamingAssert}</code> verifying the elements of the given {@link IntStream} while
+   * traversing it, the elements are not collected so that large or infinite streams can be verified.
+   * <p>
+   * <b>Each assertion consumes the stream, only one assertion can be called on the returned {@link IntStreamingAssert}</b>,
+   * use {@code assertThat(stream)} to chain assertions on the collected stream elements.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass after traversing the first million elements of an infinite stream
+   * assertThatLazily(IntStream.iterate(1, i -&gt; i + 1)).anyMatch(i -&gt; i == 1_000_000);</code></pre>
+   *
+   * @param actual the actual {@link IntStream} value.
+   * @return the created assertion object.
+   * @since 3.23.0
+   */
+  public static IntStreamingAssert assertThatLazily(IntStream actual) {
+    return new IntStreamingAssert(actual);
+  }
+
   /**
    * Creates a new instance of <code>{@link SpliteratorAssert}</code> from the given {@link Spliterator}.
    *
@@ -3618,8 +3766,9 @@ public class Assertions implements InstanceOfAssertFactories {
   /**
    * Assertions error messages uses a {@link Representation} to format the different types involved, using this method
    * you can control the formatting of a given type by providing a specific formatter.
-   *
-   *
+   * <p>
+   * The formatter is also used for the subtypes of the given type, unless a formatter is registered for a closer
+   * supertype (superclasses are looked up before interfaces).
    * <p>
    * Registering a formatter makes it available for all AssertJ {@link Representation}:
    * <ul>
@@ -80,11 +80,13 @@ import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.configuration.PreferredAssumptionException;
 import org.assertj.core.util.CheckReturnValue;
+import org.assertj.core.util.VisibleForTesting;
 
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.TypeCache;
 import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.Implementation;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -1340,7 +1342,10 @@ public class Assumptions {
   }
 
   @SuppressWarnings("unchecked")
-  private static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
+  @VisibleForTesting
+  static <ASSERTION> Class<? extends ASSERTION> createAssumptionClass(Class<ASSERTION> assertClass) {
+    Class<? extends ASSERTION> pregeneratedAssumptionClass = PregeneratedProxies.assumptionClass(assertClass);
+    if (pregeneratedAssumptionClass != null) return pregeneratedAssumptionClass;
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERTION>) CACHE.findOrInsert(assertClass.getClassLoader(),
                                                  cacheKey,
@@ -1349,12 +1354,16 @@ public class Assumptions {
 
   protected static <ASSERTION> Class<? extends ASSERTION> generateAssumptionClass(Class<ASSERTION> assertionType) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertionType);
-    return BYTE_BUDDY.subclass(assertionType)
-                     .method(any().and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ASSUMPTION)
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+    return defineAssumptionClass(BYTE_BUDDY.subclass(assertionType)).make()
+                                                                    .load(strategy.getClassLoader(),
+                                                                          strategy.getClassLoadingStrategy())
+                                                                    .getLoaded();
+  }
+
+  // also used to generate the assumption classes at build time, see PregeneratedProxiesGenerator in the test sources
+  static <ASSERTION> DynamicType.Builder<ASSERTION> defineAssumptionClass(DynamicType.Builder<ASSERTION> assumptionClassBuilder) {
+    return assumptionClassBuilder.method(any().and(not(METHODS_NOT_TO_PROXY)))
+                                 .intercept(ASSUMPTION);
   }
 
   // for method that change the object under test (e.g. extracting)
@@ -0,0 +1,405 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.FileContentShould.fileContentShouldContain;
+import static org.assertj.core.error.FileContentShould.fileContentShouldContainPattern;
+import static org.assertj.core.error.FileContentShould.fileContentShouldEndWith;
+import static org.assertj.core.error.FileContentShould.fileContentShouldHaveLineCount;
+import static org.assertj.core.error.FileContentShould.fileContentShouldStartWith;
+import static org.assertj.core.error.FileContentShould.fileLinesShouldSatisfy;
+import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsEmpty;
+import static org.assertj.core.internal.CommonErrors.arrayOfValuesToLookForIsNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.assertj.core.internal.Paths;
+import org.assertj.core.internal.WindowedFileReader;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions on the textual content of a file verified while reading it, the content is never loaded as a whole in memory
+ * so that files of any size can be verified.
+ * <p>
+ * The file is decoded one window at a time, each assertion reads it once, only as far as needed to succeed or fail (for
+ * example {@code contains} stops once all the values have been found), and handles values or matches crossing the
+ * boundaries of the chunks read.
+ * <p>
+ * To create an instance of this class, invoke {@link AbstractPathAssert#streamingContent()} or
+ * {@link AbstractFileAssert#streamingContent()}, use {@link AbstractPathAssert#content()} to get {@link String}
+ * assertions on the whole content instead.
+ *
+ * @since 3.23.0
+ */
+public class ContentStreamingAssert extends AbstractAssert<ContentStreamingAssert, Path> {
+
+  @VisibleForTesting
+  static final int BUFFER_SIZE = 8192;
+  // matches crossing chunks are searched on at most this number of characters
+  @VisibleForTesting
+  static final int MAX_PATTERN_MATCH_LENGTH = 1024 * 1024;
+
+  @VisibleForTesting
+  Paths paths = Paths.instance();
+
+  final Charset charset;
+
+  public ContentStreamingAssert(Path actual, Charset charset) {
+    super(actual, ContentStreamingAssert.class);
+    this.charset = requireNonNull(charset, "The charset should not be null");
+  }
+
+  /**
+   * Verifies that the content of the actual file contains all the given values.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().contains("Truth", "There");
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().contains("Truth", "Elsewhere");</code></pre>
+   *
+   * @param values the values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given values or one of them is {@code null}.
+   * @throws IllegalArgumentException if the given values are empty.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual file does not contain all the given values.
+   */
+  public ContentStreamingAssert contains(CharSequence... values) {
+    if (values == null) throw arrayOfValuesToLookForIsNull();
+    if (values.length == 0) throw arrayOfValuesToLookForIsEmpty();
+    String[] valuesToFind = new String[values.length];
+    int maxValueLength = 0;
+    for (int i = 0; i < values.length; i++) {
+      valuesToFind[i] = requireNonNull(values[i], "The char sequence to look for should not be null").toString();
+      maxValueLength = Math.max(maxValueLength, valuesToFind[i].length());
+    }
+    boolean[] found = new boolean[values.length];
+    int notFoundCount = values.length;
+    try (Reader reader = openContent()) {
+      // the end of the previous chunk is kept to find the values starting in it
+      StringBuilder window = new StringBuilder();
+      char[] buffer = new char[BUFFER_SIZE];
+      boolean endOfContent = false;
+      do {
+        for (int i = 0; i < valuesToFind.length; i++) {
+          if (!found[i] && window.indexOf(valuesToFind[i]) >= 0) {
+            found[i] = true;
+            notFoundCount--;
+          }
+        }
+        if (notFoundCount == 0) return myself;
+        window.delete(0, Math.max(0, window.length() - maxValueLength + 1));
+        int read = reader.read(buffer);
+        if (read == -1) endOfContent = true;
+        else window.append(buffer, 0, read);
+      } while (!endOfContent);
+    } catch (IOException e) {
+      throw failedToRead(e);
+    }
+    CharSequence[] notFound = IntStream.range(0, values.length).filter(i -> !found[i]).mapToObj(i -> values[i])
+                                       .toArray(CharSequence[]::new);
+    throw assertionError(fileContentShouldContain(actual, charset, values, notFound));
+  }
+
+  /**
+   * Verifies that the content of the actual file starts with the given prefix, only the beginning of the file is read.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().startsWith("The Truth");
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().startsWith("Truth");</code></pre>
+   *
+   * @param prefix the prefix to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given prefix is {@code null}.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual file does not start with the given prefix.
+   */
+  public ContentStreamingAssert startsWith(CharSequence prefix) {
+    requireNonNull(prefix, "The given prefix should not be null");
+    String expectedStart = prefix.toString();
+    char[] start = new char[expectedStart.length()];
+    int startLength = 0;
+    try (Reader reader = openContent()) {
+      for (int read = 0; startLength < start.length && read != -1; startLength += Math.max(read, 0)) {
+        read = reader.read(start, startLength, start.length - startLength);
+      }
+    } catch (IOException e) {
+      throw failedToRead(e);
+    }
+    String actualStart = new String(start, 0, startLength);
+    if (!actualStart.equals(expectedStart))
+      throw assertionError(fileContentShouldStartWith(actual, charset, prefix, actualStart));
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual file ends with the given suffix.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().endsWith("Out There");
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().endsWith("Out");</code></pre>
+   *
+   * @param suffix the suffix to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given suffix is {@code null}.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual file does not end with the given suffix.
+   */
+  public ContentStreamingAssert endsWith(CharSequence suffix) {
+    requireNonNull(suffix, "The given suffix should not be null");
+    String expectedEnd = suffix.toString();
+    // only the last characters read are kept
+    StringBuilder end = new StringBuilder();
+    try (Reader reader = openContent()) {
+      char[] buffer = new char[BUFFER_SIZE];
+      for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+        end.append(buffer, 0, read);
+        end.delete(0, Math.max(0, end.length() - expectedEnd.length()));
+      }
+    } catch (IOException e) {
+      throw failedToRead(e);
+    }
+    String actualEnd = end.toString();
+    if (!actualEnd.equals(expectedEnd)) throw assertionError(fileContentShouldEndWith(actual, charset, suffix, actualEnd));
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual file has the given number of lines, the lines being terminated by
+   * {@code "\n"}, {@code "\r"} or {@code "\r\n"} as for {@link BufferedReader#readLine()} (a terminator at the end of
+   * the content does not start a new line).
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth\nIs Out There\n".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().hasLineCount(2);
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().hasLineCount(3);</code></pre>
+   *
+   * @param expectedLineCount the expected number of lines.
+   * @return {@code this} assertion object.
+   * @throws IllegalArgumentException if the expected number of lines is negative.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual file does not have the given number of lines.
+   */
+  public ContentStreamingAssert hasLineCount(long expectedLineCount) {
+    checkArgument(expectedLineCount >= 0, "The expected line count must be >= 0 but was %s", expectedLineCount);
+    long lineCount = 0;
+    try (Reader reader = openContent()) {
+      char[] buffer = new char[BUFFER_SIZE];
+      // a pending line is one that has at least one character and no terminator yet
+      boolean pendingLine = false;
+      boolean previousWasCarriageReturn = false;
+      for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+        for (int i = 0; i < read; i++) {
+          char c = buffer[i];
+          if (c == '\n' && previousWasCarriageReturn) {
+            // "\r\n" terminates a single line
+            previousWasCarriageReturn = false;
+            continue;
+          }
+          previousWasCarriageReturn = c == '\r';
+          if (c == '\n' || c == '\r') {
+            lineCount++;
+            pendingLine = false;
+          } else {
+            pendingLine = true;
+          }
+        }
+      }
+      if (pendingLine) lineCount++;
+    } catch (IOException e) {
+      throw failedToRead(e);
+    }
+    if (lineCount != expectedLineCount)
+      throw assertionError(fileContentShouldHaveLineCount(actual, charset, expectedLineCount, lineCount));
+    return myself;
+  }
+
+  /**
+   * Verifies that the content of the actual file contains the given regular expression, the file is read until a match
+   * is found.
+   * <p>
+   * The matches can cross the chunks read, the boundary matchers at the end of a chunk being handled like
+   * {@link java.util.Scanner} does, but matches longer than a million characters may not be found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().containsPattern("Tr.th");
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().containsPattern("Tr.th Is In");</code></pre>
+   *
+   * @param regex the regular expression to find in the actual file content.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given regular expression is {@code null}.
+   * @throws java.util.regex.PatternSyntaxException if the regular expression's syntax is invalid.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual file does not contain the given regular expression.
+   */
+  public ContentStreamingAssert containsPattern(CharSequence regex) {
+    requireNonNull(regex, "The regular expression to find should not be null");
+    return containsPattern(Pattern.compile(regex.toString()));
+  }
+
+  /**
+   * Verifies that the content of the actual file contains the given pattern, the file is read until a match is found.
+   * <p>
+   * The matches can cross the chunks read, the boundary matchers at the end of a chunk being handled like
+   * {@link java.util.Scanner} does, but matches longer than a million characters may not be found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth Is Out There".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().containsPattern(Pattern.compile("Tr.th"));
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().containsPattern(Pattern.compile("Tr.th Is In"));</code></pre>
+   *
+   * @param pattern the pattern to find in the actual file content.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given pattern is {@code null}.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if the content of the actual file does not contain the given pattern.
+   */
+  public ContentStreamingAssert containsPattern(Pattern pattern) {
+    requireNonNull(pattern, "The pattern to find should not be null");
+    try (Reader reader = openContent()) {
+      // the window keeps the characters where a match could still start, preceded by one character of context (if any)
+      // so that boundary matchers and lookbehinds are not fooled by the removed characters
+      StringBuilder window = new StringBuilder();
+      int contextLength = 0;
+      char[] buffer = new char[BUFFER_SIZE];
+      for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+        window.append(buffer, 0, read);
+        Matcher matcher = pattern.matcher(window).region(contextLength, window.length())
+                                 .useTransparentBounds(true)
+                                 .useAnchoringBounds(false);
+        boolean found = matcher.find();
+        // a match requiring the end of the input may be lost with more input, ex: "end$"
+        if (found && !matcher.requireEnd()) return myself;
+        // only the positions from which a match attempt reached the end of the window can still start a match
+        int keptStart = found || matcher.hitEnd()
+            ? Math.max(firstStartReachingEnd(matcher, contextLength, found ? matcher.start() : window.length()),
+                       window.length() - MAX_PATTERN_MATCH_LENGTH)
+            : window.length();
+        contextLength = keptStart == 0 ? 0 : 1;
+        window.delete(0, keptStart - contextLength);
+      }
+      // the end of the content is now known
+      if (pattern.matcher(window).region(contextLength, window.length())
+                 .useTransparentBounds(true)
+                 .useAnchoringBounds(false)
+                 .find())
+        return myself;
+    } catch (IOException e) {
+      throw failedToRead(e);
+    }
+    throw assertionError(fileContentShouldContainPattern(actual, charset, pattern.pattern()));
+  }
+
+  /**
+   * Verifies that all the lines of the actual file satisfy the given requirements expressed as a {@link Consumer}, the
+   * file is read line by line until a line does not satisfy them.
+   * <p>
+   * The lines are read as with {@link BufferedReader#readLine()}, without their terminator.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Path xFile = Files.write(Paths.get("xfile.txt"), "The Truth\nIs Out There".getBytes());
+   *
+   * // assertion will pass
+   * assertThat(xFile).streamingContent().allLinesSatisfy(line -&gt; assertThat(line).contains("T"));
+   *
+   * // assertion will fail
+   * assertThat(xFile).streamingContent().allLinesSatisfy(line -&gt; assertThat(line).startsWith("The"));</code></pre>
+   *
+   * @param requirements the given {@link Consumer}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@link Consumer} is {@code null}.
+   * @throws AssertionError if the actual file is not readable.
+   * @throws UncheckedIOException if an I/O error occurs.
+   * @throws AssertionError if a line of the actual file does not satisfy the given requirements.
+   */
+  public ContentStreamingAssert allLinesSatisfy(Consumer<String> requirements) {
+    requireNonNull(requirements, "The Consumer<String> expressing the requirements should not be null");
+    try (BufferedReader reader = new BufferedReader(openContent(), BUFFER_SIZE)) {
+      long lineNumber = 1;
+      for (String line = reader.readLine(); line != null; line = reader.readLine(), lineNumber++) {
+        try {
+          requirements.accept(line);
+        } catch (AssertionError e) {
+          throw assertionError(fileLinesShouldSatisfy(actual, charset, lineNumber, line, e.getMessage()));
+        }
+      }
+    } catch (IOException e) {
+      throw failedToRead(e);
+    }
+    return myself;
+  }
+
+  // the first position in [from, to] from which a match attempt reaches the end of the input, to if there is none
+  private static int firstStartReachingEnd(Matcher matcher, int from, int to) {
+    int end = matcher.regionEnd();
+    for (int start = from; start < to; start++) {
+      matcher.region(start, end).lookingAt();
+      if (matcher.hitEnd()) return start;
+    }
+    return to;
+  }
+
+  private Reader openContent() throws IOException {
+    paths.assertIsReadable(info, actual);
+    return new WindowedFileReader(actual, charset);
+  }
+
+  private UncheckedIOException failedToRead(IOException e) {
+    return new UncheckedIOException(format("Failed to read %s content with %s charset", actual, charset), e);
+  }
+}
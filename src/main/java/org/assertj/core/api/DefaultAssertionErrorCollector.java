@@ -24,6 +24,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
+import org.assertj.core.error.LazilyRenderedAssertionError;
+import org.assertj.core.internal.Failures;
 import org.assertj.core.util.introspection.IntrospectionError;
 
 public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
@@ -57,6 +59,7 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
   @Override
   public void collectAssertionError(AssertionError error) {
     if (delegate == null) {
+      if (error instanceof LazilyRenderedAssertionError) renderOrSkipMessage((LazilyRenderedAssertionError) error);
       collectedAssertionErrors.add(error);
       wasSuccess = false;
     } else {
@@ -65,6 +68,14 @@ public class DefaultAssertionErrorCollector implements AssertionErrorCollector {
     callback.onAssertionErrorCollected(error);
   }
 
+  // the state of the actual value may change after the assertion, the message is thus rendered as soon as possible
+  private void renderOrSkipMessage(LazilyRenderedAssertionError error) {
+    int maxRenderedErrors = Failures.instance().getMaxRenderedSoftAssertionErrors();
+    if (collectedAssertionErrors.size() < maxRenderedErrors) error.getMessage();
+    else error.skipMessageRendering(format("%n[failure message not rendered as only the first %s collected soft assertion errors are, see Assertions.setMaxRenderedSoftAssertionErrors]",
+                                           maxRenderedErrors));
+  }
+
   /**
    * Returns a list of soft assertions collected errors. If a delegate
    * has been set (see {@link #setDelegate(AssertionErrorCollector) setDelegate()},
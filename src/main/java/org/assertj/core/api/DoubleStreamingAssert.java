@@ -0,0 +1,275 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldNotContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoublePredicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * Assertions verifying the elements of a {@link DoubleStream} while traversing it, the elements are neither boxed nor
+ * collected, see {@link AbstractStreamingAssert}.
+ * <p>
+ * Elements are compared like their boxed values, i.e. {@code NaN} is equal to itself and {@code 0.0} is greater than
+ * {@code -0.0}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatLazily(DoubleStream)}</code>.
+ *
+ * @since 3.23.0
+ */
+public class DoubleStreamingAssert extends AbstractStreamingAssert<DoubleStreamingAssert, DoubleStream> {
+
+  public DoubleStreamingAssert(DoubleStream actual) {
+    super(actual, DoubleStreamingAssert.class);
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given predicate, the stream is traversed until an
+   * element does not match.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.generate(Math::random).limit(1_000_000)).allMatch(d -&gt; d &gt;= 0.0);
+   *
+   * // assertion will fail after checking the first 1001 elements of an infinite stream
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).allMatch(d -&gt; d &lt;= 1000.0);</code></pre>
+   *
+   * @param predicate the given {@link DoublePredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the actual stream does not match the given predicate.
+   */
+  public DoubleStreamingAssert allMatch(DoublePredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (DoubleStream stream = consume()) {
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        double element = iterator.nextDouble();
+        if (!predicate.test(element)) throwAssertionError(streamElementsShouldMatch(index, element, GIVEN));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream matches the given predicate, the stream is traversed until an
+   * element matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).anyMatch(d -&gt; d == 1_000_000.0);
+   *
+   * // assertion will fail
+   * assertThatLazily(DoubleStream.of(1.0, 2.0, 3.0)).anyMatch(d -&gt; d &gt; 3.0);</code></pre>
+   *
+   * @param predicate the given {@link DoublePredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if no element of the actual stream matches the given predicate.
+   */
+  public DoubleStreamingAssert anyMatch(DoublePredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (DoubleStream stream = consume()) {
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      long count = 0;
+      for (; iterator.hasNext(); count++) {
+        if (predicate.test(iterator.nextDouble())) return myself;
+      }
+      throwAssertionError(anyStreamElementShouldMatch(count, GIVEN));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that no element of the actual stream matches the given predicate, the stream is traversed until an element
+   * matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.generate(Math::random).limit(1_000_000)).noneMatch(d -&gt; d &lt; 0.0);
+   *
+   * // assertion will fail
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).noneMatch(d -&gt; d == 1000.0);</code></pre>
+   *
+   * @param predicate the given {@link DoublePredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the actual stream matches the given predicate.
+   */
+  public DoubleStreamingAssert noneMatch(DoublePredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (DoubleStream stream = consume()) {
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        double element = iterator.nextDouble();
+        if (predicate.test(element)) throwAssertionError(noStreamElementsShouldMatch(index, element, GIVEN));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream contains the given values, in any order, the stream is traversed until all the
+   * values are found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).contains(1_000.0, 10.5);
+   *
+   * // assertion will fail
+   * assertThatLazily(DoubleStream.of(1.0, 2.0, 3.0)).contains(4.0);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not contain the given values.
+   */
+  public DoubleStreamingAssert contains(double... values) {
+    checkIsNotNullAndNotEmpty(values);
+    try (DoubleStream stream = consume()) {
+      boolean[] found = new boolean[values.length];
+      int notFoundCount = values.length;
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      long count = 0;
+      for (; notFoundCount > 0 && iterator.hasNext(); count++) {
+        double element = iterator.nextDouble();
+        for (int i = 0; i < values.length; i++) {
+          if (!found[i] && areEqual(values[i], element)) {
+            found[i] = true;
+            notFoundCount--;
+          }
+        }
+      }
+      if (notFoundCount > 0) throwAssertionError(streamShouldContain(values, notFound(values, found), count));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream does not contain the given values, the stream is traversed until one of the values
+   * is found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.generate(Math::random).limit(1_000_000)).doesNotContain(-1.0);
+   *
+   * // assertion will fail
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).doesNotContain(-1.0, 1000.0);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream contains any of the given values.
+   */
+  public DoubleStreamingAssert doesNotContain(double... values) {
+    checkIsNotNullAndNotEmpty(values);
+    try (DoubleStream stream = consume()) {
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        double element = iterator.nextDouble();
+        for (double value : values) {
+          if (areEqual(value, element)) throwAssertionError(streamShouldNotContain(values, index, element));
+        }
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream starts with the given sequence of values, only the first elements of the stream are
+   * traversed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).startsWith(0.0, 0.5, 1.0);
+   *
+   * // assertion will fail
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d + 0.5)).startsWith(0.5, 1.0);</code></pre>
+   *
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not start with the given sequence.
+   */
+  public DoubleStreamingAssert startsWith(double... sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    try (DoubleStream stream = consume()) {
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      for (int index = 0; index < sequence.length; index++) {
+        if (!iterator.hasNext()) throwAssertionError(streamShouldStartWith(sequence, index));
+        double element = iterator.nextDouble();
+        if (!areEqual(element, sequence[index])) throwAssertionError(streamShouldStartWith(sequence, index, element));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream is sorted in ascending order, the stream is traversed until an element is greater
+   * than the next one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(DoubleStream.of(1.0, 2.0, 2.0, 3.0)).isSorted();
+   *
+   * // assertion will fail
+   * assertThatLazily(DoubleStream.iterate(0.0, d -&gt; d == 1000.0 ? 0.0 : d + 0.5)).isSorted();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream is not sorted in ascending order.
+   */
+  public DoubleStreamingAssert isSorted() {
+    try (DoubleStream stream = consume()) {
+      PrimitiveIterator.OfDouble iterator = stream.iterator();
+      if (!iterator.hasNext()) return myself;
+      double previous = iterator.nextDouble();
+      for (long index = 0; iterator.hasNext(); index++) {
+        double element = iterator.nextDouble();
+        if (Double.compare(previous, element) > 0) throwAssertionError(streamShouldBeSorted(index, previous, element));
+        previous = element;
+      }
+    }
+    return myself;
+  }
+
+  // same equality as Double.equals, NaN is equal to itself and 0.0 is not equal to -0.0
+  private static boolean areEqual(double value, double element) {
+    return doubleToLongBits(value) == doubleToLongBits(element);
+  }
+
+  private static double[] notFound(double[] values, boolean[] found) {
+    return IntStream.range(0, values.length).filter(i -> !found[i]).mapToDouble(i -> values[i]).toArray();
+  }
+}
@@ -263,6 +263,10 @@ public interface EnumerableAssert<SELF extends EnumerableAssert<SELF, ELEMENT>,
    * // ... but if we compare only races, Sauron is in fellowshipOfTheRing because he's a Maia like Gandalf.
    * assertThat(fellowshipOfTheRing).usingElementComparator(raceComparator)
    *                                .contains(sauron);</code></pre>
+   * <p>
+   * If the comparator is a consistent total order, pass it as a {@link org.assertj.core.util.TotalOrderComparator} so that
+   * assertions like {@code containsExactlyInAnyOrder} or {@code containsOnly} sort the elements instead of comparing
+   * every actual element to every expected one.
    *
    * @param customComparator the comparator to use for incoming assertion checks.
    * @throws NullPointerException if the given comparator is {@code null}.
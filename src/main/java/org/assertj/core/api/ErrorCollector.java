@@ -16,6 +16,8 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.concurrent.Callable;
 
+import org.assertj.core.internal.Failures;
+
 import net.bytebuddy.implementation.bind.annotation.FieldValue;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
 import net.bytebuddy.implementation.bind.annotation.StubValue;
@@ -53,7 +55,7 @@ public class ErrorCollector {
                                  @SuperMethod(nullIfImpossible = true) Method method,
                                  @StubValue Object stub) throws Exception {
     try {
-      Object result = proxy.call();
+      Object result = Failures.instance().evaluateSoftAssertion(proxy);
       errorCollector.succeeded();
       return result;
     } catch (AssertionError assertionError) {
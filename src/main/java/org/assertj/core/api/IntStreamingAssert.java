@@ -0,0 +1,265 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldNotContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Assertions verifying the elements of an {@link IntStream} while traversing it, the elements are neither boxed nor
+ * collected, see {@link AbstractStreamingAssert}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatLazily(IntStream)}</code>.
+ *
+ * @since 3.23.0
+ */
+public class IntStreamingAssert extends AbstractStreamingAssert<IntStreamingAssert, IntStream> {
+
+  public IntStreamingAssert(IntStream actual) {
+    super(actual, IntStreamingAssert.class);
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given predicate, the stream is traversed until an
+   * element does not match.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.range(0, 1_000_000)).allMatch(i -&gt; i &gt;= 0);
+   *
+   * // assertion will fail after checking the first 1001 elements of an infinite stream
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).allMatch(i -&gt; i &lt;= 1000);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the actual stream does not match the given predicate.
+   */
+  public IntStreamingAssert allMatch(IntPredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (IntStream stream = consume()) {
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        int element = iterator.nextInt();
+        if (!predicate.test(element)) throwAssertionError(streamElementsShouldMatch(index, element, GIVEN));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream matches the given predicate, the stream is traversed until an
+   * element matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).anyMatch(i -&gt; i == 1_000_000);
+   *
+   * // assertion will fail
+   * assertThatLazily(IntStream.of(1, 2, 3)).anyMatch(i -&gt; i &gt; 3);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if no element of the actual stream matches the given predicate.
+   */
+  public IntStreamingAssert anyMatch(IntPredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (IntStream stream = consume()) {
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      long count = 0;
+      for (; iterator.hasNext(); count++) {
+        if (predicate.test(iterator.nextInt())) return myself;
+      }
+      throwAssertionError(anyStreamElementShouldMatch(count, GIVEN));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that no element of the actual stream matches the given predicate, the stream is traversed until an element
+   * matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.range(0, 1_000_000)).noneMatch(i -&gt; i &lt; 0);
+   *
+   * // assertion will fail
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).noneMatch(i -&gt; i == 1000);</code></pre>
+   *
+   * @param predicate the given {@link IntPredicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the actual stream matches the given predicate.
+   */
+  public IntStreamingAssert noneMatch(IntPredicate predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (IntStream stream = consume()) {
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        int element = iterator.nextInt();
+        if (predicate.test(element)) throwAssertionError(noStreamElementsShouldMatch(index, element, GIVEN));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream contains the given values, in any order, the stream is traversed until all the
+   * values are found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).contains(1_000, 10);
+   *
+   * // assertion will fail
+   * assertThatLazily(IntStream.of(1, 2, 3)).contains(4);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not contain the given values.
+   */
+  public IntStreamingAssert contains(int... values) {
+    checkIsNotNullAndNotEmpty(values);
+    try (IntStream stream = consume()) {
+      boolean[] found = new boolean[values.length];
+      int notFoundCount = values.length;
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      long count = 0;
+      for (; notFoundCount > 0 && iterator.hasNext(); count++) {
+        int element = iterator.nextInt();
+        for (int i = 0; i < values.length; i++) {
+          if (!found[i] && values[i] == element) {
+            found[i] = true;
+            notFoundCount--;
+          }
+        }
+      }
+      if (notFoundCount > 0) throwAssertionError(streamShouldContain(values, notFound(values, found), count));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream does not contain the given values, the stream is traversed until one of the values
+   * is found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.range(0, 1_000_000)).doesNotContain(-1);
+   *
+   * // assertion will fail
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).doesNotContain(-1, 1000);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream contains any of the given values.
+   */
+  public IntStreamingAssert doesNotContain(int... values) {
+    checkIsNotNullAndNotEmpty(values);
+    try (IntStream stream = consume()) {
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        int element = iterator.nextInt();
+        for (int value : values) {
+          if (value == element) throwAssertionError(streamShouldNotContain(values, index, element));
+        }
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream starts with the given sequence of values, only the first elements of the stream are
+   * traversed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).startsWith(0, 1, 2);
+   *
+   * // assertion will fail
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i + 1)).startsWith(1, 2);</code></pre>
+   *
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not start with the given sequence.
+   */
+  public IntStreamingAssert startsWith(int... sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    try (IntStream stream = consume()) {
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      for (int index = 0; index < sequence.length; index++) {
+        if (!iterator.hasNext()) throwAssertionError(streamShouldStartWith(sequence, index));
+        int element = iterator.nextInt();
+        if (element != sequence[index]) throwAssertionError(streamShouldStartWith(sequence, index, element));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream is sorted in ascending order, the stream is traversed until an element is greater
+   * than the next one.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(IntStream.of(1, 2, 2, 3)).isSorted();
+   *
+   * // assertion will fail
+   * assertThatLazily(IntStream.iterate(0, i -&gt; i == 1000 ? 0 : i + 1)).isSorted();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream is not sorted in ascending order.
+   */
+  public IntStreamingAssert isSorted() {
+    try (IntStream stream = consume()) {
+      PrimitiveIterator.OfInt iterator = stream.iterator();
+      if (!iterator.hasNext()) return myself;
+      int previous = iterator.nextInt();
+      for (long index = 0; iterator.hasNext(); index++) {
+        int element = iterator.nextInt();
+        if (previous > element) throwAssertionError(streamShouldBeSorted(index, previous, element));
+        previous = element;
+      }
+    }
+    return myself;
+  }
+
+  private static int[] notFound(int[] values, boolean[] found) {
+    return IntStream.range(0, values.length).filter(i -> !found[i]).map(i -> values[i]).toArray();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.ClassLoadingStrategyFactory.ASSERTJ_CLASS_LOADER;
+
+import java.util.Optional;
+
+/**
+ * Soft assertion proxy classes and assumption classes of the standard assert types generated at build time.
+ * <p>
+ * These classes are only generated when building AssertJ with the {@code pregenerated-proxies} profile, the proxy and
+ * assumption classes are then loaded like any other class instead of being generated by ByteBuddy on first use (they
+ * are also never regenerated when the soft references of the ByteBuddy cache are cleared). When a standard assert type
+ * has no pregenerated class, as well as for user-defined assert types, the classes are generated at runtime.
+ * <p>
+ * The pregenerated classes are defined exactly as the runtime ones (see {@link SoftProxies#defineProxyClass} and
+ * {@link Assumptions#defineAssumptionClass}) in the package of their assert type and are named after it. They are
+ * generated by {@code PregeneratedProxiesGenerator} which is part of the test sources and not shipped.
+ */
+final class PregeneratedProxies {
+
+  static final String SOFT_ASSERTION_PROXY_SUFFIX = "$AssertJ$SoftProxy";
+  static final String ASSUMPTION_SUFFIX = "$AssertJ$Assumption";
+
+  static final String ASSERT_TYPES_PACKAGE = PregeneratedProxies.class.getPackage().getName();
+
+  private static final ClassValue<Optional<Class<?>>> SOFT_ASSERTION_PROXY_CLASSES = pregeneratedClasses(SOFT_ASSERTION_PROXY_SUFFIX);
+  private static final ClassValue<Optional<Class<?>>> ASSUMPTION_CLASSES = pregeneratedClasses(ASSUMPTION_SUFFIX);
+
+  private PregeneratedProxies() {}
+
+  /**
+   * Returns the pregenerated soft assertion proxy class of the given assert type or {@code null} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  static <ASSERT> Class<? extends ASSERT> softAssertionProxyClass(Class<ASSERT> assertClass) {
+    return (Class<? extends ASSERT>) SOFT_ASSERTION_PROXY_CLASSES.get(assertClass).orElse(null);
+  }
+
+  /**
+   * Returns the pregenerated assumption class of the given assert type or {@code null} if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  static <ASSERT> Class<? extends ASSERT> assumptionClass(Class<ASSERT> assertClass) {
+    return (Class<? extends ASSERT>) ASSUMPTION_CLASSES.get(assertClass).orElse(null);
+  }
+
+  private static ClassValue<Optional<Class<?>>> pregeneratedClasses(String suffix) {
+    return new ClassValue<Optional<Class<?>>>() {
+      @Override
+      protected Optional<Class<?>> computeValue(Class<?> assertClass) {
+        // only the standard assert types have pregenerated classes
+        if (assertClass.getClassLoader() != ASSERTJ_CLASS_LOADER || !isInAssertTypesPackage(assertClass.getName()))
+          return Optional.empty();
+        try {
+          return Optional.of(Class.forName(assertClass.getName() + suffix, true, ASSERTJ_CLASS_LOADER));
+        } catch (ClassNotFoundException e) {
+          return Optional.empty();
+        }
+      }
+    };
+  }
+
+  private static boolean isInAssertTypesPackage(String className) {
+    return className.startsWith(ASSERT_TYPES_PACKAGE + ".") && className.indexOf('.', ASSERT_TYPES_PACKAGE.length() + 1) < 0;
+  }
+}
@@ -83,6 +83,8 @@ public class ProxifyMethodChangingTheObjectUnderTest {
   private AbstractAssert<?, ?> createAssertProxy(AbstractAssert<?, ?> currentAssert) {
     if (currentAssert instanceof IterableSizeAssert) return createIterableSizeAssertProxy(currentAssert);
     if (currentAssert instanceof FileSizeAssert) return createFileSizeAssertProxy(currentAssert);
+    if (currentAssert instanceof ContentStreamingAssert)
+      return proxies.createContentStreamingAssertProxy((ContentStreamingAssert) currentAssert);
     if (currentAssert instanceof BigDecimalScaleAssert) return createBigDecimalScaleAssertProxy(currentAssert);
     if (currentAssert instanceof MapSizeAssert) return createMapSizeAssertProxy(currentAssert);
     if (currentAssert instanceof RecursiveComparisonAssert)
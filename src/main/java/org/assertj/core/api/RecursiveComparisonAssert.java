@@ -12,6 +12,7 @@
  */
 package org.assertj.core.api;
 
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ShouldBeEqualByComparingFieldByFieldRecursively.shouldBeEqualByComparingFieldByFieldRecursively;
 import static org.assertj.core.error.ShouldNotBeEqualComparingFieldByFieldRecursively.shouldNotBeEqualComparingFieldByFieldRecursively;
 
@@ -22,6 +23,7 @@ import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
@@ -207,8 +209,8 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
                                                                                                                     recursiveComparisonConfiguration,
                                                                                                                     info.representation()));
     if (other != null && actual != null) {
-      List<ComparisonDifference> differences = determineDifferencesWith(other);
-      if (differences.isEmpty())
+      // no need to compute all differences, one is enough for the assertion to pass
+      if (recursiveComparisonDifferenceCalculator.areEqual(actual, other, recursiveComparisonConfiguration))
         throw objects.getFailures().failure(info, shouldNotBeEqualComparingFieldByFieldRecursively(actual, other,
                                                                                                    recursiveComparisonConfiguration,
                                                                                                    info.representation()));
@@ -1048,6 +1050,66 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     return myself;
   }
 
+  /**
+   * Makes the recursive comparison to compare in parallel with the given number of threads the independent parts of the
+   * compared values, that is the elements of large collections or arrays, the entries of large maps or the fields of objects
+   * declaring a lot of fields.
+   * <p>
+   * This is useful to speed up the comparison of very large object graphs, small graphs are compared sequentially as
+   * parallelism would not pay off. The threads are the ones of a {@link ForkJoinPool} created for the comparison and shut down
+   * afterwards, use {@link #usingForkJoinPool(ForkJoinPool)} to reuse an existing pool.
+   * <p>
+   * The differences are the same and reported in the same order as in a sequential comparison, the parts referencing values
+   * already compared by a previous part are compared again sequentially to that end. Note that registered comparators and
+   * equals methods may be called concurrently and must then be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> List&lt;Person&gt; people = loadMillionsOfPeople();
+   * List&lt;Person&gt; expectedPeople = loadExpectedPeople();
+   *
+   * // compares people elements using 8 threads
+   * assertThat(people).usingRecursiveComparison()
+   *                   .withParallelism(8)
+   *                   .isEqualTo(expectedPeople);</code></pre>
+   *
+   * @param parallelism the number of threads used to compare values in parallel, 1 means a sequential comparison.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given parallelism is less than 1.
+   * @since 3.23.0
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison to compare in parallel with the given {@link ForkJoinPool} the independent parts of the
+   * compared values, that is the elements of large collections or arrays, the entries of large maps or the fields of objects
+   * declaring a lot of fields.
+   * <p>
+   * This is similar to {@link #withParallelism(int)} except that the pool is not shut down after the comparison and can be
+   * shared between assertions, see {@link #withParallelism(int)} for the details.
+   * <p>
+   * Example:
+   * <pre><code class='java'> ForkJoinPool forkJoinPool = new ForkJoinPool(32);
+   *
+   * assertThat(people).usingRecursiveComparison()
+   *                   .usingForkJoinPool(forkJoinPool)
+   *                   .isEqualTo(expectedPeople);</code></pre>
+   *
+   * @param forkJoinPool the pool used to compare values in parallel.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws NullPointerException if the given pool is {@code null}.
+   * @since 3.23.0
+   */
+  @CheckReturnValue
+  public SELF usingForkJoinPool(ForkJoinPool forkJoinPool) {
+    requireNonNull(forkJoinPool, "Expecting a non null ForkJoinPool");
+    recursiveComparisonConfiguration.setForkJoinPool(forkJoinPool);
+    return myself;
+  }
+
   /**
    * Allows to register a {@link BiPredicate} to compare fields with the given locations.
    * A typical usage is for comparing double/float fields with a given precision.
@@ -19,9 +19,14 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.not;
 import static org.assertj.core.api.ClassLoadingStrategyFactory.classLoadingStrategy;
+import static org.assertj.core.util.Arrays.array;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.ClassLoadingStrategyFactory.ClassLoadingStrategyPair;
@@ -33,6 +38,7 @@ import net.bytebuddy.TypeCache.SimpleKey;
 import net.bytebuddy.TypeCache.Sort;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.scaffold.TypeValidation;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.Implementation;
@@ -69,6 +75,7 @@ class SoftProxies {
                                                                                                                                    "rootCause",
                                                                                                                                    "scale",
                                                                                                                                    "size",
+                                                                                                                                   "streamingContent",
                                                                                                                                    "succeedsWithin",
                                                                                                                                    "toAssert",
                                                                                                                                    "usingRecursiveComparison");
@@ -106,116 +113,167 @@ class SoftProxies {
 
   private static final TypeCache<TypeCache.SimpleKey> CACHE = new TypeCache.WithInlineExpunction<>(Sort.SOFT);
 
-  private ErrorCollector collector;
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  // proxy class constructors by assert class and type of the first constructor parameter (the actual value), the other
+  // parameter types being the same for a given assert class, see proxyConstructor
+  private static final ClassValue<Map<Class<?>, MethodHandle>> PROXY_CONSTRUCTORS = new ClassValue<Map<Class<?>, MethodHandle>>() {
+    @Override
+    protected Map<Class<?>, MethodHandle> computeValue(Class<?> assertClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private static final Class<?>[] FILE_SIZE_ASSERT_PARAMETER_TYPES = array(AbstractFileAssert.class);
+  private static final Class<?>[] CONTENT_STREAMING_ASSERT_PARAMETER_TYPES = array(Path.class, Charset.class);
+  private static final Class<?>[] BIG_DECIMAL_SCALE_ASSERT_PARAMETER_TYPES = array(AbstractBigDecimalAssert.class);
+  private static final Class<?>[] ITERABLE_SIZE_ASSERT_PARAMETER_TYPES = array(AbstractIterableAssert.class, Integer.class);
+  private static final Class<?>[] MAP_SIZE_ASSERT_PARAMETER_TYPES = array(AbstractMapAssert.class, Integer.class);
+  private static final Class<?>[] RECURSIVE_COMPARISON_ASSERT_PARAMETER_TYPES = array(Object.class,
+                                                                                      RecursiveComparisonConfiguration.class);
+
+  private final ErrorCollector collector;
+  private final ProxifyMethodChangingTheObjectUnderTest dispatcher;
 
   public SoftProxies(AssertionErrorCollector assertionErrorCollector) {
     collector = new ErrorCollector(assertionErrorCollector);
+    dispatcher = new ProxifyMethodChangingTheObjectUnderTest(this);
   }
 
   <SELF extends Assert<? extends SELF, ? extends ACTUAL>, ACTUAL> SELF createSoftAssertionProxy(Class<SELF> assertClass,
                                                                                                 Class<ACTUAL> actualClass,
                                                                                                 ACTUAL actual) {
-    try {
-      Class<? extends SELF> proxyClass = createSoftAssertionProxyClass(assertClass);
-      Constructor<? extends SELF> constructor = proxyClass.getConstructor(actualClass);
-      SELF proxiedAssert = constructor.newInstance(actual);
-      // instance is a AssertJProxySetup since it is a generated proxy implementing it (see createProxy)
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (NoSuchMethodException | IllegalAccessException | InstantiationException | InvocationTargetException e) {
-      throw new RuntimeException(e);
-    }
+    return createProxy(proxyConstructor(assertClass, actualClass), actual);
   }
 
   @SuppressWarnings("unchecked")
   private static <ASSERT extends Assert<?, ?>> Class<ASSERT> createSoftAssertionProxyClass(Class<ASSERT> assertClass) {
+    Class<? extends ASSERT> pregeneratedProxyClass = PregeneratedProxies.softAssertionProxyClass(assertClass);
+    if (pregeneratedProxyClass != null) return (Class<ASSERT>) pregeneratedProxyClass;
     SimpleKey cacheKey = new SimpleKey(assertClass);
     return (Class<ASSERT>) CACHE.findOrInsert(assertClass.getClassLoader(), cacheKey,
                                               () -> generateProxyClass(assertClass));
   }
 
   FileSizeAssert<?> createFileSizeAssertProxy(FileSizeAssert<?> fileSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(FileSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractFileAssert.class);
-      FileSizeAssert<?> proxiedAssert = (FileSizeAssert<?>) constructor.newInstance(fileSizeAssert.returnToFile());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return createProxy(proxyConstructor(FileSizeAssert.class, FILE_SIZE_ASSERT_PARAMETER_TYPES), fileSizeAssert.returnToFile());
+  }
+
+  ContentStreamingAssert createContentStreamingAssertProxy(ContentStreamingAssert contentStreamingAssert) {
+    return createProxy(proxyConstructor(ContentStreamingAssert.class, CONTENT_STREAMING_ASSERT_PARAMETER_TYPES),
+                       contentStreamingAssert.actual, contentStreamingAssert.charset);
   }
 
   BigDecimalScaleAssert<?> createBigDecimalScaleAssertProxy(BigDecimalScaleAssert<?> bigDecimalScaleAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(BigDecimalScaleAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractBigDecimalAssert.class);
-      BigDecimalScaleAssert<?> proxiedAssert = (BigDecimalScaleAssert<?>) constructor.newInstance(bigDecimalScaleAssert.returnToBigDecimal());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return createProxy(proxyConstructor(BigDecimalScaleAssert.class, BIG_DECIMAL_SCALE_ASSERT_PARAMETER_TYPES),
+                       bigDecimalScaleAssert.returnToBigDecimal());
   }
 
   IterableSizeAssert<?> createIterableSizeAssertProxy(IterableSizeAssert<?> iterableSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(IterableSizeAssert.class);
-    try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractIterableAssert.class, Integer.class);
-      IterableSizeAssert<?> proxiedAssert = (IterableSizeAssert<?>) constructor.newInstance(iterableSizeAssert.returnToIterable(),
-                                                                                            iterableSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
-      throw new RuntimeException(e);
-    }
+    return createProxy(proxyConstructor(IterableSizeAssert.class, ITERABLE_SIZE_ASSERT_PARAMETER_TYPES),
+                       iterableSizeAssert.returnToIterable(), iterableSizeAssert.actual);
   }
 
   MapSizeAssert<?, ?> createMapSizeAssertProxy(MapSizeAssert<?, ?> mapSizeAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(MapSizeAssert.class);
+    return createProxy(proxyConstructor(MapSizeAssert.class, MAP_SIZE_ASSERT_PARAMETER_TYPES), mapSizeAssert.returnToMap(),
+                       mapSizeAssert.actual);
+  }
+
+  RecursiveComparisonAssert<?> createRecursiveComparisonAssertProxy(RecursiveComparisonAssert<?> recursiveComparisonAssert) {
+    return createProxy(proxyConstructor(RecursiveComparisonAssert.class, RECURSIVE_COMPARISON_ASSERT_PARAMETER_TYPES),
+                       recursiveComparisonAssert.actual, recursiveComparisonAssert.getRecursiveComparisonConfiguration());
+  }
+
+  // the constructor arguments are passed as is rather than in a varargs array, see proxyConstructor
+  private <ASSERT> ASSERT createProxy(MethodHandle proxyConstructor, Object constructorArgument) {
+    Object proxiedAssert;
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(AbstractMapAssert.class, Integer.class);
-      MapSizeAssert<?, ?> proxiedAssert = (MapSizeAssert<?, ?>) constructor.newInstance(mapSizeAssert.returnToMap(),
-                                                                                        mapSizeAssert.actual);
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      proxiedAssert = proxyConstructor.invokeExact(constructorArgument);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
+    return setUp(proxiedAssert);
   }
 
-  RecursiveComparisonAssert<?> createRecursiveComparisonAssertProxy(RecursiveComparisonAssert<?> recursiveComparisonAssert) {
-    Class<?> proxyClass = createSoftAssertionProxyClass(RecursiveComparisonAssert.class);
+  private <ASSERT> ASSERT createProxy(MethodHandle proxyConstructor, Object firstConstructorArgument,
+                                      Object secondConstructorArgument) {
+    Object proxiedAssert;
     try {
-      Constructor<?> constructor = proxyClass.getConstructor(Object.class, RecursiveComparisonConfiguration.class);
-      RecursiveComparisonAssert<?> proxiedAssert = (RecursiveComparisonAssert<?>) constructor.newInstance(recursiveComparisonAssert.actual,
-                                                                                                          recursiveComparisonAssert.getRecursiveComparisonConfiguration());
-      ((AssertJProxySetup) proxiedAssert).assertj$setup(new ProxifyMethodChangingTheObjectUnderTest(this), collector);
-      return proxiedAssert;
-    } catch (Exception e) {
+      proxiedAssert = proxyConstructor.invokeExact(firstConstructorArgument, secondConstructorArgument);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
       throw new RuntimeException(e);
     }
+    return setUp(proxiedAssert);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <ASSERT> ASSERT setUp(Object proxiedAssert) {
+    // instance is a AssertJProxySetup since it is a generated proxy implementing it (see generateProxyClass)
+    ((AssertJProxySetup) proxiedAssert).assertj$setup(dispatcher, collector);
+    return (ASSERT) proxiedAssert;
+  }
+
+  /**
+   * Returns the constructor of the proxy class of the given assert class taking the given actual type, the cached
+   * constructor is returned without allocating anything.
+   */
+  private static MethodHandle proxyConstructor(Class<?> assertClass, Class<?> actualType) {
+    MethodHandle constructor = PROXY_CONSTRUCTORS.get(assertClass).get(actualType);
+    return constructor != null ? constructor : cacheProxyConstructor(assertClass, array(actualType));
+  }
+
+  /**
+   * Returns the constructor of the proxy class of the given assert class taking the given parameter types, which must be
+   * the only ones used for this assert class, the cached constructor is returned without allocating anything.
+   */
+  private static MethodHandle proxyConstructor(Class<?> assertClass, Class<?>[] parameterTypes) {
+    MethodHandle constructor = PROXY_CONSTRUCTORS.get(assertClass).get(parameterTypes[0]);
+    return constructor != null ? constructor : cacheProxyConstructor(assertClass, parameterTypes);
+  }
+
+  /**
+   * Looks up the constructor of the proxy class of the given assert class taking the given parameter types and caches it
+   * as a method handle taking and returning {@code Object}s.
+   */
+  @SuppressWarnings("unchecked")
+  private static MethodHandle cacheProxyConstructor(Class<?> assertClass, Class<?>[] parameterTypes) {
+    return PROXY_CONSTRUCTORS.get(assertClass).computeIfAbsent(parameterTypes[0], actualType -> {
+      Class<?> proxyClass = createSoftAssertionProxyClass((Class<? extends Assert<?, ?>>) assertClass);
+      try {
+        MethodHandle constructor = LOOKUP.unreflectConstructor(proxyClass.getConstructor(parameterTypes));
+        return constructor.asType(constructor.type().generic());
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        throw new RuntimeException(e);
+      }
+    });
   }
 
   static <V> Class<? extends V> generateProxyClass(Class<V> assertClass) {
     ClassLoadingStrategyPair strategy = classLoadingStrategy(assertClass);
-    return BYTE_BUDDY.subclass(assertClass)
-                     .defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
-                                  ProxifyMethodChangingTheObjectUnderTest.class,
-                                  Visibility.PRIVATE)
-                     .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
-                     .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
-                     .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
-                                  .and(not(METHODS_NOT_TO_PROXY)))
-                     .intercept(ERROR_COLLECTOR)
-                     .implement(AssertJProxySetup.class)
-                     // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
-                     .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
-                                             .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)))
-                     .make()
-                     .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
-                     .getLoaded();
+    return defineProxyClass(BYTE_BUDDY.subclass(assertClass)).make()
+                                                             .load(strategy.getClassLoader(), strategy.getClassLoadingStrategy())
+                                                             .getLoaded();
+  }
+
+  // also used to generate the proxy classes at build time, see PregeneratedProxiesGenerator in the test sources
+  static <V> DynamicType.Builder<V> defineProxyClass(DynamicType.Builder<V> proxyClassBuilder) {
+    return proxyClassBuilder.defineField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME,
+                                         ProxifyMethodChangingTheObjectUnderTest.class,
+                                         Visibility.PRIVATE)
+                            .method(METHODS_CHANGING_THE_OBJECT_UNDER_TEST)
+                            .intercept(PROXIFY_METHOD_CHANGING_THE_OBJECT_UNDER_TEST)
+                            .defineField(ErrorCollector.FIELD_NAME, ErrorCollector.class, Visibility.PRIVATE)
+                            .method(any().and(not(METHODS_CHANGING_THE_OBJECT_UNDER_TEST))
+                                         .and(not(METHODS_NOT_TO_PROXY)))
+                            .intercept(ERROR_COLLECTOR)
+                            .implement(AssertJProxySetup.class)
+                            // set ProxifyMethodChangingTheObjectUnderTest and ErrorCollector fields on the generated proxy
+                            .intercept(FieldAccessor.ofField(ProxifyMethodChangingTheObjectUnderTest.FIELD_NAME).setsArgumentAt(0)
+                                                    .andThen(FieldAccessor.ofField(ErrorCollector.FIELD_NAME).setsArgumentAt(1)));
   }
 
   private static Junction<MethodDescription> methodsNamed(String... names) {
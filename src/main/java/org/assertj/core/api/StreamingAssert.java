@@ -0,0 +1,294 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldHaveMutuallyComparableElements;
+import static org.assertj.core.error.StreamElementsShould.streamShouldNotContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.Objects.areEqual;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Assertions verifying the elements of a {@link Stream} while traversing it, the elements are not collected, see
+ * {@link AbstractStreamingAssert}.
+ * <p>
+ * Elements are compared with {@code equals}, arrays being compared by content.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link Assertions#assertThatLazily(Stream)}</code>.
+ *
+ * @param <ELEMENT> the type of elements of the stream.
+ * @since 3.23.0
+ */
+public class StreamingAssert<ELEMENT> extends AbstractStreamingAssert<StreamingAssert<ELEMENT>, Stream<? extends ELEMENT>> {
+
+  public StreamingAssert(Stream<? extends ELEMENT> actual) {
+    super(actual, StreamingAssert.class);
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given predicate, the stream is traversed until an
+   * element does not match.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1).limit(1_000_000)).allMatch(i -&gt; i &gt;= 0);
+   *
+   * // assertion will fail after checking the first 1001 elements of an infinite stream
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).allMatch(i -&gt; i &lt;= 1000);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the actual stream does not match the given predicate.
+   */
+  public StreamingAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        ELEMENT element = iterator.next();
+        if (!predicate.test(element)) throwAssertionError(streamElementsShouldMatch(index, element, GIVEN));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream matches the given predicate, the stream is traversed until an
+   * element matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).anyMatch(i -&gt; i == 1_000_000);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.of(1, 2, 3)).anyMatch(i -&gt; i &gt; 3);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if no element of the actual stream matches the given predicate.
+   */
+  public StreamingAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      long count = 0;
+      for (; iterator.hasNext(); count++) {
+        if (predicate.test(iterator.next())) return myself;
+      }
+      throwAssertionError(anyStreamElementShouldMatch(count, GIVEN));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that no element of the actual stream matches the given predicate, the stream is traversed until an element
+   * matches.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1).limit(1_000_000)).noneMatch(i -&gt; i &lt; 0);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).noneMatch(i -&gt; i == 1000);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if an element of the actual stream matches the given predicate.
+   */
+  public StreamingAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate) {
+    requireNonNull(predicate, "The predicate to evaluate should not be null");
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        ELEMENT element = iterator.next();
+        if (predicate.test(element)) throwAssertionError(noStreamElementsShouldMatch(index, element, GIVEN));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream contains the given values, in any order, the stream is traversed until all the
+   * values are found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).contains(1_000, 10);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.of(1, 2, 3)).contains(4);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not contain the given values.
+   */
+  @SafeVarargs
+  public final StreamingAssert<ELEMENT> contains(ELEMENT... values) {
+    checkIsNotNullAndNotEmpty(values);
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      boolean[] found = new boolean[values.length];
+      int notFoundCount = values.length;
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      long count = 0;
+      for (; notFoundCount > 0 && iterator.hasNext(); count++) {
+        ELEMENT element = iterator.next();
+        for (int i = 0; i < values.length; i++) {
+          if (!found[i] && areEqual(values[i], element)) {
+            found[i] = true;
+            notFoundCount--;
+          }
+        }
+      }
+      if (notFoundCount > 0) throwAssertionError(streamShouldContain(values, notFound(values, found), count));
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream does not contain the given values, the stream is traversed until one of the values
+   * is found.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1).limit(1_000_000)).doesNotContain(-1);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).doesNotContain(-1, 1000);</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream contains any of the given values.
+   */
+  @SafeVarargs
+  public final StreamingAssert<ELEMENT> doesNotContain(ELEMENT... values) {
+    checkIsNotNullAndNotEmpty(values);
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      for (long index = 0; iterator.hasNext(); index++) {
+        ELEMENT element = iterator.next();
+        for (ELEMENT value : values) {
+          if (areEqual(value, element)) throwAssertionError(streamShouldNotContain(values, index, element));
+        }
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream starts with the given sequence of values, only the first elements of the stream are
+   * traversed.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).startsWith(0, 1, 2);
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.iterate(0, i -&gt; i + 1)).startsWith(1, 2);</code></pre>
+   *
+   * @param sequence the sequence of values to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws IllegalArgumentException if the given argument is an empty array.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream does not start with the given sequence.
+   */
+  @SafeVarargs
+  public final StreamingAssert<ELEMENT> startsWith(ELEMENT... sequence) {
+    checkIsNotNullAndNotEmpty(sequence);
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      for (int index = 0; index < sequence.length; index++) {
+        if (!iterator.hasNext()) throwAssertionError(streamShouldStartWith(sequence, index));
+        ELEMENT element = iterator.next();
+        if (!areEqual(element, sequence[index])) throwAssertionError(streamShouldStartWith(sequence, index, element));
+      }
+    }
+    return myself;
+  }
+
+  /**
+   * Verifies that the actual stream is sorted in ascending order according to the natural ordering of its elements, the
+   * stream is traversed until an element is greater than the next one.
+   * <p>
+   * All the elements must be {@link Comparable} and mutually comparable, {@code null} elements are not comparable.
+   * <p>
+   * Example:
+   * <pre><code class='java'> // assertion will pass
+   * assertThatLazily(Stream.of(1, 2, 2, 3)).isSorted();
+   *
+   * // assertion will fail
+   * assertThatLazily(Stream.iterate(0, i -&gt; i == 1000 ? 0 : i + 1)).isSorted();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is {@code null}.
+   * @throws AssertionError if the actual stream is not sorted in ascending order.
+   * @throws AssertionError if the actual stream elements are not mutually comparable.
+   */
+  public StreamingAssert<ELEMENT> isSorted() {
+    try (Stream<? extends ELEMENT> stream = consume()) {
+      Iterator<? extends ELEMENT> iterator = stream.iterator();
+      if (!iterator.hasNext()) return myself;
+      ELEMENT previous = iterator.next();
+      for (long index = 0; iterator.hasNext(); index++) {
+        ELEMENT element = iterator.next();
+        if (compare(index, previous, element) > 0) throwAssertionError(streamShouldBeSorted(index, previous, element));
+        previous = element;
+      }
+    }
+    return myself;
+  }
+
+  @SuppressWarnings("unchecked")
+  private int compare(long index, ELEMENT element, ELEMENT nextElement) {
+    if (element instanceof Comparable && nextElement != null) {
+      try {
+        return ((Comparable<Object>) element).compareTo(nextElement);
+      } catch (ClassCastException e) {
+        // not mutually comparable
+      }
+    }
+    throw assertionError(streamShouldHaveMutuallyComparableElements(index, element, nextElement));
+  }
+
+  private static List<Object> notFound(Object[] values, boolean[] found) {
+    List<Object> notFound = new ArrayList<>();
+    for (int i = 0; i < values.length; i++) {
+      if (!found[i]) notFound.add(values[i]);
+    }
+    return notFound;
+  }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Cheap structural fingerprints of the elements of two unordered iterables compared recursively.
+ * <p>
+ * Elements considered equal by the recursive comparison are guaranteed to have the same fingerprint, elements with different
+ * fingerprints can thus be skipped when looking for an element match. The reverse is not true, elements with the same
+ * fingerprint still need to be compared recursively.
+ * <p>
+ * Fingerprints are built from basic values (String, primitive wrappers and enums) compared with {@code equals}, either the
+ * elements themselves or their non-ignored fields. Values for which a comparator is registered can be equal without having
+ * the same hash code, they are left out of the fingerprints. When fingerprints can't be computed safely, for example when
+ * fields are ignored based on their values, all elements get the same fingerprint which amounts to comparing each expected
+ * element to all actual elements.
+ */
+final class ElementFingerprints {
+
+  private static final ElementFingerprints NONE = new ElementFingerprints(null, null);
+
+  private final int[] actualElementsFingerprints;
+  private final int[] expectedElementsFingerprints;
+
+  private ElementFingerprints(int[] actualElementsFingerprints, int[] expectedElementsFingerprints) {
+    this.actualElementsFingerprints = actualElementsFingerprints;
+    this.expectedElementsFingerprints = expectedElementsFingerprints;
+  }
+
+  int ofActualElement(int index) {
+    return actualElementsFingerprints == null ? 0 : actualElementsFingerprints[index];
+  }
+
+  int ofExpectedElement(int index) {
+    return expectedElementsFingerprints == null ? 0 : expectedElementsFingerprints[index];
+  }
+
+  static ElementFingerprints of(FieldLocation elementsLocation, List<?> actualElements, List<?> expectedElements,
+                                RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                Predicate<DualValue> isComparedFieldByField) {
+    if (actualElements.isEmpty() || expectedElements.isEmpty()) return NONE;
+    if (actualElements.contains(null) || expectedElements.contains(null)) return NONE;
+    if (recursiveComparisonConfiguration.ignoresFieldsBasedOnTheirValue()) return NONE;
+    if (recursiveComparisonConfiguration.hasComparatorForField(elementsLocation.getPathToUseInRules())) return NONE;
+    try {
+      if (areBasicValuesWithoutComparator(actualElements, recursiveComparisonConfiguration)
+          && areBasicValuesWithoutComparator(expectedElements, recursiveComparisonConfiguration)) {
+        return new ElementFingerprints(basicValuesFingerprints(actualElements), basicValuesFingerprints(expectedElements));
+      }
+      return fieldsFingerprints(elementsLocation, actualElements, expectedElements, recursiveComparisonConfiguration,
+                                isComparedFieldByField);
+    } catch (RuntimeException e) {
+      // the recursive comparison will report the problem if any, we just can't use fingerprints
+      return NONE;
+    }
+  }
+
+  private static ElementFingerprints fieldsFingerprints(FieldLocation elementsLocation, List<?> actualElements,
+                                                        List<?> expectedElements,
+                                                        RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                        Predicate<DualValue> isComparedFieldByField) {
+    // elements are compared field by field only if they share the same type, otherwise they could be compared differently
+    Class<?> elementType = actualElements.get(0).getClass();
+    if (!areAllOfType(actualElements, elementType) || !areAllOfType(expectedElements, elementType)) return NONE;
+    DualValue elementDualValue = new DualValue(elementsLocation, actualElements.get(0), expectedElements.get(0));
+    if (!isComparedFieldByField.test(elementDualValue)) return NONE;
+    // fields are not ignored based on their values so the compared fields are the same for all elements
+    List<String> comparedFieldNames = new ArrayList<>(recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(elementDualValue));
+    int[] actualElementsFingerprints = new int[actualElements.size()];
+    int[] expectedElementsFingerprints = new int[expectedElements.size()];
+    for (String fieldName : comparedFieldNames) {
+      String fieldPath = elementsLocation.field(fieldName).getPathToUseInRules();
+      if (recursiveComparisonConfiguration.hasComparatorForField(fieldPath)) continue;
+      List<Object> actualFieldValues = fieldValues(fieldName, actualElements);
+      List<Object> expectedFieldValues = fieldValues(fieldName, expectedElements);
+      if (!areBasicValuesWithoutComparator(actualFieldValues, recursiveComparisonConfiguration)
+          || !areBasicValuesWithoutComparator(expectedFieldValues, recursiveComparisonConfiguration))
+        continue;
+      combine(actualElementsFingerprints, actualFieldValues);
+      combine(expectedElementsFingerprints, expectedFieldValues);
+    }
+    return new ElementFingerprints(actualElementsFingerprints, expectedElementsFingerprints);
+  }
+
+  private static List<Object> fieldValues(String fieldName, List<?> elements) {
+    List<Object> fieldValues = new ArrayList<>(elements.size());
+    for (Object element : elements) {
+      fieldValues.add(COMPARISON.getSimpleValue(fieldName, element));
+    }
+    return fieldValues;
+  }
+
+  private static void combine(int[] fingerprints, List<?> basicValues) {
+    for (int i = 0; i < fingerprints.length; i++) {
+      fingerprints[i] = 31 * fingerprints[i] + hash(basicValues.get(i));
+    }
+  }
+
+  private static int[] basicValuesFingerprints(List<?> basicValues) {
+    int[] fingerprints = new int[basicValues.size()];
+    combine(fingerprints, basicValues);
+    return fingerprints;
+  }
+
+  private static boolean areAllOfType(List<?> elements, Class<?> type) {
+    return elements.stream().allMatch(element -> element.getClass() == type);
+  }
+
+  private static boolean areBasicValuesWithoutComparator(List<?> values,
+                                                         RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    Set<Class<?>> checkedTypes = new HashSet<>();
+    for (Object value : values) {
+      if (value == null) continue;
+      if (!isBasicValue(value)) return false;
+      Class<?> valueType = value.getClass();
+      if (checkedTypes.add(valueType) && recursiveComparisonConfiguration.hasComparatorForType(valueType)) return false;
+    }
+    return true;
+  }
+
+  // basic values are compared with equals except enums which are compared by name
+  private static boolean isBasicValue(Object value) {
+    return value instanceof String
+           || value instanceof Boolean
+           || value instanceof Character
+           || value instanceof Byte
+           || value instanceof Short
+           || value instanceof Integer
+           || value instanceof Long
+           || value instanceof Float
+           || value instanceof Double
+           || value instanceof Enum;
+  }
+
+  private static int hash(Object basicValue) {
+    if (basicValue == null) return 0;
+    // enums of different types are equal if they have the same name (unless strict type checking is enabled)
+    if (basicValue instanceof Enum) return ((Enum<?>) basicValue).name().hashCode();
+    return basicValue.hashCode();
+  }
+}
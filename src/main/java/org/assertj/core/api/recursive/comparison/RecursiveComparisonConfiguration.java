@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toSet;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
@@ -29,8 +30,11 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -81,6 +85,15 @@ public class RecursiveComparisonConfiguration {
   private TypeMessages typeMessages = new TypeMessages();
   private FieldMessages fieldMessages = new FieldMessages();
 
+  // parallel comparison section (the comparison is sequential by default)
+  private int parallelism = 1;
+  private ForkJoinPool forkJoinPool;
+
+  // rules only depending on field locations or types are evaluated once per field location/type as they are checked for
+  // every compared value and can be expensive to evaluate (ex: regexes), the caches are cleared when these rules change.
+  private final Map<String, FieldLocationRules> fieldLocationRulesCache = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Boolean> ignoredOverriddenEqualsTypesCache = new ConcurrentHashMap<>();
+
   private RecursiveComparisonConfiguration(Builder builder) {
     this.strictTypeChecking = builder.strictTypeChecking;
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
@@ -101,6 +114,8 @@ public class RecursiveComparisonConfiguration {
     this.fieldComparators = builder.fieldComparators;
     this.fieldMessages = builder.fieldMessages;
     this.typeMessages = builder.typeMessages;
+    this.parallelism = builder.parallelism;
+    this.forkJoinPool = builder.forkJoinPool;
   }
 
   public RecursiveComparisonConfiguration() {}
@@ -218,6 +233,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreFields(String... fieldsToIgnore) {
     List<String> fieldLocations = list(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -234,6 +250,7 @@ public class RecursiveComparisonConfiguration {
    */
   public void compareOnlyFields(String... fieldNamesToCompare) {
     Stream.of(fieldNamesToCompare).map(FieldLocation::new).forEach(comparedFields::add);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -248,6 +265,7 @@ public class RecursiveComparisonConfiguration {
                                    .map(Pattern::compile)
                                    .collect(toList());
     ignoredFieldsRegexes.addAll(patterns);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -332,6 +350,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreOverriddenEqualsForFields(String... fields) {
     List<String> fieldLocations = list(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -345,6 +364,7 @@ public class RecursiveComparisonConfiguration {
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .collect(toList()));
+    ignoredOverriddenEqualsTypesCache.clear();
   }
 
   /**
@@ -356,6 +376,7 @@ public class RecursiveComparisonConfiguration {
    */
   public void ignoreOverriddenEqualsForTypes(Class<?>... types) {
     ignoredOverriddenEqualsForTypes.addAll(list(types));
+    ignoredOverriddenEqualsTypesCache.clear();
   }
 
   @VisibleForTesting
@@ -384,6 +405,7 @@ public class RecursiveComparisonConfiguration {
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
     List<String> fieldLocations = list(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -406,6 +428,7 @@ public class RecursiveComparisonConfiguration {
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -553,6 +576,44 @@ public class RecursiveComparisonConfiguration {
     return strictTypeChecking;
   }
 
+  /**
+   * Sets the number of threads used to compare in parallel the independent parts of the compared values (collection
+   * elements, map entries or fields) when there are enough of them, a parallelism of 1 means a sequential comparison.
+   * <p>
+   * The threads are the ones of a {@link ForkJoinPool} created for each comparison, use {@link #setForkJoinPool(ForkJoinPool)}
+   * to reuse an existing pool.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+   *
+   * @param parallelism the number of threads used to compare values in parallel.
+   * @throws IllegalArgumentException if the given parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkArgument(parallelism >= 1, "The parallelism must be greater than or equal to 1 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the {@link ForkJoinPool} used to compare in parallel the independent parts of the compared values (collection
+   * elements, map entries or fields) when there are enough of them, {@code null} means that the pool depends on
+   * {@link #setParallelism(int)}.
+   * <p>
+   * See {@link RecursiveComparisonAssert#usingForkJoinPool(ForkJoinPool)} for code examples.
+   *
+   * @param forkJoinPool the pool used to compare values in parallel.
+   */
+  public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+    this.forkJoinPool = forkJoinPool;
+  }
+
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
   public List<Pattern> getIgnoredFieldsRegexes() {
     return ignoredFieldsRegexes;
   }
@@ -641,10 +702,9 @@ public class RecursiveComparisonConfiguration {
   }
 
   boolean shouldIgnore(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return !shouldBeCompared(fieldLocation)
-           || matchesAnIgnoredField(fieldLocation)
-           || matchesAnIgnoredFieldRegex(fieldLocation)
+    FieldLocationRules fieldLocationRules = fieldLocationRules(dualValue.fieldLocation);
+    return !fieldLocationRules.compared
+           || fieldLocationRules.ignored
            || shouldIgnoreFieldBasedOnFieldValue(dualValue);
   }
 
@@ -665,6 +725,12 @@ public class RecursiveComparisonConfiguration {
 
   Set<String> getNonIgnoredActualFieldNames(DualValue dualValue) {
     Set<String> actualFieldsNames = Objects.getFieldsNames(dualValue.actual.getClass());
+    if (!ignoresFieldsBasedOnTheirValue()) {
+      // no need to read the field values as only the field location is used to ignore fields
+      return actualFieldsNames.stream()
+                              .filter(fieldName -> !shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation.field(fieldName)))
+                              .collect(toSet());
+    }
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
     // - we filter first ignored field by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria that need to get the field value
@@ -681,6 +747,13 @@ public class RecursiveComparisonConfiguration {
                             .collect(toSet());
   }
 
+  boolean ignoresFieldsBasedOnTheirValue() {
+    return ignoreAllActualNullFields
+           || ignoreAllExpectedNullFields
+           || ignoreAllActualEmptyOptionalFields
+           || !ignoredTypes.isEmpty();
+  }
+
   // non accessible stuff
 
   private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue) {
@@ -690,7 +763,12 @@ public class RecursiveComparisonConfiguration {
   }
 
   private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+    return fieldLocationRules(fieldLocation).ignored;
+  }
+
+  private FieldLocationRules fieldLocationRules(FieldLocation fieldLocation) {
+    return fieldLocationRulesCache.computeIfAbsent(fieldLocation.getPathToUseInRules(),
+                                                   path -> new FieldLocationRules(fieldLocation));
   }
 
   private static DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
@@ -723,19 +801,19 @@ public class RecursiveComparisonConfiguration {
     // enums don't have fields, comparing them field by field makes no sense, we need to use equals which is overridden and final
     if (dualValue.isActualAnEnum()) return false;
     return ignoreAllOverriddenEquals
-           || matchesAnIgnoredOverriddenEqualsField(dualValue.fieldLocation)
+           || fieldLocationRules(dualValue.fieldLocation).overriddenEqualsIgnored
            || (dualValue.actual != null && shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass()));
   }
 
   @VisibleForTesting
   boolean shouldIgnoreOverriddenEqualsOf(Class<?> clazz) {
-    return matchesAnIgnoredOverriddenEqualsRegex(clazz) || matchesAnIgnoredOverriddenEqualsType(clazz);
+    return ignoredOverriddenEqualsTypesCache.computeIfAbsent(clazz,
+                                                             type -> matchesAnIgnoredOverriddenEqualsRegex(type)
+                                                                     || matchesAnIgnoredOverriddenEqualsType(type));
   }
 
   boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    return ignoreCollectionOrder || fieldLocationRules(fieldLocation).collectionOrderIgnored;
   }
 
   private void describeIgnoredFieldsRegexes(StringBuilder description) {
@@ -1020,6 +1098,8 @@ public class RecursiveComparisonConfiguration {
     private FieldComparators fieldComparators = new FieldComparators();
     private FieldMessages fieldMessages = new FieldMessages();
     private TypeMessages typeMessages = new TypeMessages();
+    private int parallelism = 1;
+    private ForkJoinPool forkJoinPool;
 
     private Builder() {}
 
@@ -1357,6 +1437,36 @@ public class RecursiveComparisonConfiguration {
       return this;
     }
 
+    /**
+     * Sets the number of threads used to compare in parallel the independent parts of the compared values (collection
+     * elements, map entries or fields) when there are enough of them, a parallelism of 1 means a sequential comparison.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for code examples.
+     *
+     * @param parallelism the number of threads used to compare values in parallel.
+     * @return this builder.
+     * @throws IllegalArgumentException if the given parallelism is less than 1.
+     */
+    public Builder withParallelism(int parallelism) {
+      checkArgument(parallelism >= 1, "The parallelism must be greater than or equal to 1 but was %s", parallelism);
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the {@link ForkJoinPool} used to compare in parallel the independent parts of the compared values (collection
+     * elements, map entries or fields) when there are enough of them.
+     * <p>
+     * See {@link RecursiveComparisonAssert#usingForkJoinPool(ForkJoinPool)} for code examples.
+     *
+     * @param forkJoinPool the pool used to compare values in parallel.
+     * @return this builder.
+     */
+    public Builder withForkJoinPool(ForkJoinPool forkJoinPool) {
+      this.forkJoinPool = forkJoinPool;
+      return this;
+    }
+
     public RecursiveComparisonConfiguration build() {
       return new RecursiveComparisonConfiguration(this);
     }
@@ -1368,4 +1478,21 @@ public class RecursiveComparisonConfiguration {
     return (o1, o2) -> equals.test(o1, o2) ? 0 : 1;
   }
 
+  // the rules evaluated on a field location, computed once per field location
+  private final class FieldLocationRules {
+
+    private final boolean compared;
+    private final boolean ignored;
+    private final boolean overriddenEqualsIgnored;
+    private final boolean collectionOrderIgnored;
+
+    private FieldLocationRules(FieldLocation fieldLocation) {
+      compared = shouldBeCompared(fieldLocation);
+      ignored = matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
+      overriddenEqualsIgnored = matchesAnIgnoredOverriddenEqualsField(fieldLocation);
+      collectionOrderIgnored = matchesAnIgnoredCollectionOrderInField(fieldLocation)
+                               || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    }
+  }
+
 }
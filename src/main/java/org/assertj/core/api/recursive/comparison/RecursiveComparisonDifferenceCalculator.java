@@ -20,8 +20,8 @@ import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERE
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.internal.Objects.getFieldsNames;
 import static org.assertj.core.util.IterableUtil.sizeOf;
-import static org.assertj.core.util.IterableUtil.toCollection;
 import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newHashSet;
 import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -38,6 +39,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicIntegerArray;
@@ -68,30 +72,55 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String DIFFERENT_SIZE_ERROR = "actual and expected values are %s of different size, actual size=%s when expected size=%s";
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
+  // minimum number of dual values registered at once (elements, entries or fields of a value) to compare them in parallel
+  static final int PARALLEL_COMPARISON_THRESHOLD = 256;
+  // number of registered dual values compared sequentially by a parallel comparison task
+  private static final int DUAL_VALUES_PER_PARALLEL_TASK = 32;
 
   private static class ComparisonState {
-    // Not using a Set as we want to precisely track visited values, a set would remove duplicates
-    List<DualValue> visitedDualValues;
+    VisitedDualValues visitedDualValues;
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
-
-    public ComparisonState(List<DualValue> visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    // null when comparing sequentially
+    ForkJoinPool forkJoinPool;
+    // only set when the comparison stops at the first difference, shared with parallel comparisons to stop them all
+    AtomicBoolean differenceFound;
+    // only set for the comparison of a parallel task, the dual values it was given to compare
+    List<DualValue> comparedDualValues;
+
+    public ComparisonState(VisitedDualValues visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           ForkJoinPool forkJoinPool, AtomicBoolean differenceFound) {
       this.visitedDualValues = visited;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.forkJoinPool = forkJoinPool;
+      this.differenceFound = differenceFound;
     }
 
     void addDifference(DualValue dualValue) {
-      differences.add(new ComparisonDifference(dualValue, null, getCustomErrorMessage(dualValue)));
+      addDifference(new ComparisonDifference(dualValue, null, getCustomErrorMessage(dualValue)));
     }
 
     void addDifference(DualValue dualValue, String description) {
-      differences.add(new ComparisonDifference(dualValue, description, getCustomErrorMessage(dualValue)));
+      addDifference(new ComparisonDifference(dualValue, description, getCustomErrorMessage(dualValue)));
     }
 
     void addKeyDifference(DualValue parentDualValue, Object actualKey, Object expectedKey) {
-      differences.add(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
+      addDifference(new ComparisonKeyDifference(parentDualValue, actualKey, expectedKey));
+    }
+
+    private void addDifference(ComparisonDifference difference) {
+      differences.add(difference);
+      if (differenceFound != null) differenceFound.set(true);
+    }
+
+    boolean stopsAtFirstDifference() {
+      return differenceFound != null;
+    }
+
+    boolean mustStop() {
+      return differenceFound != null && differenceFound.get();
     }
 
     public List<ComparisonDifference> getDifferences() {
@@ -117,6 +146,45 @@ public class RecursiveComparisonDifferenceCalculator {
       if (!visitedDualValues.contains(dualValue)) dualValuesToCompare.addFirst(dualValue);
     }
 
+    // The dual values registered since the given count of dual values to compare are the elements, entries or fields of the
+    // last compared dual value, they are independent subtrees which can be compared in parallel if there are enough of them.
+    // Each parallel task tracks its visited dual values in a fork of the current ones, this state is blocked until all tasks
+    // are done, the tasks differences and visited dual values are then merged back as if they had been compared sequentially.
+    // A task which visited values also visited by a previous task (values shared by several subtrees) is compared again
+    // sequentially as it would have skipped them after the previous task, its differences would otherwise be reported twice.
+    private void compareInParallelDualValuesRegisteredSince(int dualValuesToCompareCount) {
+      if (forkJoinPool == null) return;
+      int registeredDualValuesCount = dualValuesToCompare.size() - dualValuesToCompareCount;
+      if (registeredDualValuesCount < PARALLEL_COMPARISON_THRESHOLD) return;
+      List<DualValue> registeredDualValues = new ArrayList<>(registeredDualValuesCount);
+      for (int i = 0; i < registeredDualValuesCount; i++) {
+        registeredDualValues.add(dualValuesToCompare.removeFirst());
+      }
+      ParallelComparisonTask task = new ParallelComparisonTask(registeredDualValues, 0, registeredDualValuesCount, this);
+      // invoke directly from a worker of the pool as it can then help running the forked tasks
+      List<ComparisonState> tasksComparisonStates = ForkJoinTask.getPool() == forkJoinPool ? task.invoke()
+          : forkJoinPool.invoke(task);
+      VisitedDualValues previousTasksVisitedDualValues = new VisitedDualValues();
+      for (ComparisonState taskComparisonState : tasksComparisonStates) {
+        if (!mustStop() && taskComparisonState.visitedDualValues.sharesVisitsWith(previousTasksVisitedDualValues)) {
+          taskComparisonState = compareSequentially(taskComparisonState.comparedDualValues);
+        }
+        differences.addAll(taskComparisonState.differences);
+        visitedDualValues.merge(taskComparisonState.visitedDualValues);
+        previousTasksVisitedDualValues.merge(taskComparisonState.visitedDualValues);
+      }
+    }
+
+    private ComparisonState compareSequentially(List<DualValue> dualValues) {
+      ComparisonState comparisonState = new ComparisonState(visitedDualValues.fork(), recursiveComparisonConfiguration,
+                                                            forkJoinPool, differenceFound);
+      comparisonState.comparedDualValues = dualValues;
+      // keep the order in which the dual values would have been compared sequentially
+      comparisonState.dualValuesToCompare.addAll(dualValues);
+      compareDualValues(comparisonState);
+      return comparisonState;
+    }
+
     private void initDualValuesToCompare(Object actual, Object expected, FieldLocation fieldLocation) {
       DualValue dualValue = new DualValue(fieldLocation, actual, expected);
       boolean mustCompareFieldsRecursively = mustCompareFieldsRecursively(dualValue);
@@ -150,11 +218,8 @@ public class RecursiveComparisonDifferenceCalculator {
       // a reference back to its parent but only for complex types can have cycle, this is not the case for primitive or enums.
       // It occurs for unordered collection where we compare all possible combination of the collection elements recursively.
       // --
-      // remove visited values one by one, DualValue.equals correctly compare respective actual and expected fields by reference
-      visitedDualValues.forEach(visitedDualValue -> dualValuesToCompare.stream()
-                                                                       .filter(dualValueToCompare -> dualValueToCompare.equals(visitedDualValue))
-                                                                       .findFirst()
-                                                                       .ifPresent(dualValuesToCompare::remove));
+      // remove visited values one by one, visited values are indexed by their actual and expected fields references
+      visitedDualValues.removeVisitedFrom(dualValuesToCompare);
     }
 
     private boolean mustCompareFieldsRecursively(DualValue dualValue) {
@@ -201,155 +266,200 @@ public class RecursiveComparisonDifferenceCalculator {
    */
   public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration, false);
+  }
+
+  /**
+   * Compare two objects like {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} but stops the
+   * comparison as soon as a difference is found, this is meant to be used when only the comparison outcome matters as the
+   * differences are not computed.
+   *
+   * @param actual Object one to compare
+   * @param expected Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return true if {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} would not find any
+   *         differences, false otherwise.
+   */
+  public boolean areEqual(Object actual, Object expected, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineDifferences(actual, expected, recursiveComparisonConfiguration, true).isEmpty();
+  }
+
+  private static List<ComparisonDifference> determineDifferences(Object actual, Object expected,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 boolean stopAtFirstDifference) {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
       return list(expectedAndActualTypeDifference(actual, expected));
     }
-    List<DualValue> visited = list();
-    return determineDifferences(actual, expected, rootFieldLocation(), visited, recursiveComparisonConfiguration);
+    VisitedDualValues visited = new VisitedDualValues();
+    ForkJoinPool forkJoinPool = recursiveComparisonConfiguration.getForkJoinPool();
+    if (forkJoinPool != null || recursiveComparisonConfiguration.getParallelism() == 1) {
+      return determineDifferences(actual, expected, rootFieldLocation(), visited, recursiveComparisonConfiguration, forkJoinPool,
+                                  stopAtFirstDifference);
+    }
+    // the pool is only used for this comparison
+    forkJoinPool = new ForkJoinPool(recursiveComparisonConfiguration.getParallelism());
+    try {
+      return determineDifferences(actual, expected, rootFieldLocation(), visited, recursiveComparisonConfiguration, forkJoinPool,
+                                  stopAtFirstDifference);
+    } finally {
+      forkJoinPool.shutdown();
+    }
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
   private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
-                                                                 List<DualValue> visited,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration);
+                                                                 VisitedDualValues visited,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 ForkJoinPool forkJoinPool, boolean stopAtFirstDifference) {
+    AtomicBoolean differenceFound = stopAtFirstDifference ? new AtomicBoolean() : null;
+    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration, forkJoinPool,
+                                                          differenceFound);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation);
+    compareDualValues(comparisonState);
+    return comparisonState.getDifferences();
+  }
 
-    while (comparisonState.hasDualValuesToCompare()) {
+  private static void compareDualValues(ComparisonState comparisonState) {
+    while (comparisonState.hasDualValuesToCompare() && !comparisonState.mustStop()) {
       final DualValue dualValue = comparisonState.pickDualValueToCompare();
+      int dualValuesToCompareCount = comparisonState.dualValuesToCompare.size();
+      compareDualValue(dualValue, comparisonState);
+      comparisonState.compareInParallelDualValuesRegisteredSince(dualValuesToCompareCount);
+    }
+  }
 
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+  private static void compareDualValue(final DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (!areDualValueEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    if (actualFieldValue == expectedFieldValue) return;
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    if (dualValue.isExpectedAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
-      if (dualValue.isExpectedFieldAnAtomicBoolean()) {
-        compareAtomicBoolean(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicInteger()) {
-        compareAtomicInteger(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
-        compareAtomicIntegerArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLong()) {
-        compareAtomicLong(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicLongArray()) {
-        compareAtomicLongArray(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReference()) {
-        compareAtomicReference(dualValue, comparisonState);
-        continue;
-      }
-      if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
-        compareAtomicReferenceArray(dualValue, comparisonState);
-        continue;
-      }
+    // compare Atomic types by value manually as they are container type and we can't use introspection in java 17+
+    if (dualValue.isExpectedFieldAnAtomicBoolean()) {
+      compareAtomicBoolean(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicInteger()) {
+      compareAtomicInteger(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicIntegerArray()) {
+      compareAtomicIntegerArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLong()) {
+      compareAtomicLong(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicLongArray()) {
+      compareAtomicLongArray(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReference()) {
+      compareAtomicReference(dualValue, comparisonState);
+      return;
+    }
+    if (dualValue.isExpectedFieldAnAtomicReferenceArray()) {
+      compareAtomicReferenceArray(dualValue, comparisonState);
+      return;
+    }
 
-      if (shouldHonorEquals(dualValue, recursiveComparisonConfiguration)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
-        continue;
-      }
+    if (shouldHonorEquals(dualValue, recursiveComparisonConfiguration)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue,
-                                      format(STRICT_TYPE_ERROR, expectedFieldClass.getName(), actualFieldValueClass.getName()));
-        continue;
-      }
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue,
+                                    format(STRICT_TYPE_ERROR, expectedFieldClass.getName(), actualFieldValueClass.getName()));
+      return;
+    }
 
-      Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
-      Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
-      // Check if expected has more fields than actual, in that case the additional fields are reported as difference
-      if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
-        // report missing fields in actual
-        Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
-        actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
-        String missingFields = actualFieldsNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                 expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
-                                                 missingFields);
-        comparisonState.addDifference(dualValue, missingFieldsDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's fields against expected :
-        // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
-        for (String actualFieldName : actualNonIgnoredFieldsNames) {
-          if (expectedFieldsNames.contains(actualFieldName)) {
-            DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualFieldName),
-                                                   COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
-                                                   COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
+    Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
+    // Check if expected has more fields than actual, in that case the additional fields are reported as difference
+    if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
+      // report missing fields in actual
+      Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
+      actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
+      String missingFields = actualFieldsNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                               expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
+                                               missingFields);
+      comparisonState.addDifference(dualValue, missingFieldsDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's fields against expected :
+      // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
+      for (String actualFieldName : actualNonIgnoredFieldsNames) {
+        if (expectedFieldsNames.contains(actualFieldName)) {
+          DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualFieldName),
+                                                 COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
+                                                 COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
+          comparisonState.registerForComparison(newDualValue);
         }
       }
     }
-    return comparisonState.getDifferences();
   }
 
   // avoid comparing enum recursively since they contain static fields which are ignored in recursive comparison
@@ -463,19 +573,34 @@ public class RecursiveComparisonDifferenceCalculator {
       // no need to inspect elements, iterables are not equal as they don't have the same size
       return;
     }
-    // copy actual as we will remove elements found in expected
-    Collection<?> actualCopy = new LinkedList<>(toCollection(actual));
+    List<Object> actualElements = newArrayList(actual);
+    List<Object> expectedElements = newArrayList(expected);
+    // pre-bucket actual elements by fingerprint, an expected element can only match actual elements with the same fingerprint
+    ElementFingerprints fingerprints = ElementFingerprints.of(dualValue.fieldLocation, actualElements, expectedElements,
+                                                              comparisonState.recursiveComparisonConfiguration,
+                                                              comparisonState::mustCompareFieldsRecursively);
+    // buckets are linked lists as we will remove actual elements matched in expected
+    Map<Integer, Collection<Object>> actualElementsByFingerprint = new HashMap<>();
+    for (int i = 0; i < actualElements.size(); i++) {
+      actualElementsByFingerprint.computeIfAbsent(fingerprints.ofActualElement(i), fingerprint -> new LinkedList<>())
+                                 .add(actualElements.get(i));
+    }
     List<Object> expectedElementsNotFound = list();
-    for (Object expectedElement : expected) {
+    for (int i = 0; i < expectedElements.size(); i++) {
+      Object expectedElement = expectedElements.get(i);
       boolean expectedElementMatched = false;
-      // compare recursively expectedElement to all remaining actual elements
-      Iterator<?> actualIterator = actualCopy.iterator();
+      // compare recursively expectedElement to all remaining actual elements having the same fingerprint
+      Collection<Object> actualCandidates = actualElementsByFingerprint.getOrDefault(fingerprints.ofExpectedElement(i),
+                                                                                    Collections.emptyList());
+      Iterator<?> actualIterator = actualCandidates.iterator();
       while (actualIterator.hasNext()) {
         Object actualElement = actualIterator.next();
         // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
+        // we only need to know if the elements match, the element comparison can stop at the first difference.
         List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, dualValue.fieldLocation,
                                                                       comparisonState.visitedDualValues,
-                                                                      comparisonState.recursiveComparisonConfiguration);
+                                                                      comparisonState.recursiveComparisonConfiguration,
+                                                                      comparisonState.forkJoinPool, true);
         if (differences.isEmpty()) {
           // found an element in actual matching expectedElement, remove it as it can't be used to match other expected elements
           actualIterator.remove();
@@ -486,6 +611,8 @@ public class RecursiveComparisonDifferenceCalculator {
       }
       if (!expectedElementMatched) {
         expectedElementsNotFound.add(expectedElement);
+        // no need to look for other unmatched elements if only the first difference matters
+        if (comparisonState.stopsAtFirstDifference()) break;
       }
     }
 
@@ -783,6 +910,36 @@ public class RecursiveComparisonDifferenceCalculator {
     return !actual.getClass().isAssignableFrom(expected.getClass());
   }
 
+  // compares sequentially chunks of the given dual values in parallel, returns the comparison state of each chunk
+  @SuppressWarnings("serial")
+  private static class ParallelComparisonTask extends RecursiveTask<List<ComparisonState>> {
+    private final List<DualValue> dualValues;
+    private final int from;
+    private final int to;
+    private final ComparisonState forkedComparisonState;
+
+    ParallelComparisonTask(List<DualValue> dualValues, int from, int to, ComparisonState forkedComparisonState) {
+      this.dualValues = dualValues;
+      this.from = from;
+      this.to = to;
+      this.forkedComparisonState = forkedComparisonState;
+    }
+
+    @Override
+    protected List<ComparisonState> compute() {
+      if (to - from <= DUAL_VALUES_PER_PARALLEL_TASK) {
+        return list(forkedComparisonState.compareSequentially(dualValues.subList(from, to)));
+      }
+      int middle = (from + to) >>> 1;
+      ParallelComparisonTask firstHalf = new ParallelComparisonTask(dualValues, from, middle, forkedComparisonState);
+      ParallelComparisonTask secondHalf = new ParallelComparisonTask(dualValues, middle, to, forkedComparisonState);
+      secondHalf.fork();
+      List<ComparisonState> comparisonStates = new ArrayList<>(firstHalf.compute());
+      comparisonStates.addAll(secondHalf.join());
+      return comparisonStates;
+    }
+  }
+
   private static String describeOrderedCollectionTypes() {
     return Stream.of(DEFAULT_ORDERED_COLLECTION_TYPES)
                  .map(Class::getName)
@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps track of the visited dual values indexed by their (actual, expected) reference pair.
+ * <p>
+ * Visited values are counted rather than stored in a set as we want to precisely track visits, a set would remove
+ * duplicates. Values are compared by reference like {@link DualValue#equals(Object)} but hashed by identity as
+ * the actual/expected {@code hashCode} might not be consistent with reference equality (see should_fix_1854_minimal_test).
+ * <p>
+ * When subtrees are compared in parallel, each subtree comparison tracks its visits in a fork of the visited dual values,
+ * a fork sees the visits of the forked instance which must not change until the fork visits are merged back.
+ * Forks sharing visits have compared the same values, they are detected to not report twice their differences.
+ */
+final class VisitedDualValues {
+
+  private final Map<ReferencePair, Integer> visitCounts = new HashMap<>();
+  private final VisitedDualValues forkedFrom;
+
+  VisitedDualValues() {
+    this(null);
+  }
+
+  private VisitedDualValues(VisitedDualValues forkedFrom) {
+    this.forkedFrom = forkedFrom;
+  }
+
+  VisitedDualValues fork() {
+    return new VisitedDualValues(this);
+  }
+
+  /**
+   * Adds the visits tracked by the given fork of this instance.
+   *
+   * @param fork a fork of this instance
+   */
+  void merge(VisitedDualValues fork) {
+    fork.visitCounts.forEach((referencePair, visitCount) -> visitCounts.merge(referencePair, visitCount, Integer::sum));
+  }
+
+  /**
+   * Returns whether this instance and the given one have visited the same (actual, expected) reference pair, only their
+   * own visits are considered, not the ones of the instances they were forked from.
+   *
+   * @param other the visited dual values to check
+   * @return true if a reference pair was visited by both instances
+   */
+  boolean sharesVisitsWith(VisitedDualValues other) {
+    Map<ReferencePair, Integer> smallerVisitCounts = visitCounts.size() <= other.visitCounts.size() ? visitCounts
+        : other.visitCounts;
+    Map<ReferencePair, Integer> largerVisitCounts = smallerVisitCounts == visitCounts ? other.visitCounts : visitCounts;
+    return smallerVisitCounts.keySet().stream().anyMatch(largerVisitCounts::containsKey);
+  }
+
+  void add(DualValue dualValue) {
+    visitCounts.merge(new ReferencePair(dualValue), 1, Integer::sum);
+  }
+
+  boolean contains(DualValue dualValue) {
+    return visitCount(new ReferencePair(dualValue)) > 0;
+  }
+
+  private int visitCount(ReferencePair referencePair) {
+    int visitCount = visitCounts.getOrDefault(referencePair, 0);
+    return forkedFrom == null ? visitCount : visitCount + forkedFrom.visitCount(referencePair);
+  }
+
+  private boolean isEmpty() {
+    return visitCounts.isEmpty() && (forkedFrom == null || forkedFrom.isEmpty());
+  }
+
+  /**
+   * Removes from the given dual values the ones already visited, each visit removes at most one dual value with the same
+   * (actual, expected) reference pair starting from the first one.
+   *
+   * @param dualValues the dual values to filter
+   */
+  void removeVisitedFrom(Iterable<DualValue> dualValues) {
+    if (isEmpty()) return;
+    Map<ReferencePair, Integer> removalCounts = new HashMap<>();
+    Iterator<DualValue> iterator = dualValues.iterator();
+    while (iterator.hasNext()) {
+      ReferencePair referencePair = new ReferencePair(iterator.next());
+      int visitCount = visitCount(referencePair);
+      if (visitCount == 0) continue;
+      int removalCount = removalCounts.getOrDefault(referencePair, 0);
+      if (removalCount < visitCount) {
+        iterator.remove();
+        removalCounts.put(referencePair, removalCount + 1);
+      }
+    }
+  }
+
+  private static final class ReferencePair {
+    private final Object actual;
+    private final Object expected;
+    private final int hashCode;
+
+    ReferencePair(DualValue dualValue) {
+      actual = dualValue.actual;
+      expected = dualValue.expected;
+      hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof ReferencePair)) return false;
+      ReferencePair that = (ReferencePair) other;
+      return actual == that.actual && expected == that.expected;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
@@ -46,6 +46,9 @@ public class Configuration {
   public static final boolean LENIENT_DATE_PARSING = false;
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
   public static final int MAX_STACKTRACE_ELEMENTS_DISPLAYED = 3;
+  public static final int MAX_LINES_FOR_TEXTUAL_DIFF = 10_000;
+  public static final int MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES = 1_000_000;
+  public static final int MAX_RENDERED_SOFT_ASSERTION_ERRORS = Integer.MAX_VALUE;
   public static final PreferredAssumptionException PREFERRED_ASSUMPTION_EXCEPTION = PreferredAssumptionException.AUTO_DETECT;
   
   // load default configuration after default values are initialized otherwise PREFERRED_ASSUMPTION_EXCEPTION is null
@@ -62,6 +65,9 @@ public class Configuration {
   private boolean printAssertionsDescription;
   private Consumer<Description> descriptionConsumer;
   private int maxStackTraceElementsDisplayed;
+  private int maxLinesForTextualDiff;
+  private int maxRenderedSoftAssertionErrors;
+  private int maxLengthForErrorMessageValues;
   private PreferredAssumptionException preferredAssumptionException;
   
   public Configuration() {
@@ -76,6 +82,9 @@ public class Configuration {
     printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
     descriptionConsumer = null;
     maxStackTraceElementsDisplayed = MAX_STACKTRACE_ELEMENTS_DISPLAYED;
+    maxLinesForTextualDiff = MAX_LINES_FOR_TEXTUAL_DIFF;
+    maxRenderedSoftAssertionErrors = MAX_RENDERED_SOFT_ASSERTION_ERRORS;
+    maxLengthForErrorMessageValues = MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES;
     preferredAssumptionException = PREFERRED_ASSUMPTION_EXCEPTION;
   }
 
@@ -341,6 +350,88 @@ public class Configuration {
   public void setMaxStackTraceElementsDisplayed(int maxStackTraceElementsDisplayed) {
     this.maxStackTraceElementsDisplayed = maxStackTraceElementsDisplayed;
   }
+
+  /**
+   * Returns the maximum number of lines of each content used to compute the differences of textual contents.
+   * Default is {@value #MAX_LINES_FOR_TEXTUAL_DIFF}.
+   * <p>
+   * See {@link Assertions#setMaxLinesForTextualDiff(int)} for a detailed description.
+   *
+   * @return the maximum number of lines of each content used to compute the differences of textual contents.
+   * @since 3.23.0
+   */
+  public int maxLinesForTextualDiff() {
+    return maxLinesForTextualDiff;
+  }
+
+  /**
+   * Sets the maximum number of lines of each content used to compute the differences of textual contents.
+   * <p>
+   * See {@link Assertions#setMaxLinesForTextualDiff(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxLinesForTextualDiff the maximum number of lines of each content used to compute their differences.
+   * @since 3.23.0
+   */
+  public void setMaxLinesForTextualDiff(int maxLinesForTextualDiff) {
+    this.maxLinesForTextualDiff = maxLinesForTextualDiff;
+  }
+
+  /**
+   * Returns the maximum number of errors collected by soft assertions whose failure message is rendered.
+   * Default is {@value #MAX_RENDERED_SOFT_ASSERTION_ERRORS}, i.e. no limit.
+   * <p>
+   * See {@link Assertions#setMaxRenderedSoftAssertionErrors(int)} for a detailed description.
+   *
+   * @return the maximum number of rendered soft assertion errors.
+   * @since 3.23.0
+   */
+  public int maxRenderedSoftAssertionErrors() {
+    return maxRenderedSoftAssertionErrors;
+  }
+
+  /**
+   * Sets the maximum number of errors collected by soft assertions whose failure message is rendered.
+   * <p>
+   * See {@link Assertions#setMaxRenderedSoftAssertionErrors(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxRenderedSoftAssertionErrors the maximum number of rendered soft assertion errors.
+   * @since 3.23.0
+   */
+  public void setMaxRenderedSoftAssertionErrors(int maxRenderedSoftAssertionErrors) {
+    this.maxRenderedSoftAssertionErrors = maxRenderedSoftAssertionErrors;
+  }
+
+  /**
+   * Returns the maximum number of characters used to represent all the values of an assertion error message.
+   * Default is {@value #MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES}.
+   * <p>
+   * See {@link Assertions#setMaxLengthForErrorMessageValues(int)} for a detailed description.
+   *
+   * @return the maximum number of characters used to represent the values of an assertion error message.
+   * @since 3.23.0
+   */
+  public int maxLengthForErrorMessageValues() {
+    return maxLengthForErrorMessageValues;
+  }
+
+  /**
+   * Sets the maximum number of characters used to represent all the values of an assertion error message.
+   * <p>
+   * See {@link Assertions#setMaxLengthForErrorMessageValues(int)} for a detailed description.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param maxLengthForErrorMessageValues the maximum number of characters used to represent the values of an assertion
+   *          error message.
+   * @since 3.23.0
+   */
+  public void setMaxLengthForErrorMessageValues(int maxLengthForErrorMessageValues) {
+    this.maxLengthForErrorMessageValues = maxLengthForErrorMessageValues;
+  }
   
   /**
    * Returns which exception is thrown if an assumption is not met. 
@@ -382,6 +473,9 @@ public class Configuration {
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
     Assertions.setMaxStackTraceElementsDisplayed(maxStackTraceElementsDisplayed());
+    Assertions.setMaxLinesForTextualDiff(maxLinesForTextualDiff());
+    Assertions.setMaxRenderedSoftAssertionErrors(maxRenderedSoftAssertionErrors());
+    Assertions.setMaxLengthForErrorMessageValues(maxLengthForErrorMessageValues());
     // reset the default date formats otherwise a custom config would register them and when another config is applied it would
     // add to the previous config date formats
     AbstractDateAssert.useDefaultDateFormatsOnly();
@@ -408,6 +502,9 @@ public class Configuration {
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
                   "- maxStackTraceElementsDisplayed................... = %s%n" +
+                  "- maxLinesForTextualDiff .......................... = %s%n" +
+                  "- maxRenderedSoftAssertionErrors .................. = %s%n" +
+                  "- maxLengthForErrorMessageValues .................. = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n" +
@@ -422,6 +519,9 @@ public class Configuration {
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
                   maxStackTraceElementsDisplayed(),
+                  maxLinesForTextualDiff(),
+                  maxRenderedSoftAssertionErrors(),
+                  maxLengthForErrorMessageValues(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled(),
@@ -90,7 +90,7 @@ public class AssertionErrorCreator {
   }
 
   public AssertionError assertionError(String message) {
-    return new AssertionError(message);
+    return new LazilyFilteredAssertionError(message);
   }
 
   // multiple assertions error
@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.util.Strings.escapePercent;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
+/**
+ * Creates error messages for the assertions verifying the content of a file while reading it, without keeping it.
+ * <p>
+ * The messages only show the part of the content involved in the failure, line numbers and counts are formatted in a
+ * standard way.
+ *
+ * @since 3.23.0
+ */
+public class FileContentShould extends BasicErrorMessageFactory {
+
+  private FileContentShould(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  public static ErrorMessageFactory fileContentShouldContain(Path actual, Charset charset, Object values, Object notFound) {
+    return new FileContentShould("%nExpecting content of:%n  %s%nread with %s charset to contain:%n  %s%nbut could not find:%n  %s",
+                                 actual, charset, values, notFound);
+  }
+
+  public static ErrorMessageFactory fileContentShouldStartWith(Path actual, Charset charset, CharSequence prefix,
+                                                               CharSequence actualStart) {
+    return new FileContentShould("%nExpecting content of:%n  %s%nread with %s charset to start with:%n  %s%nbut started with:%n  %s",
+                                 actual, charset, prefix, actualStart);
+  }
+
+  public static ErrorMessageFactory fileContentShouldEndWith(Path actual, Charset charset, CharSequence suffix,
+                                                             CharSequence actualEnd) {
+    return new FileContentShould("%nExpecting content of:%n  %s%nread with %s charset to end with:%n  %s%nbut ended with:%n  %s",
+                                 actual, charset, suffix, actualEnd);
+  }
+
+  public static ErrorMessageFactory fileContentShouldHaveLineCount(Path actual, Charset charset, long expectedLineCount,
+                                                                   long actualLineCount) {
+    return new FileContentShould(format("%%nExpecting content of:%%n  %%s%%nread with %%s charset to have %s lines but had %s",
+                                        expectedLineCount, actualLineCount),
+                                 actual, charset);
+  }
+
+  public static ErrorMessageFactory fileContentShouldContainPattern(Path actual, Charset charset, CharSequence pattern) {
+    return new FileContentShould("%nExpecting content of:%n  %s%nread with %s charset to contain pattern:%n  %s", actual,
+                                 charset, pattern);
+  }
+
+  public static ErrorMessageFactory fileLinesShouldSatisfy(Path actual, Charset charset, long lineNumber, String line,
+                                                           String error) {
+    return new FileContentShould(format("%%nExpecting all lines of:%%n  %%s%%nread with %%s charset to satisfy the given requirements but line %s:%%n  %%s%%ndid not:%%n%s",
+                                        lineNumber, escapePercent(error)),
+                                 actual, charset, line);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.util.Throwables.withoutAssertJRelatedElements;
+
+import java.io.ObjectStreamException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+
+import org.assertj.core.internal.Failures;
+
+/**
+ * {@link AssertionError} whose AssertJ-related stack trace elements are only removed when its stack trace is actually
+ * read, i.e. when calling {@link #getStackTrace()}, one of the {@code printStackTrace} methods or when serializing it.
+ * <p>
+ * Building the stack trace elements and filtering them is costly for deep stacks, this is avoided for the errors that
+ * are never reported, for example the ones collected by soft assertions and only used for their message.
+ * <p>
+ * Note that the stack trace of this error is not filtered when it is printed as the cause or a suppressed exception of
+ * another {@link Throwable} unless it has been read before.
+ *
+ * @see Failures#removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError)
+ * @since 3.23.0
+ */
+public class LazilyFilteredAssertionError extends AssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient boolean stackTraceFilteringPending;
+
+  public LazilyFilteredAssertionError(String message) {
+    super(message);
+  }
+
+  public LazilyFilteredAssertionError(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+  /**
+   * Removes the AssertJ-related elements from the stack trace of this error the first time it is read.
+   */
+  public synchronized void filterStackTraceLazily() {
+    stackTraceFilteringPending = true;
+  }
+
+  @Override
+  public StackTraceElement[] getStackTrace() {
+    filterStackTraceIfPending();
+    return super.getStackTrace();
+  }
+
+  @Override
+  public void setStackTrace(StackTraceElement[] stackTrace) {
+    // the given stack trace replaces the one to filter
+    synchronized (this) {
+      stackTraceFilteringPending = false;
+    }
+    super.setStackTrace(stackTrace);
+  }
+
+  @Override
+  public void printStackTrace(PrintStream s) {
+    filterStackTraceIfPending();
+    super.printStackTrace(s);
+  }
+
+  @Override
+  public void printStackTrace(PrintWriter s) {
+    filterStackTraceIfPending();
+    super.printStackTrace(s);
+  }
+
+  private synchronized void filterStackTraceIfPending() {
+    if (!stackTraceFilteringPending) return;
+    stackTraceFilteringPending = false;
+    super.setStackTrace(withoutAssertJRelatedElements(super.getStackTrace()));
+  }
+
+  protected Object writeReplace() throws ObjectStreamException {
+    filterStackTraceIfPending();
+    return this;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import java.io.ObjectStreamException;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.internal.Failures;
+import org.assertj.core.presentation.Representation;
+
+/**
+ * {@link AssertionError} whose message is only rendered when first read, from the description, representation and
+ * {@link ErrorMessageFactory} captured when the assertion failed.
+ * <p>
+ * Rendering a failure message formats the actual and expected values (and sometimes computes their differences), this
+ * is costly for large values and useless for the errors whose message is never read. Once rendered, the message is kept
+ * and the captured values are released.
+ * <p>
+ * Note that the message reflects the state of the actual and expected values when it is rendered, not when the
+ * assertion failed, which is why only the errors collected by soft assertions are rendered lazily, see
+ * {@link Failures#setMaxRenderedSoftAssertionErrors(int)}.
+ *
+ * @since 3.23.0
+ */
+public class LazilyRenderedAssertionError extends LazilyFilteredAssertionError {
+
+  private static final long serialVersionUID = 1L;
+
+  private transient Description description;
+  private transient Representation representation;
+  private transient ErrorMessageFactory messageFactory;
+  private String message;
+
+  public LazilyRenderedAssertionError(Description description, Representation representation,
+                                      ErrorMessageFactory messageFactory) {
+    super(null);
+    this.description = description;
+    this.representation = representation;
+    this.messageFactory = messageFactory;
+  }
+
+  /**
+   * Returns the message of this error, rendering it if it has not been done yet.
+   *
+   * @return the message of this error.
+   */
+  @Override
+  public synchronized String getMessage() {
+    if (!isMessageRendered()) {
+      message = messageFactory.create(description, representation);
+      releaseCapturedValues();
+    }
+    return message;
+  }
+
+  /**
+   * Returns whether the message of this error has been rendered (or skipped).
+   *
+   * @return whether the message of this error has been rendered.
+   */
+  public synchronized boolean isMessageRendered() {
+    return messageFactory == null;
+  }
+
+  /**
+   * Replaces the message of this error, if it has not been rendered yet, by its description followed by the given
+   * explanation, the message will then never be rendered.
+   *
+   * @param explanation why the message is not rendered.
+   */
+  public synchronized void skipMessageRendering(String explanation) {
+    if (isMessageRendered()) return;
+    message = MessageFormatter.instance().format(description, representation, explanation);
+    releaseCapturedValues();
+  }
+
+  private void releaseCapturedValues() {
+    description = null;
+    representation = null;
+    messageFactory = null;
+  }
+
+  @Override
+  protected Object writeReplace() throws ObjectStreamException {
+    // the captured values are not serialized
+    getMessage();
+    return super.writeReplace();
+  }
+}
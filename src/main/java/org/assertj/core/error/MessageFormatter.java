@@ -12,12 +12,14 @@
  */
 package org.assertj.core.error;
 
+import static java.lang.Math.max;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Strings.formatIfArgs;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.internal.AbstractComparisonStrategy;
 import org.assertj.core.presentation.Representation;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -46,7 +48,10 @@ public class MessageFormatter {
    * <li>the value of the given <code>{@link Description}</code> is used as the first argument referenced in the format
    * string</li>
    * <li>each of the arguments in the given array is converted to a {@code String} by invoking
-   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>.
+   * <code>{@link org.assertj.core.presentation.Representation#toStringOf(Object)}</code>, or
+   * <code>{@link StandardRepresentation#appendTo(Appendable, Object, int, int)}</code> for a {@code StandardRepresentation}
+   * so that the arguments representation does not exceed
+   * <code>{@link StandardRepresentation#getMaxLengthForErrorMessageValues() maxLengthForErrorMessageValues}</code> characters.
    * </ol>
    * 
    * @param d the description of the failed assertion, may be {@code null}.
@@ -65,16 +70,24 @@ public class MessageFormatter {
   private Object[] format(Representation p, Object[] args) {
     int argCount = args.length;
     String[] formatted = new String[argCount];
+    // the arguments share the character budget
+    int remainingLength = StandardRepresentation.getMaxLengthForErrorMessageValues();
     for (int i = 0; i < argCount; i++) {
-      formatted[i] = asText(p, args[i]);
+      formatted[i] = asText(p, args[i], remainingLength);
+      if (formatted[i] != null) remainingLength = max(0, remainingLength - formatted[i].length());
     }
     return formatted;
   }
 
-  private String asText(Representation p, Object o) {
+  private String asText(Representation p, Object o, int maxLength) {
     if (o instanceof AbstractComparisonStrategy) {
       return ((AbstractComparisonStrategy) o).asText();
     }
+    if (p instanceof StandardRepresentation) {
+      StringBuilder text = new StringBuilder();
+      ((StandardRepresentation) p).appendTo(text, o, maxLength, Integer.MAX_VALUE);
+      return text.toString();
+    }
     return p.toStringOf(o);
   }
 }
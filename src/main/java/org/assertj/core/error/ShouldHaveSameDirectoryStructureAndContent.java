@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.util.Arrays.asList;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates an error message indicating that an assertion that verifies that a directory has the same structure and
+ * content as another one failed.
+ *
+ * @since 3.23.0
+ */
+public class ShouldHaveSameDirectoryStructureAndContent extends BasicErrorMessageFactory {
+
+  /**
+   * Creates a new <code>{@link ShouldHaveSameDirectoryStructureAndContent}</code>, only the non empty lists of entries are
+   * reported.
+   *
+   * @param actual the actual directory in the failed assertion.
+   * @param expected the directory actual was compared to.
+   * @param missingEntries the paths, relative to {@code expected}, of the entries missing in {@code actual}.
+   * @param unexpectedEntries the paths, relative to {@code actual}, of the entries not in {@code expected}.
+   * @param differentEntries the paths, relative to {@code actual}, of the entries with a different content or type.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSameDirectoryStructureAndContent(Path actual, Path expected,
+                                                                              List<Path> missingEntries,
+                                                                              List<Path> unexpectedEntries,
+                                                                              List<Path> differentEntries) {
+    return new ShouldHaveSameDirectoryStructureAndContent(actual, expected, missingEntries, unexpectedEntries,
+                                                          differentEntries);
+  }
+
+  private ShouldHaveSameDirectoryStructureAndContent(Path actual, Path expected, List<Path> missingEntries,
+                                                     List<Path> unexpectedEntries, List<Path> differentEntries) {
+    super(format(missingEntries, unexpectedEntries, differentEntries),
+          arguments(actual, expected, missingEntries, unexpectedEntries, differentEntries));
+  }
+
+  private static String format(List<Path> missingEntries, List<Path> unexpectedEntries, List<Path> differentEntries) {
+    StringBuilder format = new StringBuilder("%nExpecting directory:%n  %s%nto have the same structure and content as:%n  %s%nbut:");
+    if (!missingEntries.isEmpty()) format.append("%n- these entries were missing:%n  %s");
+    if (!unexpectedEntries.isEmpty()) format.append("%n- these entries were unexpected:%n  %s");
+    if (!differentEntries.isEmpty()) format.append("%n- these entries had a different content or type:%n  %s");
+    return format.toString();
+  }
+
+  private static Object[] arguments(Path actual, Path expected, List<Path> missingEntries, List<Path> unexpectedEntries,
+                                    List<Path> differentEntries) {
+    List<Object> arguments = new ArrayList<>(asList(actual, expected));
+    if (!missingEntries.isEmpty()) arguments.add(missingEntries);
+    if (!unexpectedEntries.isEmpty()) arguments.add(unexpectedEntries);
+    if (!differentEntries.isEmpty()) arguments.add(differentEntries);
+    return arguments.toArray();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+
+import org.assertj.core.presentation.PredicateDescription;
+
+/**
+ * Creates error messages for the assertions verifying the elements of a stream while traversing it.
+ * <p>
+ * The stream elements are not kept, the messages only show the elements involved in the failure along with their index
+ * in the stream. Indexes and counts are formatted in a standard way, only the elements use the representation.
+ *
+ * @since 3.23.0
+ */
+public class StreamElementsShould extends BasicErrorMessageFactory {
+
+  private StreamElementsShould(String format, Object... arguments) {
+    super(format, arguments);
+  }
+
+  public static ErrorMessageFactory streamElementsShouldMatch(long index, Object element,
+                                                              PredicateDescription predicateDescription) {
+    return new StreamElementsShould(format("%%nExpecting all elements of the stream to match %%s predicate but element at index %s did not:%%n  %%s",
+                                           index),
+                                    predicateDescription, element);
+  }
+
+  public static ErrorMessageFactory anyStreamElementShouldMatch(long count, PredicateDescription predicateDescription) {
+    return new StreamElementsShould(format("%%nExpecting any element of the stream to match %%s predicate but none of its %s elements did",
+                                           count),
+                                    predicateDescription);
+  }
+
+  public static ErrorMessageFactory noStreamElementsShouldMatch(long index, Object element,
+                                                                PredicateDescription predicateDescription) {
+    return new StreamElementsShould(format("%%nExpecting no elements of the stream to match %%s predicate but element at index %s did:%%n  %%s",
+                                           index),
+                                    predicateDescription, element);
+  }
+
+  public static ErrorMessageFactory streamShouldContain(Object values, Object notFound, long count) {
+    return new StreamElementsShould(format("%%nExpecting the stream to contain:%%n  %%s%%nbut could not find the following element(s) in its %s elements:%%n  %%s",
+                                           count),
+                                    values, notFound);
+  }
+
+  public static ErrorMessageFactory streamShouldNotContain(Object values, long index, Object element) {
+    return new StreamElementsShould(format("%%nExpecting the stream not to contain:%%n  %%s%%nbut found element at index %s:%%n  %%s",
+                                           index),
+                                    values, element);
+  }
+
+  public static ErrorMessageFactory streamShouldHaveSizeGreaterThan(long boundary, long size) {
+    return new StreamElementsShould(format("%%nExpecting size of the stream to be greater than %s but was %s", boundary, size));
+  }
+
+  public static ErrorMessageFactory streamShouldStartWith(Object sequence, long index, Object element) {
+    return new StreamElementsShould(format("%%nExpecting the stream to start with:%%n  %%s%%nbut element at index %s was:%%n  %%s",
+                                           index),
+                                    sequence, element);
+  }
+
+  public static ErrorMessageFactory streamShouldStartWith(Object sequence, long count) {
+    return new StreamElementsShould(format("%%nExpecting the stream to start with:%%n  %%s%%nbut it only had %s elements", count),
+                                    sequence);
+  }
+
+  public static ErrorMessageFactory streamShouldBeSorted(long index, Object element, Object nextElement) {
+    return new StreamElementsShould(format("%%nExpecting the stream to be sorted but element at index %s:%%n  %%s%%nis not less or equal than element at index %s:%%n  %%s",
+                                           index, index + 1),
+                                    element, nextElement);
+  }
+
+  public static ErrorMessageFactory streamShouldHaveMutuallyComparableElements(long index, Object element,
+                                                                               Object nextElement) {
+    return new StreamElementsShould(format("%%nExpecting the stream elements to be mutually comparable but element at index %s:%%n  %%s%%nis not comparable to element at index %s:%%n  %%s",
+                                           index, index + 1),
+                                    element, nextElement);
+  }
+}
@@ -85,6 +85,7 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -197,6 +198,7 @@ public class Arrays {
   @VisibleForTesting
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (primitiveArraysCheckSucceeds(actual, values, PrimitiveArrays::contains)) return;
     Set<Object> notFound = new LinkedHashSet<>();
     int valueCount = sizeOf(values);
     for (int i = 0; i < valueCount; i++) {
@@ -244,6 +246,7 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (primitiveArraysCheckSucceeds(actual, values, PrimitiveArrays::containsOnly)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -277,6 +280,7 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    if (primitiveArraysCheckSucceeds(actual, values, PrimitiveArrays::containsExactly)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff<?> diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -296,6 +300,7 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
+    if (primitiveArraysCheckSucceeds(actual, values, PrimitiveArrays::containsExactlyInAnyOrder)) return;
     List<Object> notExpected = asList(actual);
     List<Object> notFound = asList(values);
 
@@ -343,6 +348,7 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
+    if (primitiveArraysCheckSucceeds(actual, sequence, PrimitiveArrays::containsSequence)) return;
     // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
     int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
     for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
@@ -453,6 +459,12 @@ public class Arrays {
     return comparisonStrategy.areEqual(actual, other);
   }
 
+  // checks primitive arrays without boxing their elements, the generic implementations are then only used to report
+  // the failures
+  private boolean primitiveArraysCheckSucceeds(Object actual, Object values, BiPredicate<Object, Object> check) {
+    return PrimitiveArrays.canCheck(comparisonStrategy, actual, values) && check.test(actual, values);
+  }
+
   void assertDoesNotContain(AssertionInfo info, Failures failures, Object array, Object values) {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
@@ -471,6 +483,7 @@ public class Arrays {
 
   void assertDoesNotHaveDuplicates(AssertionInfo info, Failures failures, Object array) {
     assertNotNull(info, array);
+    if (PrimitiveArrays.canCheck(comparisonStrategy, array) && PrimitiveArrays.doesNotHaveDuplicates(array)) return;
     ArrayWrapperList wrapped = wrap(array);
     Iterable<?> duplicates = comparisonStrategy.duplicatesFrom(wrapped);
     if (!isNullOrEmpty(duplicates))
@@ -480,6 +493,7 @@ public class Arrays {
   void assertStartsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence))
       return;
+    if (primitiveArraysCheckSucceeds(actual, sequence, PrimitiveArrays::startsWith)) return;
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotStartWithSequence(info, failures, actual, sequence);
@@ -515,6 +529,7 @@ public class Arrays {
 
   void assertEndsWith(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     checkNulls(info, actual, sequence);
+    if (primitiveArraysCheckSucceeds(actual, sequence, PrimitiveArrays::endsWith)) return;
     int sequenceSize = sizeOf(sequence);
     int arraySize = sizeOf(actual);
     if (arraySize < sequenceSize) throw arrayDoesNotEndWithSequence(info, failures, actual, sequence);
@@ -674,6 +689,7 @@ public class Arrays {
     }
     // empty arrays are considered sorted even if component type is not sortable.
     if (sizeOf(array) == 0) return;
+    if (PrimitiveArrays.canCheck(comparisonStrategy, array) && PrimitiveArrays.isSorted(array)) return;
     assertThatArrayComponentTypeIsSortable(info, failures, array);
     try {
       // sorted assertion is only relevant if array elements are Comparable
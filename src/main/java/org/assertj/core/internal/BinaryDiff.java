@@ -12,6 +12,8 @@
  */
 package org.assertj.core.internal;
 
+import static java.lang.Byte.toUnsignedInt;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
@@ -24,17 +26,29 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are read and compared by blocks rather than byte by byte, the expected content is never loaded entirely in
+ * memory which allows comparing large files.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int EOF = -1;
+  // large enough to limit the number of read calls, small enough to be allocated for each comparison
+  private static final int BLOCK_SIZE = 64 * 1024;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(Path actual, byte[] expected) throws IOException {
     try (InputStream actualStream = Files.newInputStream(actual)) {
@@ -42,22 +56,61 @@ public class BinaryDiff {
     }
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    try (InputStream actualStream = Files.newInputStream(actual);
+        InputStream expectedStream = Files.newInputStream(expected)) {
+      return diff(actualStream, expectedStream);
+    }
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
     try (InputStream expectedStream = new ByteArrayInputStream(expected)) {
-		  return diff(actualStream, expectedStream);
-	  }
+      return diff(actualStream, expectedStream);
+    }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
-    int index = 0;
+    byte[] actualBlock = new byte[BLOCK_SIZE];
+    byte[] expectedBlock = new byte[BLOCK_SIZE];
+    int blockOffset = 0;
     while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+      int actualBlockLength = readBlock(actualStream, actualBlock);
+      int expectedBlockLength = readBlock(expectedStream, expectedBlock);
+      int comparedLength = Math.min(actualBlockLength, expectedBlockLength);
+      int index = mismatch(actualBlock, expectedBlock, comparedLength);
+      if (index != EOF) {
+        return new BinaryDiffResult(blockOffset + index, toUnsignedInt(expectedBlock[index]), toUnsignedInt(actualBlock[index]));
+      }
+      // blocks are only partially filled at the end of the streams
+      if (actualBlockLength != expectedBlockLength) {
+        int expected = expectedBlockLength > comparedLength ? toUnsignedInt(expectedBlock[comparedLength]) : EOF;
+        int actual = actualBlockLength > comparedLength ? toUnsignedInt(actualBlock[comparedLength]) : EOF;
+        return new BinaryDiffResult(blockOffset + comparedLength, expected, actual);
+      }
+      if (actualBlockLength < BLOCK_SIZE) return BinaryDiffResult.noDiff(); // reached end of both streams
+      blockOffset += BLOCK_SIZE;
+    }
+  }
+
+  // fills the block unless the end of the stream is reached, returns the number of bytes read
+  private static int readBlock(InputStream stream, byte[] block) throws IOException {
+    int length = 0;
+    while (length < block.length) {
+      int read = stream.read(block, length, block.length - length);
+      if (read == EOF) break;
+      length += read;
+    }
+    return length;
+  }
+
+  // returns the index of the first different byte or EOF if there are none (Arrays.mismatch is not available in Java 8)
+  private static int mismatch(byte[] actual, byte[] expected, int length) {
+    for (int i = 0; i < length; i++) {
+      if (actual[i] != expected[i]) return i;
     }
+    return EOF;
   }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Arrays.fill;
+
+/**
+ * Maximum matching of a bipartite graph computed with the Hopcroft–Karp algorithm in O(E √V).
+ * <p>
+ * The left vertices are {@code 0..adjacency.length - 1}, the right ones {@code 0..rightSize - 1} and
+ * {@code adjacency[left]} holds the right vertices connected to {@code left}, for example the indexes of the elements
+ * satisfying the requirements at index {@code left}.
+ */
+final class BipartiteMatching {
+
+  private static final int UNMATCHED = -1;
+  private static final int INFINITY = Integer.MAX_VALUE;
+
+  private final int[][] adjacency;
+  private final int[] leftMatches;
+  private final int[] rightMatches;
+  // length of the shortest alternating path from a free left vertex, computed for each phase
+  private final int[] distances;
+
+  private BipartiteMatching(int[][] adjacency, int rightSize) {
+    this.adjacency = adjacency;
+    leftMatches = new int[adjacency.length];
+    rightMatches = new int[rightSize];
+    distances = new int[adjacency.length];
+    fill(leftMatches, UNMATCHED);
+    fill(rightMatches, UNMATCHED);
+  }
+
+  /**
+   * Returns the size of a maximum matching of the given bipartite graph, i.e. the maximum number of left vertices that can
+   * each be matched to a different right vertex.
+   *
+   * @param adjacency the right vertices connected to each left vertex
+   * @param rightSize the number of right vertices
+   * @return the size of a maximum matching
+   */
+  static int maximumMatchingSize(int[][] adjacency, int rightSize) {
+    return new BipartiteMatching(adjacency, rightSize).maximumMatchingSize();
+  }
+
+  private int maximumMatchingSize() {
+    int size = 0;
+    // each phase augments the matching along a maximal set of vertex disjoint shortest augmenting paths
+    while (hasAugmentingPath()) {
+      for (int left = 0; left < adjacency.length; left++) {
+        if (leftMatches[left] == UNMATCHED && augment(left)) size++;
+      }
+    }
+    return size;
+  }
+
+  // breadth first search layering the left vertices by their distance to the free ones
+  private boolean hasAugmentingPath() {
+    int[] queue = new int[adjacency.length];
+    int head = 0;
+    int tail = 0;
+    for (int left = 0; left < adjacency.length; left++) {
+      if (leftMatches[left] == UNMATCHED) {
+        distances[left] = 0;
+        queue[tail++] = left;
+      } else {
+        distances[left] = INFINITY;
+      }
+    }
+    boolean found = false;
+    while (head < tail) {
+      int left = queue[head++];
+      for (int right : adjacency[left]) {
+        int next = rightMatches[right];
+        if (next == UNMATCHED) {
+          found = true;
+        } else if (distances[next] == INFINITY) {
+          distances[next] = distances[left] + 1;
+          queue[tail++] = next;
+        }
+      }
+    }
+    return found;
+  }
+
+  // depth first search of an augmenting path following the layers
+  private boolean augment(int left) {
+    for (int right : adjacency[left]) {
+      int next = rightMatches[right];
+      if (next == UNMATCHED || (distances[next] == distances[left] + 1 && augment(next))) {
+        leftMatches[left] = right;
+        rightMatches[right] = left;
+        return true;
+      }
+    }
+    // dead end for this phase
+    distances[left] = INFINITY;
+    return false;
+  }
+}
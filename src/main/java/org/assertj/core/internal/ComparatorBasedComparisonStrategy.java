@@ -21,6 +21,8 @@ import java.util.Iterator;
 import java.util.Set;
 import java.util.TreeSet;
 
+import org.assertj.core.util.TotalOrderComparator;
+
 /**
  * Implements {@link ComparisonStrategy} contract with a comparison strategy based on a {@link Comparator}.
  *
@@ -184,6 +186,15 @@ public class ComparatorBasedComparisonStrategy extends AbstractComparisonStrateg
     return comparatorDescription;
   }
 
+  /**
+   * Returns whether the comparator is a {@link TotalOrderComparator}, the compared elements can then be sorted.
+   *
+   * @return whether the comparator is a {@link TotalOrderComparator}.
+   */
+  public boolean isTotalOrder() {
+    return comparator instanceof TotalOrderComparator;
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public boolean stringStartsWith(String string, String prefix) {
@@ -52,7 +52,8 @@ public class ConfigurableRecursiveFieldByFieldComparator implements Comparator<O
 
   protected boolean areEqual(Object actual, Object other) {
     try {
-      return recursiveComparisonDifferenceCalculator.determineDifferences(actual, other, configuration).isEmpty();
+      // the comparison stops at the first difference as we don't need to report them
+      return recursiveComparisonDifferenceCalculator.areEqual(actual, other, configuration);
     } catch (@SuppressWarnings("unused") IntrospectionError e) {
       return false;
     }
@@ -13,8 +13,10 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static org.assertj.core.util.Closeables.closeQuietly;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -24,13 +26,23 @@ import java.io.InputStreamReader;
 import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
+import org.assertj.core.configuration.Configuration;
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.SummaryDelta;
+import org.assertj.core.util.diff.TruncationDelta;
+import org.assertj.core.util.diff.myers.LinearSpaceMyersDiff;
 
 
 /**
@@ -47,6 +59,31 @@ import org.assertj.core.util.diff.Patch;
 @VisibleForTesting
 public class Diff {
 
+  // beyond that many inserted and deleted lines, the differences are summarized instead of being computed
+  private static final int MAX_EDIT_DISTANCE = 2_000;
+
+  private static int maxLinesForTextualDiff = Configuration.MAX_LINES_FOR_TEXTUAL_DIFF;
+
+  /**
+   * Sets the maximum number of lines of each content compared from their first difference on, the identical lines before the
+   * first difference are skipped as well as the identical lines after the last difference found in the last lines of each
+   * content (at most the given number of last lines are kept to find them).
+   * <p>
+   * If one of the contents has more lines than that between its first and last differences, the differences are computed on
+   * the first lines only and a last {@link TruncationDelta} reports from which line the contents were not compared.
+   *
+   * @param maxLinesForTextualDiff the maximum number of lines of each content used to compute their differences.
+   * @throws IllegalArgumentException if the given value is not strictly positive.
+   */
+  public static void setMaxLinesForTextualDiff(int maxLinesForTextualDiff) {
+    checkArgument(maxLinesForTextualDiff > 0, "maxLinesForTextualDiff must be > 0 but was %s", maxLinesForTextualDiff);
+    Diff.maxLinesForTextualDiff = maxLinesForTextualDiff;
+  }
+
+  public static int getMaxLinesForTextualDiff() {
+    return maxLinesForTextualDiff;
+  }
+
   @VisibleForTesting
   public List<Delta<String>> diff(InputStream actual, InputStream expected) throws IOException {
     return diff(readerFor(actual), readerFor(expected));
@@ -87,22 +124,140 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
-      Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      // read both contents in lockstep, identical lines before the first difference are not kept
+      int identicalLinesCount = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        identicalLinesCount++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+      int maxLines = maxLinesForTextualDiff;
+      BoundedLines actualLines = new BoundedLines(actualLine, actual, maxLines);
+      BoundedLines expectedLines = new BoundedLines(expectedLine, expected, maxLines);
+      // identical lines after the last difference are not compared either
+      int identicalTrailingLinesCount = commonSuffixLength(actualLines, expectedLines);
+      actualLines.removeLast(identicalTrailingLinesCount);
+      expectedLines.removeLast(identicalTrailingLinesCount);
+      // only a bounded number of lines are compared from the first difference on
+      boolean truncated = actualLines.size() > maxLines || expectedLines.size() > maxLines;
+      List<String> actualWindow = actualLines.first(maxLines);
+      List<String> expectedWindow = expectedLines.first(maxLines);
+      Patch<String> patch = DiffUtils.diff(expectedWindow, actualWindow, new LinearSpaceMyersDiff<>(MAX_EDIT_DISTANCE));
+      List<Delta<String>> deltas = new ArrayList<>();
+      // the truncation is reported after the compared lines or from the dropped difference
+      int notComparedExpectedPosition = expectedWindow.size();
+      int notComparedActualPosition = actualWindow.size();
+      for (Delta<String> delta : patch.getDeltas()) {
+        // a difference reaching the end of both windows of truncated contents may only be caused by the truncation
+        if (truncated && !deltas.isEmpty() && reachesEndOfLines(delta, expectedWindow, actualWindow)) {
+          notComparedExpectedPosition = delta.getOriginal().getPosition();
+          notComparedActualPosition = delta.getRevised().getPosition();
+          break;
+        }
+        deltas.add(shift(delta, identicalLinesCount));
+      }
+      if (truncated) {
+        deltas.add(new TruncationDelta<>(identicalLinesCount + notComparedExpectedPosition,
+                                         identicalLinesCount + notComparedActualPosition, maxLines));
+      }
+      return unmodifiableList(deltas);
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
-    List<String> lines = new ArrayList<>();
-    while ((line = reader.readLine()) != null) {
-      lines.add(line);
+  private static int commonSuffixLength(BoundedLines actualLines, BoundedLines expectedLines) {
+    int maxLength = Math.min(actualLines.linesFromEndCount(), expectedLines.linesFromEndCount());
+    int length = 0;
+    while (length < maxLength && actualLines.fromEnd(length).equals(expectedLines.fromEnd(length))) {
+      length++;
+    }
+    return length;
+  }
+
+  private static boolean reachesEndOfLines(Delta<String> delta, List<String> expectedLines, List<String> actualLines) {
+    return reachesEndOfLines(delta.getOriginal(), expectedLines) && reachesEndOfLines(delta.getRevised(), actualLines);
+  }
+
+  private static boolean reachesEndOfLines(Chunk<String> chunk, List<String> lines) {
+    return chunk.getPosition() + chunk.size() >= lines.size();
+  }
+
+  // the deltas positions are relative to the first difference, they need to take into account the lines skipped before
+  private static Delta<String> shift(Delta<String> delta, int linesCount) {
+    if (linesCount == 0) return delta;
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + linesCount, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + linesCount, delta.getRevised().getLines());
+    if (delta instanceof SummaryDelta) return new SummaryDelta<>(original, revised);
+    switch (delta.getType()) {
+    case CHANGE:
+      return new ChangeDelta<>(original, revised);
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    default:
+      return new InsertDelta<>(original, revised);
+    }
+  }
+
+  /**
+   * The lines of a content read until its end keeping at most the given number of first and last lines, the lines in
+   * between are only counted.
+   */
+  private static class BoundedLines {
+
+    private final List<String> firstLines = new ArrayList<>();
+    private final List<String> lastLines;
+    private int skippedLinesCount;
+
+    private BoundedLines(String firstLine, BufferedReader reader, int maxLines) throws IOException {
+      Deque<String> lastLinesRead = new ArrayDeque<>();
+      for (String line = firstLine; line != null; line = reader.readLine()) {
+        if (firstLines.size() < maxLines) {
+          firstLines.add(line);
+          continue;
+        }
+        lastLinesRead.addLast(line);
+        if (lastLinesRead.size() > maxLines) {
+          lastLinesRead.removeFirst();
+          skippedLinesCount++;
+        }
+      }
+      lastLines = new ArrayList<>(lastLinesRead);
+    }
+
+    private int size() {
+      return firstLines.size() + skippedLinesCount + lastLines.size();
+    }
+
+    // the number of lines that are known from the end, i.e. before reaching the skipped lines
+    private int linesFromEndCount() {
+      return skippedLinesCount == 0 ? firstLines.size() + lastLines.size() : lastLines.size();
+    }
+
+    private String fromEnd(int index) {
+      if (index < lastLines.size()) return lastLines.get(lastLines.size() - 1 - index);
+      return firstLines.get(firstLines.size() - 1 - (index - lastLines.size()));
+    }
+
+    // only called with at most linesFromEndCount() lines
+    private void removeLast(int count) {
+      for (int i = 0; i < count; i++) {
+        List<String> lines = lastLines.isEmpty() ? firstLines : lastLines;
+        lines.remove(lines.size() - 1);
+      }
+    }
+
+    private List<String> first(int maxLines) {
+      List<String> lines = new ArrayList<>(firstLines);
+      if (skippedLinesCount > 0) return lines;
+      for (String line : lastLines) {
+        if (lines.size() == maxLines) break;
+        lines.add(line);
+      }
+      return lines;
     }
-    return lines;
   }
 }
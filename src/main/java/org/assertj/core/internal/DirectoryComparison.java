@@ -0,0 +1,273 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.stream.Collectors.toList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Compares two directory trees in parallel over the common {@link ForkJoinPool}: each pair of directories with the same
+ * relative path is listed by its own task and each pair of files of the same size is compared by its own task.
+ * <p>
+ * Files of different sizes are different without reading them, the other ones are read by chunks and compared until the
+ * first different chunk, like {@link BinaryDiff} they are not mapped in memory as a mapped file can't be deleted on
+ * Windows until the mapping is garbage collected. Like
+ * {@link Files#walk(Path, java.nio.file.FileVisitOption...)} symbolic links to directories are not followed.
+ * <p>
+ * The entries are reported by their path relative to the compared directories, a missing or unexpected directory is
+ * reported without its content.
+ */
+final class DirectoryComparison {
+
+  // large enough to limit the number of read calls, small enough to be allocated for each compared pair of files
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final Path actualRoot;
+  private final Path expectedRoot;
+  private final Queue<Path> missingEntries = new ConcurrentLinkedQueue<>();
+  private final Queue<Path> unexpectedEntries = new ConcurrentLinkedQueue<>();
+  private final Queue<Path> differentEntries = new ConcurrentLinkedQueue<>();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  // set when a task failed, the pending tasks then return without reading anything
+  private volatile boolean failed;
+
+  private DirectoryComparison(Path actualRoot, Path expectedRoot) {
+    this.actualRoot = actualRoot;
+    this.expectedRoot = expectedRoot;
+  }
+
+  /**
+   * Compares the given directory trees.
+   *
+   * @param actual the actual directory.
+   * @param expected the expected directory.
+   * @return the comparison with the differences found.
+   * @throws IOException if a directory or a file could not be read.
+   */
+  static DirectoryComparison compare(Path actual, Path expected) throws IOException {
+    DirectoryComparison comparison = new DirectoryComparison(actual, expected);
+    comparison.run();
+    return comparison;
+  }
+
+  boolean hasDifferences() {
+    return !missingEntries.isEmpty() || !unexpectedEntries.isEmpty() || !differentEntries.isEmpty();
+  }
+
+  /**
+   * @return the sorted paths, relative to the expected directory, of the entries missing in the actual one.
+   */
+  List<Path> missingEntries() {
+    return sorted(missingEntries);
+  }
+
+  /**
+   * @return the sorted paths, relative to the actual directory, of the entries not in the expected one.
+   */
+  List<Path> unexpectedEntries() {
+    return sorted(unexpectedEntries);
+  }
+
+  /**
+   * @return the sorted paths, relative to the actual directory, of the files with a different content and of the entries
+   *         that are not of the same type as the expected ones, e.g. a file expected to be a directory.
+   */
+  List<Path> differentEntries() {
+    return sorted(differentEntries);
+  }
+
+  private void run() throws IOException {
+    new DirectoryTask(actualRoot, expectedRoot).invoke();
+    // rethrown as is rather than the copy a fork/join task would rethrow for an exception thrown by another thread
+    Throwable throwable = failure.get();
+    if (throwable instanceof IOException) throw (IOException) throwable;
+    if (throwable instanceof RuntimeException) throw (RuntimeException) throwable;
+    if (throwable instanceof Error) throw (Error) throwable;
+  }
+
+  private void fail(Throwable throwable) {
+    failure.compareAndSet(null, throwable);
+    failed = true;
+  }
+
+  private static List<Path> sorted(Collection<Path> paths) {
+    return paths.stream().sorted().collect(toList());
+  }
+
+  private abstract class ComparisonTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected final void compute() {
+      if (failed) return;
+      try {
+        compare();
+      } catch (DirectoryIteratorException e) {
+        fail(e.getCause());
+      } catch (IOException | RuntimeException | Error e) {
+        fail(e);
+      }
+    }
+
+    abstract void compare() throws IOException;
+  }
+
+  private class DirectoryTask extends ComparisonTask {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Path actualDirectory;
+    private final transient Path expectedDirectory;
+
+    private DirectoryTask(Path actualDirectory, Path expectedDirectory) {
+      this.actualDirectory = actualDirectory;
+      this.expectedDirectory = expectedDirectory;
+    }
+
+    @Override
+    void compare() throws IOException {
+      Map<String, Path> actualEntries = entriesByName(actualDirectory);
+      Map<String, Path> expectedEntries = entriesByName(expectedDirectory);
+      List<ComparisonTask> subtasks = new ArrayList<>();
+      for (Map.Entry<String, Path> expectedEntry : expectedEntries.entrySet()) {
+        Path actualEntry = actualEntries.remove(expectedEntry.getKey());
+        if (actualEntry == null) {
+          missingEntries.add(expectedRoot.relativize(expectedEntry.getValue()));
+          continue;
+        }
+        ComparisonTask subtask = compare(actualEntry, expectedEntry.getValue());
+        if (subtask != null) {
+          subtask.fork();
+          subtasks.add(subtask);
+        }
+      }
+      for (Path unexpectedEntry : actualEntries.values()) {
+        unexpectedEntries.add(actualRoot.relativize(unexpectedEntry));
+      }
+      for (ComparisonTask subtask : subtasks) {
+        subtask.join();
+      }
+    }
+
+    // returns the task comparing the given entries if they can't be compared by their attributes
+    private ComparisonTask compare(Path actualEntry, Path expectedEntry) throws IOException {
+      BasicFileAttributes actualAttributes = attributesOf(actualEntry);
+      BasicFileAttributes expectedAttributes = attributesOf(expectedEntry);
+      if (actualAttributes.isDirectory() && expectedAttributes.isDirectory()) {
+        return new DirectoryTask(actualEntry, expectedEntry);
+      }
+      if (actualAttributes.isRegularFile() && expectedAttributes.isRegularFile()) {
+        if (actualAttributes.size() != expectedAttributes.size()) differentEntries.add(actualRoot.relativize(actualEntry));
+        else if (actualAttributes.size() > 0) return new FileTask(actualEntry, expectedEntry);
+        return null;
+      }
+      // neither two directories nor two files: the types differ unless both are other kinds of entries
+      if (actualAttributes.isDirectory() || expectedAttributes.isDirectory()
+          || actualAttributes.isRegularFile() || expectedAttributes.isRegularFile()) {
+        differentEntries.add(actualRoot.relativize(actualEntry));
+      }
+      return null;
+    }
+  }
+
+  private class FileTask extends ComparisonTask {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Path actualFile;
+    private final transient Path expectedFile;
+
+    private FileTask(Path actualFile, Path expectedFile) {
+      this.actualFile = actualFile;
+      this.expectedFile = expectedFile;
+    }
+
+    @Override
+    void compare() throws IOException {
+      if (!haveSameContent(actualFile, expectedFile)) differentEntries.add(actualRoot.relativize(actualFile));
+    }
+  }
+
+  private static Map<String, Path> entriesByName(Path directory) throws IOException {
+    Map<String, Path> entries = new TreeMap<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+      for (Path entry : stream) {
+        entries.put(entry.getFileName().toString(), entry);
+      }
+    }
+    return entries;
+  }
+
+  // symbolic links to files are followed but not the ones to directories
+  private static BasicFileAttributes attributesOf(Path entry) throws IOException {
+    BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class, NOFOLLOW_LINKS);
+    if (!attributes.isSymbolicLink()) return attributes;
+    BasicFileAttributes targetAttributes = Files.readAttributes(entry, BasicFileAttributes.class);
+    return targetAttributes.isRegularFile() ? targetAttributes : attributes;
+  }
+
+  static boolean haveSameContent(Path actual, Path expected) throws IOException {
+    try (FileChannel actualChannel = FileChannel.open(actual, READ);
+        FileChannel expectedChannel = FileChannel.open(expected, READ)) {
+      long size = actualChannel.size();
+      if (size != expectedChannel.size()) return false;
+      return haveSameReadContent(actualChannel, expectedChannel, size);
+    }
+  }
+
+  private static boolean haveSameReadContent(FileChannel actual, FileChannel expected, long size) throws IOException {
+    // small files are read at once, the extra byte is where the end of the files is detected
+    int bufferSize = (int) Math.min(BUFFER_SIZE, size + 1);
+    ByteBuffer actualBuffer = ByteBuffer.allocate(bufferSize);
+    ByteBuffer expectedBuffer = ByteBuffer.allocate(bufferSize);
+    while (true) {
+      boolean actualEnd = fill(actual, actualBuffer);
+      boolean expectedEnd = fill(expected, expectedBuffer);
+      if (!actualBuffer.equals(expectedBuffer)) return false;
+      if (actualEnd || expectedEnd) return actualEnd == expectedEnd;
+      actualBuffer.clear();
+      expectedBuffer.clear();
+    }
+  }
+
+  // fills the buffer unless the end of the channel is reached first and flips it, returns whether the end was reached
+  private static boolean fill(FileChannel channel, ByteBuffer buffer) throws IOException {
+    boolean end = false;
+    while (buffer.hasRemaining() && !end) {
+      end = channel.read(buffer) < 0;
+    }
+    buffer.flip();
+    return end;
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Searches directory trees for paths matching a filter, listing the subdirectories ahead in parallel over the common
+ * {@link ForkJoinPool}, and stops as soon as a matching path is found.
+ * <p>
+ * Also caches the {@link PathMatcher}s compiled from the {@code syntax:pattern} strings of the directory assertions.
+ */
+final class DirectorySearch {
+
+  // more patterns than that for a file system are most likely generated, the cache is cleared rather than growing forever
+  private static final int MAX_CACHED_MATCHERS_PER_FILE_SYSTEM = 256;
+
+  // weak keys to not retain the in-memory file systems once closed
+  private static final Map<FileSystem, Map<String, PathMatcher>> PATH_MATCHERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+  private DirectorySearch() {}
+
+  /**
+   * Returns the {@link PathMatcher} of the given file system for the given syntax and pattern, compiled once and cached.
+   *
+   * @param fileSystem the file system of the paths to match.
+   * @param syntaxAndPattern the syntax and pattern, see {@link FileSystem#getPathMatcher(String)}.
+   * @return the path matcher.
+   */
+  static PathMatcher pathMatcher(FileSystem fileSystem, String syntaxAndPattern) {
+    Map<String, PathMatcher> pathMatchers = PATH_MATCHERS.computeIfAbsent(fileSystem, key -> new ConcurrentHashMap<>());
+    PathMatcher pathMatcher = pathMatchers.get(syntaxAndPattern);
+    if (pathMatcher != null) return pathMatcher;
+    // compiled outside of the cache to not cache the invalid patterns exceptions
+    pathMatcher = fileSystem.getPathMatcher(syntaxAndPattern);
+    if (pathMatchers.size() >= MAX_CACHED_MATCHERS_PER_FILE_SYSTEM) pathMatchers.clear();
+    pathMatchers.put(syntaxAndPattern, pathMatcher);
+    return pathMatcher;
+  }
+
+  /**
+   * Returns whether the given directory or one of its subdirectories, at any depth, contains a path matching the given
+   * filter. Like {@link Files#walk(Path, java.nio.file.FileVisitOption...)} symbolic links are not followed.
+   * <p>
+   * The filter is only evaluated by the calling thread, against the entries of a directory as they are listed and then
+   * against the ones of its subdirectories in the order they were listed. The subdirectories are listed ahead in parallel
+   * over the common {@link ForkJoinPool} unless the calling thread reaches them first, the search stops at the first
+   * matching path and the pending listings are then skipped.
+   *
+   * @param directory the directory to search.
+   * @param filter the filter to match paths against.
+   * @return {@code true} if a path matching the filter has been found.
+   * @throws UncheckedIOException if a directory reached before any matching path could not be listed.
+   */
+  static boolean isDirectoryRecursivelyContaining(Path directory, Predicate<Path> filter) {
+    Search search = new Search(filter);
+    try {
+      return search.searchDirectory(directory);
+    } finally {
+      search.done = true;
+    }
+  }
+
+  private static UncheckedIOException listingFailure(Path directory, IOException e) {
+    return new UncheckedIOException(format("Unable to walk recursively the directory :<%s>", directory), e);
+  }
+
+  private static class Search {
+
+    private final Predicate<Path> filter;
+    // set once the search is over, the listings not started yet are then skipped
+    private volatile boolean done;
+
+    private Search(Predicate<Path> filter) {
+      this.filter = filter;
+    }
+
+    // tests the entries of the given directory as they are listed, then searches its subdirectories
+    private boolean searchDirectory(Path directory) {
+      List<Listing> subdirectoryListings = new ArrayList<>();
+      try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+        for (Path entry : entries) {
+          if (filter.test(entry)) return true;
+          if (Files.isDirectory(entry, NOFOLLOW_LINKS)) subdirectoryListings.add(listAhead(entry));
+        }
+      } catch (IOException e) {
+        throw listingFailure(directory, e);
+      } catch (DirectoryIteratorException e) {
+        throw listingFailure(directory, e.getCause());
+      }
+      return searchSubdirectories(subdirectoryListings);
+    }
+
+    private boolean searchSubdirectories(List<Listing> subdirectoryListings) {
+      for (Listing subdirectoryListing : subdirectoryListings) {
+        if (search(subdirectoryListing)) return true;
+      }
+      return false;
+    }
+
+    private boolean search(Listing listing) {
+      // no worker has started to list the directory, it is listed by this thread while testing its entries
+      if (listing.claim()) return searchDirectory(listing.directory);
+      listing.join();
+      List<Listing> subdirectoryListings = new ArrayList<>(listing.subdirectories.size());
+      for (Path subdirectory : listing.subdirectories) {
+        subdirectoryListings.add(listAhead(subdirectory));
+      }
+      for (Path entry : listing.entries) {
+        if (filter.test(entry)) return true;
+      }
+      // the entries listed before the failure are tested first, as when listing the directory on this thread
+      if (listing.failure != null) throw listing.failure;
+      return searchSubdirectories(subdirectoryListings);
+    }
+
+    private Listing listAhead(Path directory) {
+      Listing listing = new Listing(directory);
+      ForkJoinPool.commonPool().execute(listing);
+      return listing;
+    }
+
+    // lists a directory ahead of the search, unless the search claims it first
+    private class Listing extends RecursiveAction {
+
+      private static final long serialVersionUID = 1L;
+
+      private final transient Path directory;
+      private final AtomicBoolean claimed = new AtomicBoolean();
+      private final transient List<Path> entries = new ArrayList<>();
+      private final transient List<Path> subdirectories = new ArrayList<>();
+      private UncheckedIOException failure;
+
+      private Listing(Path directory) {
+        this.directory = directory;
+      }
+
+      private boolean claim() {
+        return claimed.compareAndSet(false, true);
+      }
+
+      @Override
+      protected void compute() {
+        if (done || !claim()) return;
+        try (DirectoryStream<Path> directoryEntries = Files.newDirectoryStream(directory)) {
+          for (Path entry : directoryEntries) {
+            if (done) return;
+            entries.add(entry);
+            if (Files.isDirectory(entry, NOFOLLOW_LINKS)) subdirectories.add(entry);
+          }
+        } catch (IOException e) {
+          failure = listingFailure(directory, e);
+        } catch (DirectoryIteratorException e) {
+          failure = listingFailure(directory, e.getCause());
+        }
+      }
+    }
+  }
+}
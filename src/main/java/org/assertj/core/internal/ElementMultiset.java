@@ -0,0 +1,124 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Comparator.nullsFirst;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.assertj.core.util.TotalOrderComparator;
+
+/**
+ * Multiset of elements (element to number of occurrences) giving the same results as a comparison strategy without
+ * comparing every element of an iterable to every element of another one.
+ * <p>
+ * It can be used, as checked by {@link #canBeUsed(ComparisonStrategy, Iterable, Iterable)}:
+ * <ul>
+ * <li>with {@link StandardComparisonStrategy} when the elements {@code hashCode} is consistent with their {@code equals},
+ * the multiset is then hash based and works in linear time; arrays are not supported as
+ * {@link StandardComparisonStrategy} compares them by content.</li>
+ * <li>with a {@link ComparatorBasedComparisonStrategy} whose comparator is a {@link TotalOrderComparator}, the multiset is
+ * then sorted and works in O(n log n).</li>
+ * </ul>
+ */
+final class ElementMultiset {
+
+  // classes whose equals is Object's one or is overridden along with hashCode
+  private static final ClassValue<Boolean> CONSISTENT_HASH_CODE = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (type.isArray()) return false;
+      try {
+        Class<?> equalsDeclaringClass = type.getMethod("equals", Object.class).getDeclaringClass();
+        Class<?> hashCodeDeclaringClass = type.getMethod("hashCode").getDeclaringClass();
+        return equalsDeclaringClass == Object.class || equalsDeclaringClass.isAssignableFrom(hashCodeDeclaringClass);
+      } catch (NoSuchMethodException e) {
+        // can't happen, equals and hashCode are public Object methods
+        return false;
+      }
+    }
+  };
+
+  private final Map<Object, Integer> counts;
+
+  private ElementMultiset(Iterable<?> elements, Map<Object, Integer> counts) {
+    this.counts = counts;
+    for (Object element : elements) {
+      counts.merge(element, 1, Integer::sum);
+    }
+  }
+
+  /**
+   * Returns whether the elements of the given iterables can be compared with an {@link ElementMultiset} instead of the
+   * given comparison strategy, that is when the strategy is the {@link StandardComparisonStrategy} and all the elements
+   * have a {@code hashCode} consistent with {@code equals} or when the strategy compares elements with a
+   * {@link TotalOrderComparator}.
+   */
+  static boolean canBeUsed(ComparisonStrategy comparisonStrategy, Iterable<?> first, Iterable<?> second) {
+    if (isTotalOrder(comparisonStrategy)) return true;
+    return comparisonStrategy == StandardComparisonStrategy.instance() && haveConsistentHashCode(first)
+           && haveConsistentHashCode(second);
+  }
+
+  static ElementMultiset of(Iterable<?> elements, ComparisonStrategy comparisonStrategy) {
+    if (!isTotalOrder(comparisonStrategy)) return new ElementMultiset(elements, new HashMap<>());
+    ComparatorBasedComparisonStrategy comparatorBasedComparisonStrategy = (ComparatorBasedComparisonStrategy) comparisonStrategy;
+    @SuppressWarnings("unchecked")
+    Comparator<Object> comparator = (Comparator<Object>) comparatorBasedComparisonStrategy.getComparator();
+    // null elements are only equal to each other, as in ComparatorBasedComparisonStrategy.iterableContains
+    return new ElementMultiset(elements, new TreeMap<>(nullsFirst(comparator)));
+  }
+
+  boolean contains(Object element) {
+    return counts.containsKey(element);
+  }
+
+  /**
+   * Returns the given elements that are not matched by an element of this multiset, each element of this multiset
+   * matching at most one of the given elements, the first ones being matched first.
+   * <p>
+   * This is what removing the first given element equal to each element of this multiset would leave.
+   *
+   * @param <T> the type of the elements
+   * @param elements the elements to match
+   * @return the unmatched elements in their iteration order
+   */
+  <T> List<T> unmatched(Iterable<? extends T> elements) {
+    Map<Object, Integer> remainingCounts = counts instanceof TreeMap ? new TreeMap<>((TreeMap<Object, Integer>) counts)
+        : new HashMap<>(counts);
+    List<T> unmatched = new ArrayList<>();
+    for (T element : elements) {
+      Integer remainingCount = remainingCounts.get(element);
+      if (remainingCount == null || remainingCount == 0) unmatched.add(element);
+      else remainingCounts.put(element, remainingCount - 1);
+    }
+    return unmatched;
+  }
+
+  private static boolean isTotalOrder(ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy instanceof ComparatorBasedComparisonStrategy
+           && ((ComparatorBasedComparisonStrategy) comparisonStrategy).isTotalOrder();
+  }
+
+  private static boolean haveConsistentHashCode(Iterable<?> elements) {
+    for (Object element : elements) {
+      if (element != null && !CONSISTENT_HASH_CODE.get(element.getClass())) return false;
+    }
+    return true;
+  }
+}
@@ -13,11 +13,13 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Strings.isNullOrEmpty;
 
 import java.lang.management.ManagementFactory;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Callable;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.configuration.Configuration;
@@ -26,6 +28,8 @@ import org.assertj.core.description.Description;
 import org.assertj.core.error.AssertionErrorCreator;
 import org.assertj.core.error.AssertionErrorFactory;
 import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.error.LazilyFilteredAssertionError;
+import org.assertj.core.error.LazilyRenderedAssertionError;
 import org.assertj.core.error.MessageFormatter;
 import org.assertj.core.error.ShouldBeEqual;
 import org.assertj.core.util.Throwables;
@@ -82,6 +86,63 @@ public class Failures {
     return removeAssertJRelatedElementsFromStackTrace;
   }
 
+  /**
+   * maximum number of rendered failure messages of the errors collected by soft assertions.
+   */
+  private int maxRenderedSoftAssertionErrors = Configuration.MAX_RENDERED_SOFT_ASSERTION_ERRORS;
+
+  // nesting depth of the soft assertions being evaluated by the current thread, their failure messages are rendered lazily
+  private final ThreadLocal<int[]> softAssertionDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+  /**
+   * Sets the maximum number of errors collected by soft assertions whose failure message is rendered, the message of the
+   * following errors is replaced by their description and an explanation.
+   * <p>
+   * When set, the failure messages of soft assertions are rendered when the error is collected, if the limit is not
+   * reached, instead of when the assertion fails.
+   *
+   * @param maxRenderedSoftAssertionErrors the maximum number of rendered soft assertion errors.
+   * @throws IllegalArgumentException if the given value is negative.
+   */
+  public void setMaxRenderedSoftAssertionErrors(int maxRenderedSoftAssertionErrors) {
+    checkArgument(maxRenderedSoftAssertionErrors >= 0, "maxRenderedSoftAssertionErrors must be >= 0 but was %s",
+                  maxRenderedSoftAssertionErrors);
+    this.maxRenderedSoftAssertionErrors = maxRenderedSoftAssertionErrors;
+  }
+
+  /**
+   * Returns the maximum number of errors collected by soft assertions whose failure message is rendered.
+   * @return the maximum number of rendered soft assertion errors.
+   */
+  public int getMaxRenderedSoftAssertionErrors() {
+    return maxRenderedSoftAssertionErrors;
+  }
+
+  /**
+   * Evaluates the given soft assertion, the message of its failure is rendered lazily if the number of rendered soft
+   * assertion errors is limited, it is then up to the error collector to render it or not.
+   *
+   * @param <T> the assertion result type
+   * @param softAssertion the soft assertion to evaluate
+   * @return the assertion result
+   * @throws Exception if the assertion throws one
+   */
+  public <T> T evaluateSoftAssertion(Callable<T> softAssertion) throws Exception {
+    if (maxRenderedSoftAssertionErrors == Configuration.MAX_RENDERED_SOFT_ASSERTION_ERRORS) return softAssertion.call();
+    int[] depth = softAssertionDepth.get();
+    depth[0]++;
+    try {
+      return softAssertion.call();
+    } finally {
+      depth[0]--;
+    }
+  }
+
+  private boolean isMessageRenderingDeferred() {
+    return maxRenderedSoftAssertionErrors != Configuration.MAX_RENDERED_SOFT_ASSERTION_ERRORS
+           && softAssertionDepth.get()[0] > 0;
+  }
+
   @VisibleForTesting
   Failures() {}
 
@@ -122,8 +183,9 @@ public class Failures {
   public AssertionError failure(AssertionInfo info, ErrorMessageFactory messageFactory) {
     AssertionError error = failureIfErrorMessageIsOverridden(info);
     if (error != null) return error;
-    String assertionErrorMessage = assertionErrorMessage(info, messageFactory);
-    AssertionError assertionError = assertionErrorCreator.assertionError(assertionErrorMessage);
+    AssertionError assertionError = isMessageRenderingDeferred()
+        ? new LazilyRenderedAssertionError(info.description(), info.representation(), messageFactory)
+        : assertionErrorCreator.assertionError(assertionErrorMessage(info, messageFactory));
     removeAssertJRelatedElementsFromStackTraceIfNeeded(assertionError);
     printThreadDumpIfNeeded();
     return assertionError;
@@ -212,10 +274,15 @@ public class Failures {
    *
    * Method is public because we need to call it from {@link ShouldBeEqual#newAssertionError(Description, org.assertj.core.presentation.Representation)} that is building a junit ComparisonFailure by reflection.
    *
+   * The stack trace of a {@link LazilyFilteredAssertionError} is only filtered when it is read.
+   *
    * @param assertionError the {@code AssertionError} to filter stack trace if option is set.
    */
   public void removeAssertJRelatedElementsFromStackTraceIfNeeded(AssertionError assertionError) {
-    if (removeAssertJRelatedElementsFromStackTrace) {
+    if (!removeAssertJRelatedElementsFromStackTrace) return;
+    if (assertionError instanceof LazilyFilteredAssertionError) {
+      ((LazilyFilteredAssertionError) assertionError).filterStackTraceLazily();
+    } else {
       Throwables.removeAssertJRelatedElementsFromStackTrace(assertionError);
     }
   }
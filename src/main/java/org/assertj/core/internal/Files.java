@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -129,7 +128,7 @@ public class Files {
       try {
         // MalformedInputException is thrown by readLine() called in diff
         // compute a binary diff, if there is a binary diff, it it shows the offset of the malformed input
-        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+        BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
         if (binaryDiffResult.hasNoDiff()) {
           // fall back to the UncheckedIOException : not throwing an error is wrong as there was one in the first place.
           throw e;
@@ -159,7 +158,7 @@ public class Files {
     verifyIsFile(expected);
     assertIsFile(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected.toPath()));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_FILE_CONTENTS, actual, expected), ioe);
@@ -532,10 +531,16 @@ public class Files {
   }
 
   private void assertIsDirectoryContaining(AssertionInfo info, File actual, FileFilter filter, String filterPresentation) {
-    List<File> matchingFiles = filterDirectory(info, actual, filter);
-    if (matchingFiles.isEmpty()) {
-      throw failures.failure(info, directoryShouldContain(actual, directoryContent(info, actual), filterPresentation));
+    assertIsDirectory(info, actual);
+    File[] items = actual.listFiles();
+    requireNonNull(items, "Directory listing should not be null");
+    // stop at the first matching file, the listing is only sorted for the error message
+    for (File item : items) {
+      if (filter.accept(item)) return;
     }
+    List<File> files = list(items);
+    files.sort(comparing(File::toString));
+    throw failures.failure(info, directoryShouldContain(actual, files, filterPresentation));
   }
 
   private void assertIsDirectoryNotContaining(AssertionInfo info, File actual, FileFilter filter, String filterPresentation) {
@@ -547,9 +552,7 @@ public class Files {
 
   private boolean isDirectoryRecursivelyContaining(AssertionInfo info, File actual, Predicate<File> filter) {
     assertIsDirectory(info, actual);
-    try (Stream<File> actualContent = recursiveContentOf(actual)) {
-      return actualContent.anyMatch(filter);
-    }
+    return DirectorySearch.isDirectoryRecursivelyContaining(actual.toPath(), path -> filter.test(path.toFile()));
   }
 
   private List<File> sortedRecursiveContent(File directory) {
@@ -579,7 +582,7 @@ public class Files {
 
   private static FileFilter fileFilter(AssertionInfo info, File actual, String syntaxAndPattern) {
     assertNotNull(info, actual);
-    PathMatcher matcher = actual.toPath().getFileSystem().getPathMatcher(syntaxAndPattern);
+    PathMatcher matcher = DirectorySearch.pathMatcher(actual.toPath().getFileSystem(), syntaxAndPattern);
     return file -> matcher.matches(file.toPath());
   }
 
@@ -31,6 +31,12 @@ class IterableDiff<T> {
 
   IterableDiff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     this.comparisonStrategy = comparisonStrategy;
+    if (ElementMultiset.canBeUsed(comparisonStrategy, actual, expected)) {
+      // same results as below without comparing every actual element to every expected one
+      this.unexpected = unmodifiableList(ElementMultiset.of(expected, comparisonStrategy).unmatched(actual));
+      this.missing = unmodifiableList(ElementMultiset.of(actual, comparisonStrategy).unmatched(expected));
+      return;
+    }
     // return the elements in actual that are not in expected: actual - expected
     this.unexpected = unexpectedActualElements(actual, expected);
     // return the elements in expected that are not in actual: expected - actual
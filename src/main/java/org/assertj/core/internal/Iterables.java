@@ -83,10 +83,8 @@ import static org.assertj.core.util.IterableUtil.sizeOf;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Streams.stream;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
@@ -94,11 +92,11 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.api.Condition;
@@ -348,7 +346,8 @@ public class Iterables {
 
   private void assertIterableContainsGivenValues(@SuppressWarnings("rawtypes") Class<? extends Iterable> clazz,
                                                  Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
+    Predicate<Object> isInActual = containsPredicate(actual, asList(values));
+    Set<Object> notFound = stream(values).filter(isInActual.negate())
                                          .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
@@ -359,6 +358,12 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
+  // returns a predicate checking whether iterable contains the given value, multiset based when possible
+  private Predicate<Object> containsPredicate(Iterable<?> iterable, Iterable<?> values) {
+    if (ElementMultiset.canBeUsed(comparisonStrategy, iterable, values)) return ElementMultiset.of(iterable, comparisonStrategy)::contains;
+    return value -> iterableContains(iterable, value);
+  }
+
   private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
     comparisonStrategy.iterablesRemoveFirst(actual, value);
   }
@@ -387,6 +392,22 @@ public class Iterables {
     // if both actual and values are empty, then assertion passes.
     if (actualAsList.isEmpty() && expectedValues.length == 0) return;
 
+    List<Object> expectedValuesAsList = asList(expectedValues);
+    if (ElementMultiset.canBeUsed(comparisonStrategy, actualAsList, expectedValuesAsList)) {
+      ElementMultiset actualElements = ElementMultiset.of(actualAsList, comparisonStrategy);
+      ElementMultiset expectedElements = ElementMultiset.of(expectedValuesAsList, comparisonStrategy);
+      List<Object> unexpectedValues = actualAsList.stream().filter(value -> !expectedElements.contains(value))
+                                                  .collect(toList());
+      List<Object> missingValues = stream(expectedValues).filter(value -> !actualElements.contains(value))
+                                                         .collect(toList());
+      if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
+        throw failures.failure(info, shouldContainOnly(actualAsList, expectedValues,
+                                                       missingValues, unexpectedValues,
+                                                       comparisonStrategy));
+      }
+      return;
+    }
+
     // after the for loop, unexpected = expectedValues - actual
     List<Object> unexpectedValues = newArrayList(actualAsList);
     // after the for loop, missing = actual - expectedValues
@@ -613,7 +634,8 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
+    Predicate<Object> isInValues = containsPredicate(values, actual);
+    List<Object> extra = stream(actual).filter(isInValues.negate())
                                        .collect(toList());
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
@@ -1190,43 +1212,21 @@ public class Iterables {
       requireNonNull(consumer, "Elements in the Consumer<? super E>... expressing the assertions must not be null");
 
     checkSizes(actual, sizeOf(actual), consumers.length, info);
-    Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer = satisfiedElementsPerConsumer(actual, consumers);
-    // fail fast check
-    boolean someRequirementsAreNotMet = satisfiedElementsPerConsumer.stream().anyMatch(e -> e.getElements().isEmpty());
-    if (someRequirementsAreNotMet) throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
-
-    if (!areAllConsumersSatisfied(satisfiedElementsPerConsumer))
+    List<E> elements = newArrayList(actual);
+    int[][] satisfiedElementsPerConsumer = new int[consumers.length][];
+    for (int i = 0; i < consumers.length; i++) {
+      satisfiedElementsPerConsumer[i] = indexesOfElementsSatisfying(elements, consumers[i]);
+      // fail fast check
+      if (satisfiedElementsPerConsumer[i].length == 0) throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
+    }
+    // each consumer must be satisfied by a different element, i.e. the consumers and elements must have a perfect matching
+    if (BipartiteMatching.maximumMatchingSize(satisfiedElementsPerConsumer, elements.size()) < consumers.length)
       throw failures.failure(info, shouldSatisfyExactlyInAnyOrder(actual));
   }
 
-  @SafeVarargs
-  private static <E> Deque<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer(Iterable<? extends E> actual,
-                                                                                       Consumer<? super E>... consumers) {
-    return stream(consumers).map(consumer -> new ElementsSatisfyingConsumer<E>(actual, consumer))
-                            .collect(toCollection(ArrayDeque::new));
-  }
-
-  private static <E> boolean areAllConsumersSatisfied(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer) {
-    // recursively test whether we can find any specific matching permutation that can meet the requirements
-    if (satisfiedElementsPerConsumer.isEmpty()) return true; // all consumers have been satisfied
-
-    // pop the head (i.e, elements satisfying the current consumer), process the tail (i.e., remaining consumers)...
-    ElementsSatisfyingConsumer<E> head = satisfiedElementsPerConsumer.remove();
-    List<E> elementsSatisfyingCurrentConsumer = head.getElements();
-    if (elementsSatisfyingCurrentConsumer.isEmpty()) return false;   // no element satisfies current consumer
-    // if we remove an element satisfying the current consumer from all remaining consumers, will other elements still satisfy
-    // the remaining consumers?
-    return elementsSatisfyingCurrentConsumer.stream()
-                                            .map(element -> removeElement(satisfiedElementsPerConsumer, element))
-                                            .anyMatch(Iterables::areAllConsumersSatisfied);
-  }
-
-  private static <E> Queue<ElementsSatisfyingConsumer<E>> removeElement(Queue<ElementsSatisfyingConsumer<E>> satisfiedElementsPerConsumer,
-                                                                        E element) {
-    // new Queue of ElementsSatisfyingConsumer without the given element, original ElementsSatisfyingConsumer are not modified.
-    return satisfiedElementsPerConsumer.stream()
-                                       .map(elementsSatisfyingConsumer -> elementsSatisfyingConsumer.withoutElement(element))
-                                       .collect(toCollection(ArrayDeque::new));
+  private static <E> int[] indexesOfElementsSatisfying(List<E> elements, Consumer<? super E> consumer) {
+    Predicate<E> satisfiesConsumer = byPassingAssertions(consumer);
+    return IntStream.range(0, elements.size()).filter(i -> satisfiesConsumer.test(elements.get(i))).toArray();
   }
 
   public <ACTUAL_ELEMENT, OTHER_ELEMENT> void assertZipSatisfy(AssertionInfo info,
@@ -1355,10 +1355,17 @@ public class Iterables {
     List<Object> notExpected = newArrayList(actual);
     List<Object> notFound = newArrayList(values);
 
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
+    if (ElementMultiset.canBeUsed(comparisonStrategy, notExpected, notFound)) {
+      // same as removing the first element equal to each value from both lists without comparing them all
+      List<Object> unmatchedActualElements = ElementMultiset.of(notFound, comparisonStrategy).unmatched(notExpected);
+      notFound = ElementMultiset.of(notExpected, comparisonStrategy).unmatched(notFound);
+      notExpected = unmatchedActualElements;
+    } else {
+      for (Object value : values) {
+        if (iterableContains(notExpected, value)) {
+          iterablesRemoveFirst(notExpected, value);
+          iterablesRemoveFirst(notFound, value);
+        }
       }
     }
 
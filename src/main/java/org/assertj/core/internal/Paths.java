@@ -13,7 +13,6 @@
 package org.assertj.core.internal;
 
 import static java.lang.String.format;
-import static java.nio.file.Files.readAllBytes;
 import static java.nio.file.Files.walk;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
@@ -44,6 +43,7 @@ import static org.assertj.core.error.ShouldHaveNoExtension.shouldHaveNoExtension
 import static org.assertj.core.error.ShouldHaveNoParent.shouldHaveNoParent;
 import static org.assertj.core.error.ShouldHaveParent.shouldHaveParent;
 import static org.assertj.core.error.ShouldHaveSameContent.shouldHaveSameContent;
+import static org.assertj.core.error.ShouldHaveSameDirectoryStructureAndContent.shouldHaveSameDirectoryStructureAndContent;
 import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
 import static org.assertj.core.error.ShouldNotBeEmpty.shouldNotBeEmpty;
 import static org.assertj.core.error.ShouldNotContain.directoryShouldNotContain;
@@ -262,13 +262,30 @@ public class Paths {
     checkArgument(Files.isReadable(expected), "The given Path <%s> to compare actual content to should be readable", expected);
     assertIsReadable(info, actual);
     try {
-      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, readAllBytes(expected));
+      BinaryDiffResult binaryDiffResult = binaryDiff.diff(actual, expected);
       if (binaryDiffResult.hasDiff()) throw failures.failure(info, shouldHaveBinaryContent(actual, binaryDiffResult));
     } catch (IOException ioe) {
       throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), ioe);
     }
   }
 
+  public void assertHasSameDirectoryStructureAndContentAs(AssertionInfo info, Path actual, Path expected) {
+    requireNonNull(expected, "The given directory to compare actual to should not be null");
+    checkArgument(Files.isDirectory(expected), "The given Path <%s> to compare actual to should be an existing directory",
+                  expected);
+    assertIsDirectory(info, actual);
+    try {
+      DirectoryComparison comparison = DirectoryComparison.compare(actual, expected);
+      if (comparison.hasDifferences()) {
+        throw failures.failure(info, shouldHaveSameDirectoryStructureAndContent(actual, expected, comparison.missingEntries(),
+                                                                                comparison.unexpectedEntries(),
+                                                                                comparison.differentEntries()));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(format(UNABLE_TO_COMPARE_PATH_CONTENTS, actual, expected), e);
+    }
+  }
+
   public void assertHasSameTextualContentAs(AssertionInfo info, Path actual, Charset actualCharset, Path expected,
                                             Charset expectedCharset) {
     requireNonNull(expected, "The given Path to compare actual content to should not be null");
@@ -393,19 +410,26 @@ public class Paths {
   }
 
   private void assertIsDirectoryContaining(AssertionInfo info, Path actual, Filter<Path> filter, String filterPresentation) {
-    List<Path> matchingFiles = filterDirectory(info, actual, filter);
-    if (matchingFiles.isEmpty()) {
+    if (!isDirectoryContaining(info, actual, filter)) {
       throw failures.failure(info, directoryShouldContain(actual, directoryContent(info, actual), filterPresentation));
     }
   }
 
-  private boolean isDirectoryRecursivelyContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
+  private boolean isDirectoryContaining(AssertionInfo info, Path actual, Filter<Path> filter) {
     assertIsDirectory(info, actual);
-    try (Stream<Path> actualContent = recursiveContentOf(actual)) {
-      return actualContent.anyMatch(filter);
+    // the filter is applied while iterating, stop at the first matching path
+    try (DirectoryStream<Path> stream = nioFilesWrapper.newDirectoryStream(actual, filter)) {
+      return stream.iterator().hasNext();
+    } catch (IOException e) {
+      throw new UncheckedIOException(format("Unable to list directory content: <%s>", actual), e);
     }
   }
 
+  private boolean isDirectoryRecursivelyContaining(AssertionInfo info, Path actual, Predicate<Path> filter) {
+    assertIsDirectory(info, actual);
+    return DirectorySearch.isDirectoryRecursivelyContaining(actual, filter);
+  }
+
   private List<Path> sortedRecursiveContent(Path path) {
     try (Stream<Path> pathContent = recursiveContentOf(path)) {
       return pathContent.sorted().collect(toList());
@@ -436,7 +460,7 @@ public class Paths {
 
   private PathMatcher pathMatcher(AssertionInfo info, Path actual, String syntaxAndPattern) {
     assertNotNull(info, actual);
-    return actual.getFileSystem().getPathMatcher(syntaxAndPattern);
+    return DirectorySearch.pathMatcher(actual.getFileSystem(), syntaxAndPattern);
   }
 
   private static void assertNotNull(final AssertionInfo info, final Path actual) {
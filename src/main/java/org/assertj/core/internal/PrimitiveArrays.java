@@ -0,0 +1,235 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+
+/**
+ * Checks of primitive arrays compared with the {@link StandardComparisonStrategy} working on the primitive values, i.e.
+ * without boxing the array elements.
+ * <p>
+ * The elements are compared through {@code long} keys that are equal if and only if the boxed elements are equal, for
+ * floating point numbers the keys are their bits like in {@link Double#equals(Object)} and {@link Float#equals(Object)}.
+ * <p>
+ * The checks only tell whether an assertion succeeds, {@link Arrays} falls back to its generic implementation to build
+ * the error message when it does not.
+ */
+final class PrimitiveArrays {
+
+  private PrimitiveArrays() {}
+
+  /**
+   * Returns whether the given arrays can be checked by this class, i.e. the comparison strategy is the standard one and
+   * both arrays are primitive arrays of the same type.
+   */
+  static boolean canCheck(ComparisonStrategy comparisonStrategy, Object actual, Object values) {
+    return comparisonStrategy == StandardComparisonStrategy.instance() && isPrimitiveArray(actual)
+           && actual.getClass() == values.getClass();
+  }
+
+  static boolean canCheck(ComparisonStrategy comparisonStrategy, Object actual) {
+    return comparisonStrategy == StandardComparisonStrategy.instance() && isPrimitiveArray(actual);
+  }
+
+  static boolean containsExactly(Object actual, Object values) {
+    return java.util.Arrays.equals(keys(actual), keys(values));
+  }
+
+  static boolean startsWith(Object actual, Object sequence) {
+    long[] actualKeys = keys(actual);
+    long[] sequenceKeys = keys(sequence);
+    return actualKeys.length >= sequenceKeys.length && regionMatches(actualKeys, 0, sequenceKeys);
+  }
+
+  static boolean endsWith(Object actual, Object sequence) {
+    long[] actualKeys = keys(actual);
+    long[] sequenceKeys = keys(sequence);
+    return actualKeys.length >= sequenceKeys.length
+           && regionMatches(actualKeys, actualKeys.length - sequenceKeys.length, sequenceKeys);
+  }
+
+  static boolean containsSequence(Object actual, Object sequence) {
+    long[] actualKeys = keys(actual);
+    long[] sequenceKeys = keys(sequence);
+    for (int i = 0; i <= actualKeys.length - sequenceKeys.length; i++) {
+      if (regionMatches(actualKeys, i, sequenceKeys)) return true;
+    }
+    return false;
+  }
+
+  static boolean contains(Object actual, Object values) {
+    LongHashSet expected = new LongHashSet(keys(values));
+    long[] actualKeys = keys(actual);
+    for (int i = 0; i < actualKeys.length && !expected.allFound(); i++) {
+      expected.find(actualKeys[i]);
+    }
+    return expected.allFound();
+  }
+
+  static boolean containsOnly(Object actual, Object values) {
+    LongHashSet expected = new LongHashSet(keys(values));
+    for (long actualKey : keys(actual)) {
+      if (!expected.find(actualKey)) return false;
+    }
+    return expected.allFound();
+  }
+
+  static boolean containsExactlyInAnyOrder(Object actual, Object values) {
+    if (sizeOf(actual) != sizeOf(values)) return false;
+    return java.util.Arrays.equals(sortedKeys(actual), sortedKeys(values));
+  }
+
+  static boolean doesNotHaveDuplicates(Object array) {
+    long[] sortedKeys = sortedKeys(array);
+    for (int i = 1; i < sortedKeys.length; i++) {
+      if (sortedKeys[i - 1] == sortedKeys[i]) return false;
+    }
+    return true;
+  }
+
+  // ascending order according to the elements natural order (their boxed type compareTo)
+  static boolean isSorted(Object array) {
+    if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      for (int i = 0; i < doubles.length - 1; i++) {
+        if (Double.compare(doubles[i], doubles[i + 1]) > 0) return false;
+      }
+      return true;
+    }
+    if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      for (int i = 0; i < floats.length - 1; i++) {
+        if (Float.compare(floats[i], floats[i + 1]) > 0) return false;
+      }
+      return true;
+    }
+    // the keys of integral types, chars and booleans have the same order as the elements
+    long[] keys = keys(array);
+    for (int i = 0; i < keys.length - 1; i++) {
+      if (keys[i] > keys[i + 1]) return false;
+    }
+    return true;
+  }
+
+  private static boolean isPrimitiveArray(Object array) {
+    return array != null && array.getClass().isArray() && array.getClass().getComponentType().isPrimitive();
+  }
+
+  private static boolean regionMatches(long[] keys, int offset, long[] region) {
+    for (int i = 0; i < region.length; i++) {
+      if (keys[offset + i] != region[i]) return false;
+    }
+    return true;
+  }
+
+  private static long[] sortedKeys(Object array) {
+    long[] keys = keys(array);
+    // don't sort the actual long array
+    long[] sortedKeys = array == keys ? keys.clone() : keys;
+    java.util.Arrays.sort(sortedKeys);
+    return sortedKeys;
+  }
+
+  private static int sizeOf(Object array) {
+    return java.lang.reflect.Array.getLength(array);
+  }
+
+  /**
+   * Returns the keys of the given primitive array elements, a {@code long[]} is returned as is.
+   */
+  static long[] keys(Object array) {
+    if (array instanceof long[]) return (long[]) array;
+    long[] keys = new long[sizeOf(array)];
+    if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      for (int i = 0; i < ints.length; i++) keys[i] = ints[i];
+    } else if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      for (int i = 0; i < doubles.length; i++) keys[i] = doubleToLongBits(doubles[i]);
+    } else if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      for (int i = 0; i < floats.length; i++) keys[i] = floatToIntBits(floats[i]);
+    } else if (array instanceof short[]) {
+      short[] shorts = (short[]) array;
+      for (int i = 0; i < shorts.length; i++) keys[i] = shorts[i];
+    } else if (array instanceof byte[]) {
+      byte[] bytes = (byte[]) array;
+      for (int i = 0; i < bytes.length; i++) keys[i] = bytes[i];
+    } else if (array instanceof char[]) {
+      char[] chars = (char[]) array;
+      for (int i = 0; i < chars.length; i++) keys[i] = chars[i];
+    } else {
+      boolean[] booleans = (boolean[]) array;
+      for (int i = 0; i < booleans.length; i++) keys[i] = booleans[i] ? 1 : 0;
+    }
+    return keys;
+  }
+
+  /**
+   * Open addressing hash set of {@code long} keys, keeping track of the keys that were looked for.
+   */
+  static final class LongHashSet {
+
+    private final long[] slots;
+    private final boolean[] used;
+    private final boolean[] found;
+    private final int mask;
+    private int size;
+    private int foundCount;
+
+    LongHashSet(long[] keys) {
+      // keep the load factor under 1/2
+      int capacity = Integer.highestOneBit(Math.max(keys.length, 2) * 2 - 1) * 2;
+      slots = new long[capacity];
+      used = new boolean[capacity];
+      found = new boolean[capacity];
+      mask = capacity - 1;
+      for (long key : keys) {
+        int slot = slotOf(key);
+        if (!used[slot]) {
+          used[slot] = true;
+          slots[slot] = key;
+          size++;
+        }
+      }
+    }
+
+    /**
+     * Returns whether the set contains the given key and marks it as found if it does.
+     */
+    boolean find(long key) {
+      int slot = slotOf(key);
+      if (!used[slot]) return false;
+      if (!found[slot]) {
+        found[slot] = true;
+        foundCount++;
+      }
+      return true;
+    }
+
+    boolean allFound() {
+      return foundCount == size;
+    }
+
+    // the slot holding the key or the empty slot where it would be inserted
+    private int slotOf(long key) {
+      long hash = key * 0x9E3779B97F4A7C15L;
+      int slot = (int) (hash ^ (hash >>> 32)) & mask;
+      while (used[slot] && slots[slot] != key) {
+        slot = (slot + 1) & mask;
+      }
+      return slot;
+    }
+  }
+}
@@ -26,6 +26,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.ClassNameComparator;
@@ -38,8 +39,12 @@ import org.assertj.core.util.ClassNameComparator;
 abstract class TypeHolder<T> {
 
   private static final Comparator<Class<?>> DEFAULT_CLASS_COMPARATOR = ClassNameComparator.INSTANCE;
+  // marks the absence of relevant class in the cache as ConcurrentHashMap does not permit null values
+  private static final Class<?> NO_RELEVANT_CLASS = NoRelevantClass.class;
 
   protected final Map<Class<?>, T> typeHolder;
+  // looking for the relevant class walks the class hierarchy, the result is cached until the registered entities change
+  private final Map<Class<?>, Class<?>> relevantClassCache = new ConcurrentHashMap<>();
 
   public TypeHolder() {
     this(DEFAULT_CLASS_COMPARATOR);
@@ -61,8 +66,8 @@ abstract class TypeHolder<T> {
    * @return the most relevant entity, or {@code null} if on entity could be found
    */
   public T get(Class<?> clazz) {
-    Class<?> relevantType = getRelevantClass(clazz);
-    return relevantType == null ? null : typeHolder.get(relevantType);
+    Class<?> relevantType = relevantClassCache.computeIfAbsent(clazz, this::getRelevantClassOrMarker);
+    return relevantType == NO_RELEVANT_CLASS ? null : typeHolder.get(relevantType);
   }
 
   /**
@@ -73,6 +78,7 @@ abstract class TypeHolder<T> {
    */
   public void put(Class<?> clazz, T entity) {
     typeHolder.put(clazz, entity);
+    relevantClassCache.clear();
   }
 
   /**
@@ -97,6 +103,7 @@ abstract class TypeHolder<T> {
    */
   public void clear() {
     typeHolder.clear();
+    relevantClassCache.clear();
   }
 
   /**
@@ -122,6 +129,11 @@ abstract class TypeHolder<T> {
    * @param cls type to find a relevant class.
    * @return the most relevant class.
    */
+  private Class<?> getRelevantClassOrMarker(Class<?> cls) {
+    Class<?> relevantClass = getRelevantClass(cls);
+    return relevantClass == null ? NO_RELEVANT_CLASS : relevantClass;
+  }
+
   private Class<?> getRelevantClass(Class<?> cls) {
     Set<Class<?>> keys = typeHolder.keySet();
     if (keys.contains(cls)) return cls;
@@ -159,4 +171,7 @@ abstract class TypeHolder<T> {
   private static <T> String formatRegisteredEntity(Entry<Class<?>, T> entry) {
     return format("%s -> %s", entry.getKey().getSimpleName(), entry.getValue());
   }
+
+  private static final class NoRelevantClass {
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.CodingErrorAction.REPLACE;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@link Reader} decoding a file one window at a time, so that files of any size can be read with a bounded amount of
+ * heap.
+ * <p>
+ * The windows are read through a {@link SeekableByteChannel} into a single heap buffer, files are not mapped in memory as
+ * a mapped file can't be deleted on Windows until the mapping is garbage collected.
+ * <p>
+ * Each window is decoded in place with a {@link CharsetDecoder}, the bytes that were not decoded are moved to the
+ * beginning of the buffer before reading the next window so that characters encoded on several bytes can cross window
+ * boundaries. Malformed input and unmappable characters are replaced like {@code new String(bytes, charset)} does.
+ *
+ * @since 3.23.0
+ */
+public final class WindowedFileReader extends Reader {
+
+  // large enough to limit the number of read calls, small enough to be allocated for each read file
+  static final int DEFAULT_WINDOW_SIZE = 64 * 1024;
+
+  private final SeekableByteChannel channel;
+  private final CharsetDecoder decoder;
+  private final ByteBuffer window;
+  private boolean endOfChannel;
+  private boolean endOfInput;
+  private boolean flushed;
+
+  public WindowedFileReader(Path path, Charset charset) throws IOException {
+    this(path, charset, DEFAULT_WINDOW_SIZE);
+  }
+
+  WindowedFileReader(Path path, Charset charset, int windowSize) throws IOException {
+    // a window must at least hold the longest encoded character
+    checkArgument(windowSize >= 16, "windowSize must be >= 16 but was %s", windowSize);
+    decoder = charset.newDecoder().onMalformedInput(REPLACE).onUnmappableCharacter(REPLACE);
+    channel = Files.newByteChannel(path, READ);
+    window = ByteBuffer.allocate(windowSize);
+    try {
+      readWindow();
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public int read(char[] buffer, int offset, int length) throws IOException {
+    if (length == 0) return 0;
+    CharBuffer output = CharBuffer.wrap(buffer, offset, length);
+    while (output.position() == offset) {
+      if (flushed) return -1;
+      decode(output);
+    }
+    return output.position() - offset;
+  }
+
+  private void decode(CharBuffer output) throws IOException {
+    if (!endOfInput) {
+      CoderResult result = decoder.decode(window, output, endOfChannel);
+      if (result.isOverflow()) return;
+      if (!endOfChannel) {
+        // the undecoded bytes at the end of the window are the beginning of the next one
+        window.compact();
+        readWindow();
+        return;
+      }
+      endOfInput = true;
+    }
+    flushed = decoder.flush(output).isUnderflow();
+  }
+
+  // fills the window after the bytes it already contains and flips it
+  private void readWindow() throws IOException {
+    while (window.hasRemaining() && !endOfChannel) {
+      endOfChannel = channel.read(window) == -1;
+    }
+    window.flip();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -13,9 +13,11 @@
 package org.assertj.core.presentation;
 
 import static java.lang.Integer.toHexString;
+import static java.lang.Math.min;
 import static java.lang.reflect.Array.get;
 import static java.lang.reflect.Array.getLength;
-import static java.util.stream.Collectors.toList;
+import static java.util.Arrays.asList;
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.isArrayTypePrimitive;
 import static org.assertj.core.util.Arrays.isObjectArray;
@@ -23,14 +25,15 @@ import static org.assertj.core.util.Arrays.notAnArrayOfPrimitives;
 import static org.assertj.core.util.DateUtil.formatAsDatetime;
 import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
 import static org.assertj.core.util.Preconditions.checkArgument;
-import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.core.util.Throwables.getStackTrace;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.text.SimpleDateFormat;
@@ -39,17 +42,24 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -62,8 +72,9 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.IntFunction;
 
 import org.assertj.core.configuration.Configuration;
 import org.assertj.core.configuration.ConfigurationProvider;
@@ -75,6 +86,8 @@ import org.assertj.core.util.VisibleForTesting;
 import org.assertj.core.util.diff.ChangeDelta;
 import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.SummaryDelta;
+import org.assertj.core.util.diff.TruncationDelta;
 
 /**
  * Standard java object representation.
@@ -108,8 +121,28 @@ public class StandardRepresentation implements Representation {
   private static int maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private static int maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
   private static int maxStackTraceElementsDisplayed = Configuration.MAX_STACKTRACE_ELEMENTS_DISPLAYED;
-
-  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new HashMap<>();
+  private static int maxLengthForErrorMessageValues = Configuration.MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES;
+
+  private static final Map<Class<?>, Function<?, String>> customFormatterByType = new ConcurrentHashMap<>();
+  // formatter to use for each type among the registered ones, replaced whenever they change
+  private static volatile ClassValue<Optional<Function<?, String>>> customFormatterResolver = newCustomFormatterResolver();
+  // how to represent the instances of each type
+  private static final ClassValue<ValueType> VALUE_TYPES = new ClassValue<ValueType>() {
+    @Override
+    protected ValueType computeValue(Class<?> type) {
+      return ValueType.of(type);
+    }
+  };
+  // whether the representations of each class format arrays, iterables, maps and tuples like this class, see append
+  private static final ClassValue<Boolean> FORMATS_GROUPS_AS_STANDARD = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> representationClass) {
+      for (Class<?> type = representationClass; type != StandardRepresentation.class; type = type.getSuperclass()) {
+        if (overridesGroupFormatting(type)) return false;
+      }
+      return true;
+    }
+  };
   private static final Class<?>[] TYPE_WITH_UNAMBIGUOUS_REPRESENTATION = { Date.class, LocalDateTime.class, ZonedDateTime.class,
       OffsetDateTime.class, Calendar.class };
 
@@ -134,11 +167,13 @@ public class StandardRepresentation implements Representation {
    * <ul>
    *   <li>{@code maxLengthForSingleLineDescription} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION} </li>
    *   <li>{@code maxElementsForPrinting} = {@value org.assertj.core.configuration.Configuration#MAX_ELEMENTS_FOR_PRINTING} </li>
+   *   <li>{@code maxLengthForErrorMessageValues} = {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES} </li>
    * </ul>
    */
   public static void resetDefaults() {
     maxLengthForSingleLineDescription = Configuration.MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
     maxElementsForPrinting = Configuration.MAX_ELEMENTS_FOR_PRINTING;
+    maxLengthForErrorMessageValues = Configuration.MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES;
   }
 
   public static void setMaxLengthForSingleLineDescription(int value) {
@@ -174,8 +209,33 @@ public class StandardRepresentation implements Representation {
     return maxElementsForPrinting;
   }
 
+  /**
+   * Sets the maximum number of characters used to represent all the values of an assertion error message, the
+   * representation of the values is ended with {@code "..."} when it is reached (default is
+   * {@value org.assertj.core.configuration.Configuration#MAX_LENGTH_FOR_ERROR_MESSAGE_VALUES}).
+   * <p>
+   * The values are formatted with {@link #appendTo(Appendable, Object, int, int)} which stops formatting once this
+   * length is reached, this prevents a failing assertion on a huge object graph from running out of memory.
+   *
+   * @param value the maximum number of characters used to represent the values of an assertion error message.
+   * @throws IllegalArgumentException if the given value is negative.
+   * @since 3.23.0
+   */
+  public static void setMaxLengthForErrorMessageValues(int value) {
+    ConfigurationProvider.loadRegisteredConfiguration();
+    checkArgument(value >= 0, "maxLengthForErrorMessageValues must be >= 0 but was %s", value);
+    maxLengthForErrorMessageValues = value;
+  }
+
+  public static int getMaxLengthForErrorMessageValues() {
+    return maxLengthForErrorMessageValues;
+  }
+
   /**
    * Registers new formatter for the given type. All instances of the given type will be formatted with the provided formatter.
+   * <p>
+   * The formatter is also used for the instances of the subtypes of the given type, unless a formatter is registered for
+   * a closer supertype: the superclasses are looked up from the closest one, then the interfaces breadth-first.
    *
    * @param <T> the type to register a formatter for
    * @param type the class of the type to register a formatter for
@@ -183,6 +243,7 @@ public class StandardRepresentation implements Representation {
    */
   public static <T> void registerFormatterForType(Class<T> type, Function<T, String> formatter) {
     customFormatterByType.put(type, formatter);
+    customFormatterResolver = newCustomFormatterResolver();
   }
 
   /**
@@ -190,6 +251,43 @@ public class StandardRepresentation implements Representation {
    */
   public static void removeAllRegisteredFormatters() {
     customFormatterByType.clear();
+    customFormatterResolver = newCustomFormatterResolver();
+  }
+
+  private static ClassValue<Optional<Function<?, String>>> newCustomFormatterResolver() {
+    return new ClassValue<Optional<Function<?, String>>>() {
+      @Override
+      protected Optional<Function<?, String>> computeValue(Class<?> type) {
+        return Optional.ofNullable(closestCustomFormatterOf(type));
+      }
+    };
+  }
+
+  // the formatter registered for the type or else for its closest superclass or else for the first of its interfaces found
+  // breadth-first, starting with the interfaces of the type and then the ones of its superclasses.
+  private static Function<?, String> closestCustomFormatterOf(Class<?> type) {
+    for (Class<?> superclass = type; superclass != null; superclass = superclass.getSuperclass()) {
+      Function<?, String> formatter = customFormatterByType.get(superclass);
+      if (formatter != null) return formatter;
+    }
+    Deque<Class<?>> interfacesToVisit = new ArrayDeque<>();
+    for (Class<?> superclass = type; superclass != null; superclass = superclass.getSuperclass()) {
+      interfacesToVisit.addAll(asList(superclass.getInterfaces()));
+    }
+    Set<Class<?>> visitedInterfaces = new HashSet<>();
+    while (!interfacesToVisit.isEmpty()) {
+      Class<?> anInterface = interfacesToVisit.removeFirst();
+      if (!visitedInterfaces.add(anInterface)) continue;
+      Function<?, String> formatter = customFormatterByType.get(anInterface);
+      if (formatter != null) return formatter;
+      interfacesToVisit.addAll(asList(anInterface.getInterfaces()));
+    }
+    return null;
+  }
+
+  private static Function<?, String> customFormatterOf(Object object) {
+    if (object == null || customFormatterByType.isEmpty()) return null;
+    return customFormatterResolver.get(object.getClass()).orElse(null);
   }
 
   /**
@@ -203,57 +301,187 @@ public class StandardRepresentation implements Representation {
   public String toStringOf(Object object) {
     if (object == null) return null;
     if (hasCustomFormatterFor(object)) return customFormat(object);
-    if (object instanceof ComparatorBasedComparisonStrategy) return toStringOf((ComparatorBasedComparisonStrategy) object);
-    if (object instanceof Calendar) return toStringOf((Calendar) object);
-    if (object instanceof Class<?>) return toStringOf((Class<?>) object);
-    if (object instanceof Date) return toStringOf((Date) object);
-    if (object instanceof Duration) return toStringOf((Duration) object);
-    if (object instanceof LocalDate) return toStringOf((LocalDate) object);
-    if (object instanceof LocalDateTime) return toStringOf((LocalDateTime) object);
-    if (object instanceof OffsetDateTime) return toStringOf((OffsetDateTime) object);
-    if (object instanceof ZonedDateTime) return toStringOf((ZonedDateTime) object);
-    if (object instanceof LongAdder) return toStringOf((LongAdder) object);
-    // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
-    // representation, if that's not the case (e.g. an AtomicReference subclass not overriding String) we use our representation.
-    if (isInstanceOfNotOverridingToString(object, AtomicReference.class)) return toStringOf((AtomicReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicMarkableReference.class))
+    switch (VALUE_TYPES.get(object.getClass())) {
+    case COMPARISON_STRATEGY:
+      return toStringOf((ComparatorBasedComparisonStrategy) object);
+    case CALENDAR:
+      return toStringOf((Calendar) object);
+    case CLASS:
+      return toStringOf((Class<?>) object);
+    case DATE:
+      return toStringOf((Date) object);
+    case DURATION:
+      return toStringOf((Duration) object);
+    case LOCAL_DATE:
+      return toStringOf((LocalDate) object);
+    case LOCAL_DATE_TIME:
+      return toStringOf((LocalDateTime) object);
+    case OFFSET_DATE_TIME:
+      return toStringOf((OffsetDateTime) object);
+    case ZONED_DATE_TIME:
+      return toStringOf((ZonedDateTime) object);
+    case LONG_ADDER:
+      return toStringOf((LongAdder) object);
+    case ATOMIC_REFERENCE:
+      return toStringOf((AtomicReference<?>) object);
+    case ATOMIC_MARKABLE_REFERENCE:
       return toStringOf((AtomicMarkableReference<?>) object);
-    if (isInstanceOfNotOverridingToString(object, AtomicStampedReference.class))
+    case ATOMIC_STAMPED_REFERENCE:
       return toStringOf((AtomicStampedReference<?>) object);
-    if (object instanceof AtomicIntegerFieldUpdater) return AtomicIntegerFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicLongFieldUpdater) return AtomicLongFieldUpdater.class.getSimpleName();
-    if (object instanceof AtomicReferenceFieldUpdater) return AtomicReferenceFieldUpdater.class.getSimpleName();
-    if (object instanceof File) return toStringOf((File) object);
-    if (object instanceof Path) return fallbackToStringOf(object);
-    if (object instanceof String) return toStringOf((String) object);
-    if (object instanceof Character) return toStringOf((Character) object);
-    if (object instanceof Comparator) return toStringOf((Comparator<?>) object);
-    if (object instanceof SimpleDateFormat) return toStringOf((SimpleDateFormat) object);
-    if (object instanceof PredicateDescription) return toStringOf((PredicateDescription) object);
-    if (object instanceof Future) return toStringOf((Future<?>) object);
-    if (isArray(object)) return formatArray(object);
-    if (object instanceof Collection<?>) return smartFormat((Collection<?>) object);
-    if (object instanceof Map<?, ?>) return toStringOf((Map<?, ?>) object);
-    if (object instanceof Tuple) return toStringOf((Tuple) object);
-    if (object instanceof Map.Entry) return toStringOf((Map.Entry<?, ?>) object);
-    if (object instanceof Method) return ((Method) object).toGenericString();
-    if (object instanceof InsertDelta<?>) return toStringOf((InsertDelta<?>) object);
-    if (object instanceof ChangeDelta<?>) return toStringOf((ChangeDelta<?>) object);
-    if (object instanceof DeleteDelta<?>) return toStringOf((DeleteDelta<?>) object);
-    // Only format Iterables that are not collections and have not overridden toString
-    // ex: JsonNode is an Iterable that is best formatted with its own String
-    // Path is another example but we can deal with it specifically as it is part of the JDK.
-    if (object instanceof Iterable<?> && !hasOverriddenToString(object.getClass())) return smartFormat((Iterable<?>) object);
-    if (object instanceof AtomicInteger) return toStringOf((AtomicInteger) object);
-    if (object instanceof AtomicBoolean) return toStringOf((AtomicBoolean) object);
-    if (object instanceof AtomicLong) return toStringOf((AtomicLong) object);
-    if (object instanceof Number) return toStringOf((Number) object);
-    if (object instanceof Throwable) return toStringOf((Throwable) object);
-    return fallbackToStringOf(object);
-  }
-
-  private static boolean isInstanceOfNotOverridingToString(Object object, Class<?> type) {
-    return type.isInstance(object) && !hasOverriddenToStringInSubclassOf(object.getClass(), type);
+    case ATOMIC_INTEGER_FIELD_UPDATER:
+      return AtomicIntegerFieldUpdater.class.getSimpleName();
+    case ATOMIC_LONG_FIELD_UPDATER:
+      return AtomicLongFieldUpdater.class.getSimpleName();
+    case ATOMIC_REFERENCE_FIELD_UPDATER:
+      return AtomicReferenceFieldUpdater.class.getSimpleName();
+    case FILE:
+      return toStringOf((File) object);
+    case STRING:
+      return toStringOf((String) object);
+    case CHARACTER:
+      return toStringOf((Character) object);
+    case COMPARATOR:
+      return toStringOf((Comparator<?>) object);
+    case SIMPLE_DATE_FORMAT:
+      return toStringOf((SimpleDateFormat) object);
+    case PREDICATE_DESCRIPTION:
+      return toStringOf((PredicateDescription) object);
+    case FUTURE:
+      return toStringOf((Future<?>) object);
+    case ARRAY:
+      return formatArray(object);
+    case COLLECTION:
+      return smartFormat((Collection<?>) object);
+    case MAP:
+      return toStringOf((Map<?, ?>) object);
+    case TUPLE:
+      return toStringOf((Tuple) object);
+    case MAP_ENTRY:
+      return toStringOf((Map.Entry<?, ?>) object);
+    case METHOD:
+      return ((Method) object).toGenericString();
+    case INSERT_DELTA:
+      return toStringOf((InsertDelta<?>) object);
+    case SUMMARY_DELTA:
+      return toStringOf((SummaryDelta<?>) object);
+    case TRUNCATION_DELTA:
+      return toStringOf((TruncationDelta<?>) object);
+    case CHANGE_DELTA:
+      return toStringOf((ChangeDelta<?>) object);
+    case DELETE_DELTA:
+      return toStringOf((DeleteDelta<?>) object);
+    case ITERABLE:
+      return smartFormat((Iterable<?>) object);
+    case ATOMIC_INTEGER:
+      return toStringOf((AtomicInteger) object);
+    case ATOMIC_BOOLEAN:
+      return toStringOf((AtomicBoolean) object);
+    case ATOMIC_LONG:
+      return toStringOf((AtomicLong) object);
+    case NUMBER:
+      return toStringOf((Number) object);
+    case THROWABLE:
+      return toStringOf((Throwable) object);
+    default:
+      // Path and the types without specific representation
+      return fallbackToStringOf(object);
+    }
+  }
+
+  /**
+   * The different ways of representing values, resolved once per type as the checks, some of them reflective, only depend
+   * on the type of the values. The order of the checks matters for the types that are subtypes of several of the checked
+   * ones.
+   */
+  private enum ValueType {
+    COMPARISON_STRATEGY, CALENDAR, CLASS, DATE, DURATION, LOCAL_DATE, LOCAL_DATE_TIME, OFFSET_DATE_TIME, ZONED_DATE_TIME,
+    LONG_ADDER, ATOMIC_REFERENCE, ATOMIC_MARKABLE_REFERENCE, ATOMIC_STAMPED_REFERENCE, ATOMIC_INTEGER_FIELD_UPDATER,
+    ATOMIC_LONG_FIELD_UPDATER, ATOMIC_REFERENCE_FIELD_UPDATER, FILE, PATH, STRING, CHARACTER, COMPARATOR, SIMPLE_DATE_FORMAT,
+    PREDICATE_DESCRIPTION, FUTURE, ARRAY, COLLECTION, MAP, TUPLE, MAP_ENTRY, METHOD, INSERT_DELTA, SUMMARY_DELTA, TRUNCATION_DELTA,
+    CHANGE_DELTA, DELETE_DELTA, ITERABLE, ATOMIC_INTEGER, ATOMIC_BOOLEAN, ATOMIC_LONG, NUMBER, THROWABLE, OTHER;
+
+    private static ValueType of(Class<?> type) {
+      if (ComparatorBasedComparisonStrategy.class.isAssignableFrom(type)) return COMPARISON_STRATEGY;
+      if (Calendar.class.isAssignableFrom(type)) return CALENDAR;
+      if (type == Class.class) return CLASS;
+      if (Date.class.isAssignableFrom(type)) return DATE;
+      if (type == Duration.class) return DURATION;
+      if (type == LocalDate.class) return LOCAL_DATE;
+      if (type == LocalDateTime.class) return LOCAL_DATE_TIME;
+      if (type == OffsetDateTime.class) return OFFSET_DATE_TIME;
+      if (type == ZonedDateTime.class) return ZONED_DATE_TIME;
+      if (LongAdder.class.isAssignableFrom(type)) return LONG_ADDER;
+      // if object was a subtype of any atomic type overriding toString, use it as it's more relevant than our generic
+      // representation, if that's not the case (e.g. an AtomicReference subclass not overriding String) we use our
+      // representation.
+      if (isSubtypeNotOverridingToString(type, AtomicReference.class)) return ATOMIC_REFERENCE;
+      if (isSubtypeNotOverridingToString(type, AtomicMarkableReference.class)) return ATOMIC_MARKABLE_REFERENCE;
+      if (isSubtypeNotOverridingToString(type, AtomicStampedReference.class)) return ATOMIC_STAMPED_REFERENCE;
+      if (AtomicIntegerFieldUpdater.class.isAssignableFrom(type)) return ATOMIC_INTEGER_FIELD_UPDATER;
+      if (AtomicLongFieldUpdater.class.isAssignableFrom(type)) return ATOMIC_LONG_FIELD_UPDATER;
+      if (AtomicReferenceFieldUpdater.class.isAssignableFrom(type)) return ATOMIC_REFERENCE_FIELD_UPDATER;
+      if (File.class.isAssignableFrom(type)) return FILE;
+      if (Path.class.isAssignableFrom(type)) return PATH;
+      if (type == String.class) return STRING;
+      if (type == Character.class) return CHARACTER;
+      if (Comparator.class.isAssignableFrom(type)) return COMPARATOR;
+      if (SimpleDateFormat.class.isAssignableFrom(type)) return SIMPLE_DATE_FORMAT;
+      if (PredicateDescription.class.isAssignableFrom(type)) return PREDICATE_DESCRIPTION;
+      if (Future.class.isAssignableFrom(type)) return FUTURE;
+      if (type.isArray()) return ARRAY;
+      if (Collection.class.isAssignableFrom(type)) return COLLECTION;
+      if (Map.class.isAssignableFrom(type)) return MAP;
+      if (Tuple.class.isAssignableFrom(type)) return TUPLE;
+      if (Map.Entry.class.isAssignableFrom(type)) return MAP_ENTRY;
+      if (type == Method.class) return METHOD;
+      if (InsertDelta.class.isAssignableFrom(type)) return INSERT_DELTA;
+      if (SummaryDelta.class.isAssignableFrom(type)) return SUMMARY_DELTA;
+      if (TruncationDelta.class.isAssignableFrom(type)) return TRUNCATION_DELTA;
+      if (ChangeDelta.class.isAssignableFrom(type)) return CHANGE_DELTA;
+      if (DeleteDelta.class.isAssignableFrom(type)) return DELETE_DELTA;
+      // Only format Iterables that are not collections and have not overridden toString
+      // ex: JsonNode is an Iterable that is best formatted with its own String
+      // Path is another example but we can deal with it specifically as it is part of the JDK.
+      if (Iterable.class.isAssignableFrom(type) && !hasOverriddenToString(type)) return ITERABLE;
+      if (AtomicInteger.class.isAssignableFrom(type)) return ATOMIC_INTEGER;
+      if (AtomicBoolean.class.isAssignableFrom(type)) return ATOMIC_BOOLEAN;
+      if (AtomicLong.class.isAssignableFrom(type)) return ATOMIC_LONG;
+      if (Number.class.isAssignableFrom(type)) return NUMBER;
+      if (Throwable.class.isAssignableFrom(type)) return THROWABLE;
+      return OTHER;
+    }
+  }
+
+  // the methods used by toStringOf to format arrays, iterables, maps and tuples, or toStringOf itself
+  private static boolean overridesGroupFormatting(Class<?> type) {
+    return declaresMethod(type, "toStringOf", Object.class)
+           || declaresMethod(type, "toStringOf", Map.class)
+           || declaresMethod(type, "toStringOf", Tuple.class)
+           || declaresMethod(type, "smartFormat", Iterable.class)
+           || declaresMethod(type, "smartFormat", Object[].class)
+           || declaresMethod(type, "formatArray", Object.class)
+           || declaresMethod(type, "formatPrimitiveArray", Object.class)
+           || declaresMethod(type, "multiLineFormat", Iterable.class)
+           || declaresMethod(type, "multiLineFormat", Object[].class, Object.class)
+           || declaresMethod(type, "singleLineFormat", Iterable.class, String.class, String.class)
+           || declaresMethod(type, "singleLineFormat", Object[].class, Object.class)
+           || declaresMethod(type, "format", Iterable.class, String.class, String.class, String.class, String.class, Object.class)
+           || declaresMethod(type, "format", Object[].class, String.class, String.class, String.class, String.class, Object.class)
+           || declaresMethod(type, "safeStringOf", Object.class, String.class, String.class, String.class, String.class,
+                             Object.class);
+  }
+
+  private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+    try {
+      type.getDeclaredMethod(name, parameterTypes);
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static boolean isSubtypeNotOverridingToString(Class<?> objectClass, Class<?> type) {
+    return type.isAssignableFrom(objectClass) && !hasOverriddenToStringInSubclassOf(objectClass, type);
   }
 
   private static boolean hasOverriddenToString(Class<?> clazz) {
@@ -308,12 +536,11 @@ public class StandardRepresentation implements Representation {
   @SuppressWarnings("unchecked")
   protected <T> String customFormat(T object) {
     if (object == null) return null;
-    return ((Function<T, String>) customFormatterByType.get(object.getClass())).apply(object);
+    return ((Function<T, String>) customFormatterOf(object)).apply(object);
   }
 
   protected boolean hasCustomFormatterFor(Object object) {
-    if (object == null) return false;
-    return customFormatterByType.containsKey(object.getClass());
+    return customFormatterOf(object) != null;
   }
 
   /**
@@ -555,8 +782,8 @@ public class StandardRepresentation implements Representation {
    * @return the {@code String} representation of the given {@code Iterable}.
    */
   protected String smartFormat(Iterable<?> iterable) {
-    String singleLineDescription = singleLineFormat(iterable, DEFAULT_START, DEFAULT_END);
-    return doesDescriptionFitOnSingleLine(singleLineDescription) ? singleLineDescription : multiLineFormat(iterable);
+    if (iterable == null) return null;
+    return smartFormat(represent(printedElementsOf(iterable), iterable));
   }
 
   /**
@@ -572,14 +799,14 @@ public class StandardRepresentation implements Representation {
   }
 
   protected String smartFormat(Object[] array) {
-    String description = singleLineFormat(array, array);
-    return doesDescriptionFitOnSingleLine(description) ? description : multiLineFormat(array, array);
+    if (array == null) return null;
+    return smartFormat(represent(printedElementsOfArray(array), array));
   }
 
   protected String formatPrimitiveArray(Object o) {
     if (!isArrayTypePrimitive(o)) throw notAnArrayOfPrimitives(o);
-    Object[] array = toObjectArray(o);
-    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, array);
+    PrintedElements<String> representedElements = represent(printedElementsOfArray(o), o);
+    return representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE);
   }
 
   protected String multiLineFormat(Object[] array, Object root) {
@@ -593,17 +820,17 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    List<String> representedElements = representElements(Stream.of(array), start, end, elementSeparator, indentation, root);
+    PrintedElements<String> representedElements = represent(printedElementsOfArray(array), start, end, elementSeparator,
+                                                            indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
   protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
                           Object root) {
     if (iterable == null) return null;
-    Iterator<?> iterator = iterable.iterator();
-    if (!iterator.hasNext()) return start + end;
     // alreadyVisited is used to avoid infinite recursion when one element is a container already visited
-    List<String> representedElements = representElements(stream(iterable), start, end, elementSeparator, indentation, root);
+    PrintedElements<String> representedElements = represent(printedElementsOf(iterable), start, end, elementSeparator,
+                                                            indentation, root);
     return representGroup(representedElements, start, end, elementSeparator, indentation);
   }
 
@@ -620,35 +847,163 @@ public class StandardRepresentation implements Representation {
     return element == null ? NULL : toStringOf(element);
   }
 
+  /**
+   * Appends the representation of the given object to the given {@link Appendable} while formatting it, writing at most
+   * {@code maxLength} characters and the representation of at most {@code maxElements} elements of the arrays, iterables,
+   * maps and tuples it contains at any nesting level. Formatting stops as soon as one of these limits is reached, the
+   * representation is then ended with {@code "..."}.
+   * <p>
+   * Arrays, iterables, maps and tuples are formatted like {@link #toStringOf(Object)} does but element by element, and their
+   * elements that are not displayed because of {@link #setMaxElementsForPrinting(int) maxElementsForPrinting} are never
+   * represented. This allows to represent huge nested structures within bounded memory. The other values are represented
+   * with {@link #toStringOf(Object)}.
+   * <p>
+   * Subclasses overriding {@link #toStringOf(Object)} or any of the methods formatting arrays, iterables, maps or tuples
+   * get the representation computed by {@link #toStringOf(Object)}, truncated to {@code maxLength} characters.
+   * <p>
+   * Example:
+   * <pre><code class='java'> StringBuilder builder = new StringBuilder();
+   * STANDARD_REPRESENTATION.appendTo(builder, list(list(1, 2, 3), list(4, 5, 6)), 1000, 6);
+   * // builder contains "[[1, 2, 3], [4, ..." as the two inner lists and 4 of their elements were represented</code></pre>
+   *
+   * @param output the {@link Appendable} to write the representation to.
+   * @param object the object to represent.
+   * @param maxLength the maximum number of characters to write, not counting the final {@code "..."}.
+   * @param maxElements the maximum number of elements to represent.
+   * @throws NullPointerException if the given output is {@code null}.
+   * @throws IllegalArgumentException if {@code maxLength} or {@code maxElements} is negative.
+   * @throws UncheckedIOException if writing to the given output fails.
+   * @since 3.23.0
+   */
+  public void appendTo(Appendable output, Object object, int maxLength, int maxElements) {
+    requireNonNull(output, "The output to write the representation to should not be null");
+    checkArgument(maxLength >= 0, "maxLength must be >= 0 but was %s", maxLength);
+    checkArgument(maxElements >= 0, "maxElements must be >= 0 but was %s", maxElements);
+    append(new BoundedOutput(output, maxLength, maxElements), object);
+  }
+
   // private methods
 
-  private List<String> representElements(Stream<?> elements, String start, String end, String elementSeparator,
-                                         String indentation, Object root) {
-    return elements.map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root))
-                   .collect(toList());
-  }
-
-  // this method only deals with max number of elements to display, the elements representation is already computed
-  private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
-                                       String indentation) {
-    int size = representedElements.size();
-    StringBuilder desc = new StringBuilder(start);
-    if (size <= maxElementsForPrinting) {
-      // display all elements
-      for (int i = 0; i < size; i++) {
-        if (i != 0) desc.append(indentation);
-        desc.append(representedElements.get(i));
-        if (i != size - 1) desc.append(elementSeparator);
+  private void append(BoundedOutput output, Object object) {
+    if (output.isExhausted()) return;
+    if (object == null) {
+      output.append(NULL);
+      return;
+    }
+    if (!hasCustomFormatterFor(object) && FORMATS_GROUPS_AS_STANDARD.get(getClass())) {
+      switch (VALUE_TYPES.get(object.getClass())) {
+      case ARRAY:
+        if (isObjectArray(object)) appendSmartly(output, printedElementsOfArray(object), object);
+        else appendGroup(output, printedElementsOfArray(object), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                         INDENTATION_FOR_SINGLE_LINE, elementAppender(object));
+        return;
+      case COLLECTION:
+      case ITERABLE:
+        appendSmartly(output, printedElementsOf((Iterable<?>) object), object);
+        return;
+      case MAP:
+        append(output, (Map<?, ?>) object);
+        return;
+      case TUPLE:
+        appendGroup(output, printedElementsOf(((Tuple) object).toList()), TUPLE_START, TUPLE_END, ELEMENT_SEPARATOR,
+                    INDENTATION_FOR_SINGLE_LINE, elementAppender(object));
+        return;
+      default:
+        break;
       }
-      return desc.append(end).toString();
     }
-    // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
-    // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
-    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
-    for (int i = 0; i < maxFirstElementsToPrint; i++) {
-      desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+    output.append(String.valueOf(toStringOf(object)));
+  }
+
+  private void appendSmartly(BoundedOutput output, PrintedElements<Object> printedElements, Object root) {
+    // the single line format is only used when it is short enough, there is no need to go further to find out
+    BoundedOutput singleLineOutput = output.lookahead(maxLengthForSingleLineDescription);
+    appendGroup(singleLineOutput, printedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE,
+                elementAppender(root));
+    if (!singleLineOutput.isLengthExceeded()) output.append(singleLineOutput);
+    else appendGroup(output, printedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE,
+                     INDENTATION_AFTER_NEWLINE, elementAppender(root));
+  }
+
+  private BiConsumer<BoundedOutput, Object> elementAppender(Object root) {
+    return (output, element) -> {
+      if (element == root) output.append(isArray(root) ? "(this array)" : "(this instance)");
+      else append(output, element);
+    };
+  }
+
+  private void append(BoundedOutput output, Map<?, ?> map) {
+    Iterator<? extends Entry<?, ?>> entriesIterator = toSortedMapIfPossible(map).entrySet().iterator();
+    output.append("{");
+    for (int printedElements = 0; entriesIterator.hasNext() && !output.isExhausted(); printedElements++) {
+      if (printedElements != 0) output.append(", ");
+      if (printedElements == maxElementsForPrinting) {
+        output.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+        break;
+      }
+      if (!output.startElement()) return;
+      Entry<?, ?> entry = entriesIterator.next();
+      append(output, map, entry.getKey());
+      output.append("=");
+      append(output, map, entry.getValue());
     }
-    desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+    output.append("}");
+  }
+
+  private void append(BoundedOutput output, Map<?, ?> map, Object o) {
+    if (o == map) output.append("(this Map)");
+    else append(output, o);
+  }
+
+  private PrintedElements<String> represent(PrintedElements<Object> printedElements, Object root) {
+    return represent(printedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, root);
+  }
+
+  private PrintedElements<String> represent(PrintedElements<Object> printedElements, String start, String end,
+                                            String elementSeparator, String indentation, Object root) {
+    return printedElements.map(element -> safeStringOf(element, start, end, elementSeparator, indentation, root));
+  }
+
+  // the elements are represented once for both the single line and multiple lines formats
+  private static String smartFormat(PrintedElements<String> representedElements) {
+    String singleLineDescription = representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR,
+                                                  INDENTATION_FOR_SINGLE_LINE);
+    return doesDescriptionFitOnSingleLine(singleLineDescription)
+        ? singleLineDescription
+        : representGroup(representedElements, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR_WITH_NEWLINE,
+                         INDENTATION_AFTER_NEWLINE);
+  }
+
+  // this method only deals with the layout of the elements, their representation is already computed
+  private static String representGroup(PrintedElements<String> representedElements, String start, String end,
+                                       String elementSeparator, String indentation) {
+    StringBuilder desc = new StringBuilder();
+    appendGroup(new BoundedOutput(desc, Integer.MAX_VALUE, Integer.MAX_VALUE), representedElements, start, end,
+                elementSeparator, indentation, BoundedOutput::append);
+    return desc.toString();
+  }
+
+  private static <T> void appendGroup(BoundedOutput output, PrintedElements<T> printedElements, String start, String end,
+                                      String elementSeparator, String indentation,
+                                      BiConsumer<BoundedOutput, T> elementAppender) {
+    output.append(start);
+    List<T> elements = printedElements.elements;
+    for (int i = 0; i < elements.size() && !output.isExhausted(); i++) {
+      if (i != 0) output.append(elementSeparator).append(indentation);
+      if (printedElements.isTruncatedBefore(i)) appendMaxElementsExceeded(output, elementSeparator, indentation);
+      if (!output.startElement()) return;
+      elementAppender.accept(output, elements.get(i));
+    }
+    if (printedElements.isTruncatedBefore(elements.size())) {
+      output.append(elementSeparator).append(indentation);
+      appendMaxElementsExceeded(output, elementSeparator, "");
+    }
+    output.append(end);
+  }
+
+  // we can't display all elements, the first and last ones are separated by DEFAULT_MAX_ELEMENTS_EXCEEDED
+  private static void appendMaxElementsExceeded(BoundedOutput output, String elementSeparator, String indentation) {
+    output.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
     if (elementSeparator.contains(System.lineSeparator())) {
       // we just want a new line after DEFAULT_MAX_ELEMENTS_EXCEEDED but no char separator ','
@@ -660,15 +1015,173 @@ public class StandardRepresentation implements Representation {
       // first elements,
       // ...,
       // last elements
-      desc.append(System.lineSeparator());
+      output.append(System.lineSeparator());
+    } else if (indentation.isEmpty()) {
+      return;
+    }
+    output.append(indentation);
+  }
+
+  private static PrintedElements<Object> printedElementsOfArray(Object array) {
+    int length = getLength(array);
+    return PrintedElements.byIndex(length, min(length, maxElementsForPrinting), index -> get(array, index));
+  }
+
+  private static PrintedElements<Object> printedElementsOf(Iterable<?> iterable) {
+    if (iterable instanceof List && iterable instanceof RandomAccess) {
+      List<?> list = (List<?>) iterable;
+      return PrintedElements.byIndex(list.size(), min(list.size(), maxElementsForPrinting), list::get);
+    }
+    return PrintedElements.of(iterable.iterator(), maxElementsForPrinting);
+  }
+
+  /**
+   * The elements of a group that are represented: all of them or, when there are more than
+   * {@code maxElementsForPrinting}, the first and last ones. The elements that are not displayed are never kept.
+   */
+  private static final class PrintedElements<T> {
+
+    private final List<T> elements;
+    // number of elements displayed before DEFAULT_MAX_ELEMENTS_EXCEEDED, only relevant if truncated
+    private final int firstElementsCount;
+    private final boolean truncated;
+
+    private PrintedElements(List<T> elements, int firstElementsCount, boolean truncated) {
+      this.elements = elements;
+      this.firstElementsCount = firstElementsCount;
+      this.truncated = truncated;
+    }
+
+    // if maxElements is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
+    private static PrintedElements<Object> byIndex(int size, int maxElements, IntFunction<?> elementAt) {
+      boolean truncated = size > maxElements;
+      int firstElementsCount = truncated ? (maxElements + 1) / 2 : size;
+      List<Object> elements = new ArrayList<>(maxElements);
+      for (int i = 0; i < firstElementsCount; i++) {
+        elements.add(elementAt.apply(i));
+      }
+      for (int i = size - (maxElements - firstElementsCount); truncated && i < size; i++) {
+        elements.add(elementAt.apply(i));
+      }
+      return new PrintedElements<>(elements, firstElementsCount, truncated);
     }
-    // display last elements
-    int maxLastElementsToPrint = maxElementsForPrinting / 2;
-    for (int i = size - maxLastElementsToPrint; i < size; i++) {
-      if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
-      desc.append(indentation).append(representedElements.get(i));
+
+    private static PrintedElements<Object> of(Iterator<?> iterator, int maxElements) {
+      int maxFirstElements = (maxElements + 1) / 2;
+      int maxLastElements = maxElements / 2;
+      List<Object> elements = new ArrayList<>();
+      while (elements.size() < maxFirstElements && iterator.hasNext()) {
+        elements.add(iterator.next());
+      }
+      // the last elements are kept in a circular buffer, next is the index of the oldest one when it is full
+      List<Object> lastElements = new ArrayList<>();
+      int next = 0;
+      boolean truncated = false;
+      while (iterator.hasNext()) {
+        Object element = iterator.next();
+        if (lastElements.size() < maxLastElements) {
+          lastElements.add(element);
+        } else {
+          truncated = true;
+          if (maxLastElements == 0) continue;
+          lastElements.set(next, element);
+          next = (next + 1) % maxLastElements;
+        }
+      }
+      int firstElementsCount = elements.size();
+      elements.addAll(lastElements.subList(next, lastElements.size()));
+      elements.addAll(lastElements.subList(0, next));
+      return new PrintedElements<>(elements, firstElementsCount, truncated);
+    }
+
+    private <R> PrintedElements<R> map(Function<T, R> mapper) {
+      List<R> mappedElements = new ArrayList<>(elements.size());
+      for (T element : elements) {
+        mappedElements.add(mapper.apply(element));
+      }
+      return new PrintedElements<>(mappedElements, firstElementsCount, truncated);
+    }
+
+    private boolean isTruncatedBefore(int index) {
+      return truncated && index == firstElementsCount;
+    }
+  }
+
+  /**
+   * Writes to an {@link Appendable} until the given number of characters or elements is reached, then ends the output with
+   * {@code DEFAULT_MAX_ELEMENTS_EXCEEDED} and ignores what is appended next.
+   */
+  private static final class BoundedOutput {
+
+    private final Appendable output;
+    private int remainingLength;
+    private int remainingElements;
+    private boolean lengthExceeded;
+    private boolean exhausted;
+
+    private BoundedOutput(Appendable output, int maxLength, int maxElements) {
+      this.output = output;
+      this.remainingLength = maxLength;
+      this.remainingElements = maxElements;
+    }
+
+    private BoundedOutput append(String s) {
+      if (exhausted) return this;
+      if (s.length() <= remainingLength) {
+        write(s);
+        remainingLength -= s.length();
+      } else {
+        write(s.substring(0, remainingLength));
+        lengthExceeded = true;
+        stop();
+      }
+      return this;
+    }
+
+    // called before appending an element, returns false if there is no room for it
+    private boolean startElement() {
+      if (exhausted) return false;
+      if (remainingElements == 0) {
+        stop();
+        return false;
+      }
+      remainingElements--;
+      return true;
+    }
+
+    // an output to try a format on, appended to this one only if it is kept
+    private BoundedOutput lookahead(int maxLength) {
+      return new BoundedOutput(new StringBuilder(), maxLength, remainingElements);
+    }
+
+    private void append(BoundedOutput lookahead) {
+      append(lookahead.output.toString());
+      if (exhausted) return;
+      remainingElements = lookahead.remainingElements;
+      // the lookahead output already ends with DEFAULT_MAX_ELEMENTS_EXCEEDED
+      exhausted = lookahead.exhausted;
+    }
+
+    private boolean isLengthExceeded() {
+      return lengthExceeded;
+    }
+
+    private boolean isExhausted() {
+      return exhausted;
+    }
+
+    private void stop() {
+      write(DEFAULT_MAX_ELEMENTS_EXCEEDED);
+      exhausted = true;
+    }
+
+    private void write(String s) {
+      try {
+        output.append(s);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
     }
-    return desc.append(end).toString();
   }
 
   private String toStringOf(ChangeDelta<?> changeDelta) {
@@ -678,6 +1191,16 @@ public class StandardRepresentation implements Representation {
                          formatLines(changeDelta.getRevised().getLines()));
   }
 
+  private String toStringOf(SummaryDelta<?> summaryDelta) {
+    return String.format("Changed content at line %s: %s lines differ, too many differences to list them%n",
+                         summaryDelta.lineNumber(), summaryDelta.differentLinesCount());
+  }
+
+  private String toStringOf(TruncationDelta<?> truncationDelta) {
+    return String.format("Differences from line %s on are not reported, only %s lines from the first difference were compared%n",
+                         truncationDelta.lineNumber(), truncationDelta.comparedLinesCount());
+  }
+
   private String toStringOf(DeleteDelta<?> deleteDelta) {
     return String.format("Missing content at line %s:%n  %s%n", deleteDelta.lineNumber(),
                          formatLines(deleteDelta.getOriginal().getLines()));
@@ -724,13 +1247,4 @@ public class StandardRepresentation implements Representation {
     return o == map ? "(this Map)" : toStringOf(o);
   }
 
-  private static Object[] toObjectArray(Object o) {
-    int length = getLength(o);
-    Object[] array = new Object[length];
-    for (int i = 0; i < length; i++) {
-      array[i] = get(o, i);
-    }
-    return array;
-  }
-
 }
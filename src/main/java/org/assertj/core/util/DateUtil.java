@@ -22,6 +22,9 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -36,16 +39,28 @@ public class DateUtil {
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
    */
-  private static final DateFormat ISO_DATE_FORMAT = newIsoDateFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_FORMAT = ThreadLocal.withInitial(DateUtil::newIsoDateFormat);
   /**
    * ISO 8601 local date-time format (yyyy-MM-dd'T'HH:mm:ss), example : <code>2003-04-26T13:01:02</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT = newIsoDateTimeFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT = ThreadLocal.withInitial(DateUtil::newIsoDateTimeFormat);
   /**
    * ISO 8601 local date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss.SSS), example :
    * <code>2003-04-26T03:01:02.999</code>
    */
-  private static final DateFormat ISO_DATE_TIME_FORMAT_WITH_MS = newIsoDateTimeWithMsFormat();
+  private static final ThreadLocal<DateFormat> ISO_DATE_TIME_FORMAT_WITH_MS = ThreadLocal
+      .withInitial(DateUtil::newIsoDateTimeWithMsFormat);
+
+  private static final String ISO_DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
+  private static final String ISO_DATE_TIME_WITH_MS_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+  private static final DateTimeFormatter ISO_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(ISO_DATE_TIME_PATTERN);
+  private static final DateTimeFormatter ISO_DATE_TIME_WITH_MS_FORMATTER = DateTimeFormatter
+      .ofPattern(ISO_DATE_TIME_WITH_MS_PATTERN);
+  // java.time uses the proleptic gregorian calendar and prints a sign for years with more than 4 digits, dates outside this
+  // range (with a day of margin for the time zones offsets) are formatted like SimpleDateFormat does, with the julian calendar
+  // before the gregorian cutover and without sign.
+  private static final long MIN_JAVA_TIME_FORMATTED_DATE = Instant.parse("1583-01-02T00:00:00Z").toEpochMilli();
+  private static final long MAX_JAVA_TIME_FORMATTED_DATE = Instant.parse("9999-12-30T00:00:00Z").toEpochMilli();
 
   /**
    * ISO 8601 date format (yyyy-MM-dd), example : <code>2003-04-23</code>
@@ -69,7 +84,7 @@ public class DateUtil {
    * @return a {@code yyyy-MM-dd'T'HH:mm:ss} {@link DateFormat}
    */
   public static DateFormat newIsoDateTimeFormat() {
-    return strictDateFormatForPattern("yyyy-MM-dd'T'HH:mm:ss");
+    return strictDateFormatForPattern(ISO_DATE_TIME_PATTERN);
   }
 
   /**
@@ -78,7 +93,7 @@ public class DateUtil {
    * @return a {@code yyyy-MM-dd'T'HH:mm:ss.SSS} {@link DateFormat}
    */
   public static DateFormat newIsoDateTimeWithMsFormat() {
-    return strictDateFormatForPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    return strictDateFormatForPattern(ISO_DATE_TIME_WITH_MS_PATTERN);
   }
 
   /**
@@ -106,31 +121,39 @@ public class DateUtil {
   }
 
   /**
-   * Formats the given date using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br>
-   * Method is synchronized
-   * because SimpleDateFormat is not thread safe (sigh).
+   * Formats the given date in the default time zone using the ISO 8601 date-time format (yyyy-MM-dd'T'HH:mm:ss).<br>
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetime(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT.format(date);
+  public static String formatAsDatetime(Date date) {
+    return formatWith(date, ISO_DATE_TIME_FORMATTER, ISO_DATE_TIME_PATTERN);
   }
 
   /**
-   * Formats the given date using the ISO 8601 date-time format with millisecond (yyyy-MM-dd'T'HH:mm:ss:SSS).<br>
-   * Method
-   * is synchronized because SimpleDateFormat is not thread safe (sigh).
+   * Formats the given date in the default time zone using the ISO 8601 date-time format with millisecond
+   * (yyyy-MM-dd'T'HH:mm:ss:SSS).<br>
+   * Method is thread safe.
    * <p>
    * Returns null if given the date is null.
    *
    * @param date the date to format.
    * @return the formatted date or null if given the date was null.
    */
-  public static synchronized String formatAsDatetimeWithMs(Date date) {
-    return date == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.format(date);
+  public static String formatAsDatetimeWithMs(Date date) {
+    return formatWith(date, ISO_DATE_TIME_WITH_MS_FORMATTER, ISO_DATE_TIME_WITH_MS_PATTERN);
+  }
+
+  private static String formatWith(Date date, DateTimeFormatter formatter, String pattern) {
+    if (date == null) return null;
+    long time = date.getTime();
+    if (time < MIN_JAVA_TIME_FORMATTED_DATE || time > MAX_JAVA_TIME_FORMATTED_DATE) {
+      return strictDateFormatForPattern(pattern).format(date);
+    }
+    return formatter.format(Instant.ofEpochMilli(time).atZone(ZoneId.systemDefault()));
   }
 
   /**
@@ -153,9 +176,9 @@ public class DateUtil {
    * @return the corresponding Date or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parse(String dateAsString) {
+  public static Date parse(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_FORMAT.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -171,9 +194,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetime(String dateAsString) {
+  public static Date parseDatetime(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
@@ -190,9 +213,9 @@ public class DateUtil {
    * @return the corresponding Date with time details or null if the given String is null.
    * @throws RuntimeException encapsulating ParseException if the string can't be parsed as a Date
    */
-  public static synchronized Date parseDatetimeWithMs(String dateAsString) {
+  public static Date parseDatetimeWithMs(String dateAsString) {
     try {
-      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.parse(dateAsString);
+      return dateAsString == null ? null : ISO_DATE_TIME_FORMAT_WITH_MS.get().parse(dateAsString);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     }
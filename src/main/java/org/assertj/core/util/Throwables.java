@@ -13,6 +13,7 @@
 package org.assertj.core.util;
 
 import static java.lang.String.format;
+import static java.util.Arrays.copyOf;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.joining;
 import static org.assertj.core.groups.FieldsOrPropertiesExtractor.extract;
@@ -111,27 +112,42 @@ public final class Throwables {
    */
   public static void removeAssertJRelatedElementsFromStackTrace(Throwable throwable) {
     if (throwable == null) return;
-    List<StackTraceElement> filtered = newArrayList(throwable.getStackTrace());
+    throwable.setStackTrace(withoutAssertJRelatedElements(throwable.getStackTrace()));
+  }
+
+  /**
+   * Returns the given stack trace without its AssertJ-related elements, see
+   * {@link #removeAssertJRelatedElementsFromStackTrace(Throwable)}.
+   * <p>
+   * The stack trace is filtered in a single pass, the given array is returned as is if it has no AssertJ-related elements.
+   *
+   * @param stackTrace the stack trace to filter.
+   * @return the filtered stack trace.
+   */
+  public static StackTraceElement[] withoutAssertJRelatedElements(StackTraceElement[] stackTrace) {
+    StackTraceElement[] filtered = new StackTraceElement[stackTrace.length];
+    int filteredLength = 0;
     StackTraceElement previous = null;
-    for (StackTraceElement element : throwable.getStackTrace()) {
+    for (StackTraceElement element : stackTrace) {
       if (element.getClassName().contains(ORG_ASSERTJ)) {
-        filtered.remove(element);
         // Handle the case when AssertJ builds a ComparisonFailure/AssertionFailedError by reflection
         // (see ShouldBeEqual.newAssertionError method), the stack trace looks like:
         //
         // java.lang.reflect.Constructor.newInstance(Constructor.java:501),
         // org.assertj.core.error.ConstructorInvoker.newInstance(ConstructorInvoker.java:34),
         //
-        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ.
+        // We want to remove java.lang.reflect.Constructor.newInstance element because it is related to AssertJ,
+        // not being AssertJ-related it is the last element kept.
         if (previous != null && JAVA_LANG_REFLECT_CONSTRUCTOR.equals(previous.getClassName())
             && element.getClassName().contains(ORG_ASSERTJ_CORE_ERROR_CONSTRUCTOR_INVOKER)) {
-          filtered.remove(previous);
+          filteredLength--;
         }
+      } else {
+        filtered[filteredLength++] = element;
       }
       previous = element;
     }
-    StackTraceElement[] newStackTrace = filtered.toArray(new StackTraceElement[0]);
-    throwable.setStackTrace(newStackTrace);
+    return filteredLength == stackTrace.length ? stackTrace : copyOf(filtered, filteredLength);
   }
 
   /**
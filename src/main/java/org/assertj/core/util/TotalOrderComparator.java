@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import java.util.Comparator;
+
+/**
+ * A {@link Comparator} guaranteeing it is a consistent total order, that is the comparison is antisymmetric and transitive
+ * (elements comparing to 0 being considered equal).
+ * <p>
+ * When used as an element comparator, collection assertions like {@code containsExactlyInAnyOrder} or
+ * {@code containsOnly} rely on it to sort the compared elements and compare them in O(n log n) instead of comparing every
+ * actual element to every expected one. {@code null} elements are considered equal to each other and different from any
+ * other element, the comparator is not called with them.
+ * <p>
+ * Example:
+ * <pre><code class='java'> TotalOrderComparator&lt;BigDecimal&gt; byValue = BigDecimal::compareTo;
+ *
+ * assertThat(amounts).usingElementComparator(byValue)
+ *                    .containsExactlyInAnyOrderElementsOf(expectedAmounts);</code></pre>
+ * <p>
+ * Using a comparator that is not a total order (like comparing values within a tolerance) gives undefined results.
+ *
+ * @param <T> the type of objects that may be compared by this comparator
+ * @since 3.23.0
+ */
+@FunctionalInterface
+public interface TotalOrderComparator<T> extends Comparator<T> {
+}
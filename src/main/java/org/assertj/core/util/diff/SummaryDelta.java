@@ -0,0 +1,43 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+/**
+ * Describes a change-delta between original and revised texts whose differences were not computed because there were too
+ * many of them.
+ * <p>
+ * It spans from the first to the last different lines, it is represented by the number of lines that differ rather than by
+ * the lines themselves.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 3.23.0
+ */
+public class SummaryDelta<T> extends ChangeDelta<T> {
+
+  /**
+   * Creates a summary delta with the two given chunks.
+   * @param original The original chunk. Must not be {@code null}.
+   * @param revised The revised chunk. Must not be {@code null}.
+   */
+  public SummaryDelta(Chunk<T> original, Chunk<T> revised) {
+    super(original, revised);
+  }
+
+  /**
+   * Returns the number of lines that differ, that is the greatest of the original and revised chunks sizes.
+   * @return the number of lines that differ.
+   */
+  public int differentLinesCount() {
+    return Math.max(getOriginal().size(), getRevised().size());
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util.diff;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Marks the position from which the differences between original and revised texts were not computed because the texts
+ * have too many lines from their first difference on.
+ * <p>
+ * It is always the last delta of a patch, its chunks are empty and located after the last compared lines.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 3.23.0
+ */
+public class TruncationDelta<T> extends ChangeDelta<T> {
+
+  private final int comparedLinesCount;
+
+  /**
+   * Creates a truncation delta located after the compared lines.
+   * @param originalPosition the position in the original text of the first line that was not compared.
+   * @param revisedPosition the position in the revised text of the first line that was not compared.
+   * @param comparedLinesCount the maximum number of lines compared from the first difference on.
+   */
+  public TruncationDelta(int originalPosition, int revisedPosition, int comparedLinesCount) {
+    super(new Chunk<>(originalPosition, emptyList()), new Chunk<>(revisedPosition, emptyList()));
+    this.comparedLinesCount = comparedLinesCount;
+  }
+
+  /**
+   * Returns the maximum number of lines compared from the first difference on.
+   * @return the maximum number of lines compared from the first difference on.
+   */
+  public int comparedLinesCount() {
+    return comparedLinesCount;
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffAlgorithm;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.SummaryDelta;
+
+/**
+ * The linear space refinement of the Myers differencing algorithm described in section 4b of
+ * <a href="http://www.xmailserver.org/diff2.pdf">An O(ND) Difference Algorithm and Its Variations</a>.
+ * <p>
+ * Unlike {@link MyersDiff} which keeps a path node for each step of each diagonal, this variant only keeps the furthest
+ * reaching points of the current step. It looks for the middle snake of the edit script, then recursively computes the
+ * edit scripts before and after it, it thus uses O(N+M) space whatever the number of differences.
+ * <p>
+ * Computing the differences still takes O((N+M)D) time where D is the number of differences (the edit distance), a maximum
+ * edit distance can be given to bound it: when the sequences have more differences than that, the differences are not
+ * computed and the patch has a single {@link SummaryDelta} spanning from the first to the last different elements.
+ *
+ * @param <T> The type of the compared elements in the 'lines'.
+ * @since 3.23.0
+ */
+public class LinearSpaceMyersDiff<T> implements DiffAlgorithm<T> {
+
+  private final Equalizer<T> equalizer;
+  private final int maxEditDistance;
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm without maximum edit distance.
+   */
+  public LinearSpaceMyersDiff() {
+    this(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Constructs an instance of the linear space Myers differencing algorithm which does not compute the differences of
+   * sequences with more than the given number of differences.
+   *
+   * @param maxEditDistance the maximum number of inserted and deleted elements to compute the differences.
+   * @throws IllegalArgumentException if the given maximum edit distance is negative.
+   */
+  public LinearSpaceMyersDiff(int maxEditDistance) {
+    checkArgument(maxEditDistance >= 0, "maxEditDistance must be >= 0 but was %s", maxEditDistance);
+    this.equalizer = Object::equals;
+    this.maxEditDistance = maxEditDistance;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Patch<T> diff(List<T> original, List<T> revised) {
+    checkArgument(original != null, "original list must not be null");
+    checkArgument(revised != null, "revised list must not be null");
+    return new EditScript(original, revised).toPatch();
+  }
+
+  private class EditScript {
+
+    private final List<T> original;
+    private final List<T> revised;
+    // the elements of the original sequence deleted and the elements of the revised sequence inserted by the edit script
+    private final BitSet deleted = new BitSet();
+    private final BitSet inserted = new BitSet();
+    // furthest reaching points of the forward and backward searches indexed by diagonal, reused by all the searches
+    private final int[] forward;
+    private final int[] backward;
+    private final int diagonalOffset;
+
+    private EditScript(List<T> original, List<T> revised) {
+      this.original = original;
+      this.revised = revised;
+      diagonalOffset = (original.size() + revised.size() + 1) / 2 + 1;
+      forward = new int[2 * diagonalOffset + 1];
+      backward = new int[2 * diagonalOffset + 1];
+    }
+
+    private Patch<T> toPatch() {
+      int prefixLength = commonPrefixLength(0, original.size(), 0, revised.size());
+      int suffixLength = commonSuffixLength(prefixLength, original.size(), prefixLength, revised.size());
+      int originalEnd = original.size() - suffixLength;
+      int revisedEnd = revised.size() - suffixLength;
+      Patch<T> patch = new Patch<>();
+      if (prefixLength == originalEnd && prefixLength == revisedEnd) return patch;
+      // the edit distance can't be greater than the number of elements left
+      if (originalEnd - prefixLength + revisedEnd - prefixLength > maxEditDistance) {
+        // the edit distance of the subsequences around the middle snake is smaller, only this search needs to be bounded
+        int[] middleSnake = middleSnake(prefixLength, originalEnd, prefixLength, revisedEnd, maxEditDistance);
+        if (middleSnake == null) {
+          patch.addDelta(new SummaryDelta<>(chunk(original, prefixLength, originalEnd),
+                                            chunk(revised, prefixLength, revisedEnd)));
+          return patch;
+        }
+        computeAroundMiddleSnake(prefixLength, originalEnd, prefixLength, revisedEnd, middleSnake);
+      } else {
+        compute(prefixLength, originalEnd, prefixLength, revisedEnd);
+      }
+      addDeltas(patch);
+      return patch;
+    }
+
+    private void compute(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int prefixLength = commonPrefixLength(originalStart, originalEnd, revisedStart, revisedEnd);
+      originalStart += prefixLength;
+      revisedStart += prefixLength;
+      int suffixLength = commonSuffixLength(originalStart, originalEnd, revisedStart, revisedEnd);
+      originalEnd -= suffixLength;
+      revisedEnd -= suffixLength;
+      if (originalStart == originalEnd) {
+        inserted.set(revisedStart, revisedEnd);
+      } else if (revisedStart == revisedEnd) {
+        deleted.set(originalStart, originalEnd);
+      } else {
+        int[] middleSnake = middleSnake(originalStart, originalEnd, revisedStart, revisedEnd, Integer.MAX_VALUE);
+        computeAroundMiddleSnake(originalStart, originalEnd, revisedStart, revisedEnd, middleSnake);
+      }
+    }
+
+    private void computeAroundMiddleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd,
+                                          int[] middleSnake) {
+      compute(originalStart, middleSnake[0], revisedStart, middleSnake[1]);
+      compute(middleSnake[2], originalEnd, middleSnake[3], revisedEnd);
+    }
+
+    /**
+     * Finds the middle snake of the edit script of the given ranges by searching forward from their start and backward from
+     * their end until the searches overlap.
+     *
+     * @return the start and end points of the middle snake as {originalStart, revisedStart, originalEnd, revisedEnd} or
+     *         {@code null} if the edit distance is greater than the given maximum.
+     */
+    private int[] middleSnake(int originalStart, int originalEnd, int revisedStart, int revisedEnd, int maxDistance) {
+      int n = originalEnd - originalStart;
+      int m = revisedEnd - revisedStart;
+      int delta = n - m;
+      boolean odd = (delta & 1) != 0;
+      int maxD = (n + m + 1) / 2;
+      forward[diagonalOffset + 1] = 0;
+      backward[diagonalOffset + 1] = 0;
+      for (int d = 0; d <= maxD; d++) {
+        // a forward overlap at step d gives an edit distance of 2d-1
+        if (2 * d - 1 > maxDistance) return null;
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && forward[diagonalOffset + k - 1] < forward[diagonalOffset + k + 1])
+              ? forward[diagonalOffset + k + 1]
+              : forward[diagonalOffset + k - 1] + 1;
+          int y = x - k;
+          int snakeStartX = x;
+          int snakeStartY = y;
+          while (x < n && y < m && equalizer.equals(original.get(originalStart + x), revised.get(revisedStart + y))) {
+            x++;
+            y++;
+          }
+          forward[diagonalOffset + k] = x;
+          // the backward search diagonals are mirrored: diagonal k forward is diagonal delta - k backward
+          if (odd && k >= delta - (d - 1) && k <= delta + (d - 1)
+              && x + backward[diagonalOffset + delta - k] >= n) {
+            return new int[] { originalStart + snakeStartX, revisedStart + snakeStartY, originalStart + x, revisedStart + y };
+          }
+        }
+        // a backward overlap at step d gives an edit distance of 2d
+        if (2 * d > maxDistance) return null;
+        for (int k = -d; k <= d; k += 2) {
+          int x = k == -d || (k != d && backward[diagonalOffset + k - 1] < backward[diagonalOffset + k + 1])
+              ? backward[diagonalOffset + k + 1]
+              : backward[diagonalOffset + k - 1] + 1;
+          int y = x - k;
+          int snakeEndX = x;
+          int snakeEndY = y;
+          while (x < n && y < m
+                 && equalizer.equals(original.get(originalEnd - 1 - x), revised.get(revisedEnd - 1 - y))) {
+            x++;
+            y++;
+          }
+          backward[diagonalOffset + k] = x;
+          if (!odd && delta - k >= -d && delta - k <= d && x + forward[diagonalOffset + delta - k] >= n) {
+            return new int[] { originalEnd - x, revisedEnd - y, originalEnd - snakeEndX, revisedEnd - snakeEndY };
+          }
+        }
+      }
+      // According to Myers, this cannot happen
+      throw new IllegalStateException("could not find a diff path");
+    }
+
+    private int commonPrefixLength(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int length = 0;
+      while (originalStart + length < originalEnd && revisedStart + length < revisedEnd
+             && equalizer.equals(original.get(originalStart + length), revised.get(revisedStart + length))) {
+        length++;
+      }
+      return length;
+    }
+
+    private int commonSuffixLength(int originalStart, int originalEnd, int revisedStart, int revisedEnd) {
+      int length = 0;
+      while (originalEnd - length > originalStart && revisedEnd - length > revisedStart
+             && equalizer.equals(original.get(originalEnd - 1 - length), revised.get(revisedEnd - 1 - length))) {
+        length++;
+      }
+      return length;
+    }
+
+    // groups the consecutive deleted and inserted elements in deltas
+    private void addDeltas(Patch<T> patch) {
+      int i = 0;
+      int j = 0;
+      while (i < original.size() || j < revised.size()) {
+        if (i < original.size() && j < revised.size() && !deleted.get(i) && !inserted.get(j)) {
+          // matching elements
+          i++;
+          j++;
+          continue;
+        }
+        int originalStart = i;
+        int revisedStart = j;
+        while (i < original.size() && deleted.get(i)) i++;
+        while (j < revised.size() && inserted.get(j)) j++;
+        patch.addDelta(delta(chunk(original, originalStart, i), chunk(revised, revisedStart, j)));
+      }
+    }
+  }
+
+  private static <T> Delta<T> delta(Chunk<T> original, Chunk<T> revised) {
+    if (original.size() == 0) return new InsertDelta<>(original, revised);
+    if (revised.size() == 0) return new DeleteDelta<>(original, revised);
+    return new ChangeDelta<>(original, revised);
+  }
+
+  private static <T> Chunk<T> chunk(List<T> elements, int fromIndex, int toIndex) {
+    return new Chunk<>(fromIndex, new ArrayList<>(elements.subList(fromIndex, toIndex)));
+  }
+}
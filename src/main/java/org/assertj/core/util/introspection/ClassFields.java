@@ -0,0 +1,170 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fields metadata of a class computed once and cached per class.
+ * <p>
+ * Holds the declared fields of a class and its superclasses (excluding static, synthetic fields and the fields of
+ * superclasses in <code>java.lang</code>), their names and the accessors used to read them, created on first access.
+ *
+ * @since 3.23.0
+ */
+public final class ClassFields {
+
+  private static final ClassValue<ClassFields> CLASS_FIELDS = new ClassValue<ClassFields>() {
+    @Override
+    protected ClassFields computeValue(Class<?> clazz) {
+      return new ClassFields(clazz);
+    }
+  };
+
+  private final Set<Field> declaredFieldsIncludingInherited;
+  private final Set<String> fieldsNames;
+  private final Class<?> clazz;
+  // accessors created on first access, empty for the fields that are not read with an accessor
+  private final Map<String, Optional<FieldAccessor>> accessors = new ConcurrentHashMap<>();
+
+  private ClassFields(Class<?> clazz) {
+    this.clazz = clazz;
+    declaredFieldsIncludingInherited = unmodifiableSet(declaredFieldsIncludingInherited(clazz));
+    fieldsNames = unmodifiableSet(declaredFieldsIncludingInherited.stream().map(Field::getName).collect(toSet()));
+  }
+
+  /**
+   * Returns the fields metadata of the given class.
+   *
+   * @param clazz the class we want the fields metadata.
+   * @return the fields metadata of the given class.
+   * @throws NullPointerException if the given class is {@code null}.
+   */
+  public static ClassFields of(Class<?> clazz) {
+    requireNonNull(clazz, "expecting Class parameter not to be null");
+    return CLASS_FIELDS.get(clazz);
+  }
+
+  /**
+   * Returns the declared fields of the class and its superclasses stopping at superclass in <code>java.lang</code>
+   * package whose fields are not included, static and synthetic fields are ignored.
+   *
+   * @return an unmodifiable ordered set of the declared fields, subclass fields come first.
+   */
+  public Set<Field> getDeclaredFieldsIncludingInherited() {
+    return declaredFieldsIncludingInherited;
+  }
+
+  /**
+   * Returns the names of the fields returned by {@link #getDeclaredFieldsIncludingInherited()}.
+   *
+   * @return an unmodifiable set of the fields names.
+   */
+  public Set<String> getFieldsNames() {
+    return fieldsNames;
+  }
+
+  /**
+   * Returns the accessor of the non static and non synthetic field with the given name, the field is looked up in the class
+   * hierarchy like {@code FieldUtils.getField} does, returns {@code null} if the field can't be read with an accessor (no
+   * such field, static or synthetic field or public field of a class that is not accessible).
+   * <p>
+   * The accessor is created on the first call for the given field name and then cached, like {@code FieldUtils.getField}
+   * only non public fields are made accessible.
+   *
+   * @param fieldName the field name
+   * @return the field accessor or {@code null}
+   * @throws RuntimeException if the field can't be made accessible (ex: java types fields since java 17).
+   */
+  FieldAccessor getAccessor(String fieldName) {
+    return accessors.computeIfAbsent(fieldName, this::accessor).orElse(null);
+  }
+
+  private static Set<Field> declaredFieldsIncludingInherited(Class<?> clazz) {
+    Set<Field> declaredFields = declaredFieldsIgnoringSyntheticAndStatic(clazz);
+    // get fields declared in superclass
+    Class<?> superclazz = clazz.getSuperclass();
+    while (superclazz != null && !superclazz.getName().startsWith("java.lang")) {
+      declaredFields.addAll(declaredFieldsIgnoringSyntheticAndStatic(superclazz));
+      superclazz = superclazz.getSuperclass();
+    }
+    return declaredFields;
+  }
+
+  private static Set<Field> declaredFieldsIgnoringSyntheticAndStatic(Class<?> clazz) {
+    Set<Field> declaredFields = new LinkedHashSet<>();
+    for (Field field : clazz.getDeclaredFields()) {
+      if (!(field.isSynthetic() || isStatic(field.getModifiers()))) declaredFields.add(field);
+    }
+    return declaredFields;
+  }
+
+  private Optional<FieldAccessor> accessor(String fieldName) {
+    Field field = visibleField(fieldName);
+    if (field == null || field.isSynthetic() || isStatic(field.getModifiers())) return Optional.empty();
+    if (!isPublic(field.getModifiers())) field.setAccessible(true);
+    try {
+      MethodHandle getter = MethodHandles.lookup().unreflectGetter(field).asType(methodType(Object.class, Object.class));
+      return Optional.of(new FieldAccessor(getter));
+    } catch (IllegalAccessException e) {
+      // public field of a class that is not accessible, it will be read without accessor
+      return Optional.empty();
+    }
+  }
+
+  // a field hides the fields with the same name declared in superclasses, even if it is static or synthetic
+  private Field visibleField(String fieldName) {
+    for (Class<?> acls = clazz; acls != null; acls = acls.getSuperclass()) {
+      try {
+        return acls.getDeclaredField(fieldName);
+      } catch (NoSuchFieldException e) {
+        // look up the superclass
+      }
+    }
+    return null;
+  }
+
+  static final class FieldAccessor {
+
+    private final MethodHandle getter;
+
+    private FieldAccessor(MethodHandle getter) {
+      this.getter = getter;
+    }
+
+    Object read(Object target) {
+      try {
+        return (Object) getter.invokeExact(target);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable unexpected) {
+        throw new IllegalStateException(unexpected);
+      }
+    }
+  }
+
+}
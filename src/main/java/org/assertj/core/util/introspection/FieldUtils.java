@@ -18,6 +18,8 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import org.assertj.core.util.introspection.ClassFields.FieldAccessor;
+
 /**
  * Shameless copy from Apache commons lang and then modified to keep only the interesting stuff for AssertJ.
  *
@@ -140,6 +142,11 @@ class FieldUtils {
   static Object readField(Object target, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(target != null, "target object must not be null");
     Class<?> cls = target.getClass();
+    if (forceAccess) {
+      // use the cached accessor if any, otherwise look up the field to report the appropriate error
+      FieldAccessor accessor = ClassFields.of(cls).getAccessor(fieldName);
+      if (accessor != null) return accessor.read(target);
+    }
     Field field = getField(cls, fieldName, forceAccess);
     checkArgument(field != null, "Cannot locate field %s on %s", fieldName, cls);
     checkArgument(!isStatic(field.getModifiers()), "Reading static field is not supported and field %s is static on %s",
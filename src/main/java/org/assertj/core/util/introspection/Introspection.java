@@ -58,19 +58,30 @@ public final class Introspection {
   public static Method getPropertyGetter(String propertyName, Object target) {
     checkNotNullOrEmpty(propertyName);
     requireNonNull(target);
-    Method getter = findGetter(propertyName, target);
+    return getPropertyGetter(propertyName, target.getClass());
+  }
+
+  /**
+   * Returns the getter {@link Method} for a property matching the given name in the given class.
+   *
+   * @param propertyName the given property name.
+   * @param clazz the given class.
+   * @return the getter {@code Method} for a property matching the given name in the given class.
+   * @throws IntrospectionError if the getter for the matching property cannot be found or accessed.
+   */
+  static Method getPropertyGetter(String propertyName, Class<?> clazz) {
+    Method getter = findGetter(propertyName, clazz);
     if (getter == null) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, target));
+      throw new IntrospectionError(propertyNotFoundErrorMessage("No getter for property %s in %s", propertyName, clazz));
     }
     if (!isPublic(getter.getModifiers())) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName, target));
+      throw new IntrospectionError(propertyNotFoundErrorMessage("No public getter for property %s in %s", propertyName, clazz));
     }
     try {
       // force access for static class with public getter
       getter.setAccessible(true);
-      getter.invoke(target);
-    } catch (Exception t) {
-      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, target), t);
+    } catch (RuntimeException t) {
+      throw new IntrospectionError(propertyNotFoundErrorMessage("Unable to find property %s in %s", propertyName, clazz), t);
     }
     return getter;
   }
@@ -85,24 +96,24 @@ public final class Introspection {
     return bareNamePropertyMethods;
   }
 
-  private static String propertyNotFoundErrorMessage(String message, String propertyName, Object target) {
-    String targetTypeName = target.getClass().getName();
+  private static String propertyNotFoundErrorMessage(String message, String propertyName, Class<?> clazz) {
+    String targetTypeName = clazz.getName();
     String property = quote(propertyName);
     return format(message, property, targetTypeName);
   }
 
-  private static Method findGetter(String propertyName, Object target) {
+  private static Method findGetter(String propertyName, Class<?> clazz) {
     String capitalized = propertyName.substring(0, 1).toUpperCase(ENGLISH) + propertyName.substring(1);
     // try to find getProperty
-    Method getter = findMethod("get" + capitalized, target);
+    Method getter = findMethod("get" + capitalized, clazz);
     if (isValidGetter(getter)) return getter;
     if (bareNamePropertyMethods) {
       // try to find bare name property
-      getter = findMethod(propertyName, target);
+      getter = findMethod(propertyName, clazz);
       if (isValidGetter(getter)) return getter;
     }
     // try to find isProperty for boolean properties
-    Method isAccessor = findMethod("is" + capitalized, target);
+    Method isAccessor = findMethod("is" + capitalized, clazz);
     return isValidGetter(isAccessor) ? isAccessor : null;
   }
 
@@ -110,8 +121,8 @@ public final class Introspection {
     return method != null && !Modifier.isStatic(method.getModifiers()) && !Void.TYPE.equals(method.getReturnType());
   }
 
-  private static Method findMethod(String name, Object target) {
-    final MethodKey methodKey = new MethodKey(name, target.getClass());
+  private static Method findMethod(String name, Class<?> clazz) {
+    final MethodKey methodKey = new MethodKey(name, clazz);
     return METHOD_CACHE.computeIfAbsent(methodKey, Introspection::findMethodByKey).orElse(null);
   }
 
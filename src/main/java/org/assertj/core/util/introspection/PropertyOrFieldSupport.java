@@ -13,30 +13,34 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.invoke.MethodType.methodType;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.util.VisibleForTesting;
 
 public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
-  private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // how names are resolved in each class, this avoids looking up the getters and handling the lookup errors on each read
+  private final Map<ResolutionKey, Resolution> resolutions = new ConcurrentHashMap<>();
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
-  public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
-                                                                                     FieldSupport.COMPARISON);
+  public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(FieldSupport.COMPARISON);
 
   PropertyOrFieldSupport() {
-    this.propertySupport = PropertySupport.instance();
     this.fieldSupport = FieldSupport.extraction();
   }
 
   @VisibleForTesting
-  PropertyOrFieldSupport(PropertySupport propertySupport, FieldSupport fieldSupport) {
-    this.propertySupport = propertySupport;
+  PropertyOrFieldSupport(FieldSupport fieldSupport) {
     this.fieldSupport = fieldSupport;
   }
 
@@ -65,32 +69,50 @@ public class PropertyOrFieldSupport {
   public Object getSimpleValue(String name, Object input) {
     // if input is an optional and name is "value", let's get the optional value directly
     if (input instanceof Optional && name.equals("value")) return ((Optional) input).orElse(null);
-
-    try {
-      // try to get name as a property
-      return propertySupport.propertyValueOf(name, Object.class, input);
-    } catch (IntrospectionError propertyIntrospectionError) {
-      // try to get name as a field
+    // we can't extract a property from a null object
+    if (input == null) return null;
+
+    Resolution resolution = resolutions.computeIfAbsent(new ResolutionKey(input.getClass(), name,
+                                                                          Introspection.canExtractBareNamePropertyMethods()),
+                                                        Resolution::of);
+    // try to get name as a property
+    String propertyIntrospectionErrorMessage = resolution.propertyIntrospectionErrorMessage;
+    if (resolution.getter != null) {
       try {
-        return fieldSupport.fieldValue(name, Object.class, input);
-      } catch (IntrospectionError fieldIntrospectionError) {
-        // if input is a map, try to use the name value as a map key
-        if (input instanceof Map) {
-          Map<?, ?> map = (Map<?, ?>) input;
-          if (map.containsKey(name)) return map.get(name);
-        }
-
-        // no value found with given name, it is considered as an error
-        String message = format("%nCan't find any field or property with name '%s'.%n" +
-                                "Error when introspecting properties was :%n" +
-                                "- %s %n" +
-                                "Error when introspecting fields was :%n" +
-                                "- %s",
-                                name, propertyIntrospectionError.getMessage(),
-                                fieldIntrospectionError.getMessage());
-        throw new IntrospectionError(message, fieldIntrospectionError);
+        return (Object) resolution.getter.invokeExact(input);
+      } catch (Error e) {
+        // like assertion errors or stack overflows, these must not be hidden by reading the field instead
+        throw e;
+      } catch (@SuppressWarnings("unused") Throwable getterError) {
+        // the getter can't be used to read the value, try the other ways
+        propertyIntrospectionErrorMessage = format("Unable to obtain the value of the property <'%s'> from <%s>", name, input);
       }
     }
+    // the input does not have any property or field with that name, skip the field lookup error
+    if (resolution.mapKeyOnly) {
+      Map<?, ?> map = (Map<?, ?>) input;
+      if (map.containsKey(name)) return map.get(name);
+    }
+    // try to get name as a field
+    try {
+      return fieldSupport.fieldValue(name, Object.class, input);
+    } catch (IntrospectionError fieldIntrospectionError) {
+      // if input is a map, try to use the name value as a map key
+      if (input instanceof Map) {
+        Map<?, ?> map = (Map<?, ?>) input;
+        if (map.containsKey(name)) return map.get(name);
+      }
+
+      // no value found with given name, it is considered as an error
+      String message = format("%nCan't find any field or property with name '%s'.%n" +
+                              "Error when introspecting properties was :%n" +
+                              "- %s %n" +
+                              "Error when introspecting fields was :%n" +
+                              "- %s",
+                              name, propertyIntrospectionErrorMessage,
+                              fieldIntrospectionError.getMessage());
+      throw new IntrospectionError(message, fieldIntrospectionError);
+    }
   }
 
   private String popNameFrom(String propertyOrFieldNameChain) {
@@ -109,4 +131,70 @@ public class PropertyOrFieldSupport {
            && !propertyOrFieldName.endsWith(SEPARATOR);
   }
 
+  /**
+   * How a name is resolved in a class: with a getter (or a bare name method) when there is a usable one, otherwise with a field
+   * or a map key.
+   */
+  private static final class Resolution {
+
+    private final MethodHandle getter;
+    private final String propertyIntrospectionErrorMessage;
+    private final boolean mapKeyOnly;
+
+    private Resolution(MethodHandle getter, String propertyIntrospectionErrorMessage, boolean mapKeyOnly) {
+      this.getter = getter;
+      this.propertyIntrospectionErrorMessage = propertyIntrospectionErrorMessage;
+      this.mapKeyOnly = mapKeyOnly;
+    }
+
+    private static Resolution of(ResolutionKey key) {
+      try {
+        Method getter = Introspection.getPropertyGetter(key.name, key.clazz);
+        MethodHandle getterHandle = MethodHandles.lookup().unreflect(getter).asType(methodType(Object.class, Object.class));
+        return new Resolution(getterHandle, null, false);
+      } catch (IntrospectionError propertyIntrospectionError) {
+        boolean mapKeyOnly = Map.class.isAssignableFrom(key.clazz) && !declaresField(key.clazz, key.name);
+        return new Resolution(null, propertyIntrospectionError.getMessage(), mapKeyOnly);
+      } catch (IllegalAccessException e) {
+        String message = format("Unable to find property '%s' in %s", key.name, key.clazz.getName());
+        return new Resolution(null, message, false);
+      }
+    }
+
+    private static boolean declaresField(Class<?> clazz, String fieldName) {
+      try {
+        return FieldUtils.getField(clazz, fieldName, false) != null;
+      } catch (IllegalAccessException | RuntimeException e) {
+        // the field exists but is not public or is ambiguous
+        return true;
+      }
+    }
+  }
+
+  private static final class ResolutionKey {
+    private final Class<?> clazz;
+    private final String name;
+    // the getters lookup depends on this global setting
+    private final boolean bareNamePropertyMethods;
+
+    private ResolutionKey(Class<?> clazz, String name, boolean bareNamePropertyMethods) {
+      this.clazz = clazz;
+      this.name = name;
+      this.bareNamePropertyMethods = bareNamePropertyMethods;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      ResolutionKey that = (ResolutionKey) o;
+      return bareNamePropertyMethods == that.bareNamePropertyMethods && clazz == that.clazz && name.equals(that.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(clazz, name, bareNamePropertyMethods);
+    }
+  }
+
 }
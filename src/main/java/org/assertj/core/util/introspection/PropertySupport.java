@@ -206,13 +206,21 @@ public class PropertySupport {
     return propertyValues(fieldOrPropertyName, Object.class, target);
   }
 
+  /**
+   * Returns whether the given object has a public getter for the given property that can be invoked without failing.
+   *
+   * @param fieldName the name of the property.
+   * @param actual the given object.
+   * @return {@code true} if the getter exists and does not throw an exception when invoked, {@code false} otherwise.
+   */
   public boolean publicGetterExistsFor(String fieldName, Object actual) {
-	try {
-	  getPropertyGetter(fieldName, actual);
+    try {
+      // the getter is invoked as getPropertyGetter does not check that the value can be read
+      propertyValue(fieldName, Object.class, actual);
     } catch (IntrospectionError e) {
       return false;
     }
-	return true;
+    return true;
   }
 
 }
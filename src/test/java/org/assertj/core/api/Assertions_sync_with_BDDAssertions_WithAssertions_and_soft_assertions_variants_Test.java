@@ -83,6 +83,19 @@ class Assertions_sync_with_BDDAssertions_WithAssertions_and_soft_assertions_vari
                                                .containsExactlyInAnyOrderElementsOf(non_assertThat_Assertions_methods);
   }
 
+  @Test
+  void standard_assertions_bdd_assertions_and_with_assertions_should_have_the_same_lazy_stream_assertions_methods() {
+    // GIVEN
+    Method[] assertThatLazily_Assertions_methods = findMethodsWithName(Assertions.class, "assertThatLazily");
+    Method[] thenLazily_BDDAssertions_methods = findMethodsWithName(BDDAssertions.class, "thenLazily");
+    Method[] assertThatLazily_WithAssertions_methods = findMethodsWithName(WithAssertions.class, "assertThatLazily");
+    // THEN
+    then(thenLazily_BDDAssertions_methods).usingElementComparator(IGNORING_DECLARING_CLASS_AND_METHOD_NAME)
+                                          .containsExactlyInAnyOrder(assertThatLazily_Assertions_methods);
+    then(assertThatLazily_WithAssertions_methods).usingElementComparator(IGNORING_DECLARING_CLASS_ONLY)
+                                                 .containsExactlyInAnyOrder(assertThatLazily_Assertions_methods);
+  }
+
   // Assertions - SoftAssertions sync tests
 
   @ParameterizedTest
@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenIllegalArgumentException;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@DisplayName("EntryPoint assertions setMaxRenderedSoftAssertionErrors method")
+class EntryPointAssertions_setMaxRenderedSoftAssertionErrors_Test extends EntryPointAssertionsBaseTest {
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    Failures.instance().setMaxRenderedSoftAssertionErrors(Configuration.MAX_RENDERED_SOFT_ASSERTION_ERRORS);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setMaxRenderedSoftAssertionErrorsFunctions")
+  void should_set_maxRenderedSoftAssertionErrors_value(Consumer<Integer> setMaxRenderedSoftAssertionErrorsFunction) {
+    // WHEN
+    setMaxRenderedSoftAssertionErrorsFunction.accept(10);
+    // THEN
+    then(Failures.instance().getMaxRenderedSoftAssertionErrors()).isEqualTo(10);
+  }
+
+  @ParameterizedTest
+  @MethodSource("setMaxRenderedSoftAssertionErrorsFunctions")
+  void should_fail_if_maxRenderedSoftAssertionErrors_is_negative(Consumer<Integer> setMaxRenderedSoftAssertionErrorsFunction) {
+    thenIllegalArgumentException().isThrownBy(() -> setMaxRenderedSoftAssertionErrorsFunction.accept(-1))
+                                  .withMessage("maxRenderedSoftAssertionErrors must be >= 0 but was -1");
+  }
+
+  private static Stream<Consumer<Integer>> setMaxRenderedSoftAssertionErrorsFunctions() {
+    return Stream.of(Assertions::setMaxRenderedSoftAssertionErrors,
+                     BDDAssertions::setMaxRenderedSoftAssertionErrors,
+                     withAssertions::setMaxRenderedSoftAssertionErrors);
+  }
+
+}
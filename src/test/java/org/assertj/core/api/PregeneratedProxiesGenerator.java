@@ -0,0 +1,137 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.ClassLoadingStrategyFactory.ASSERTJ_CLASS_LOADER;
+import static org.assertj.core.api.PregeneratedProxies.ASSERT_TYPES_PACKAGE;
+import static org.assertj.core.api.PregeneratedProxies.ASSUMPTION_SUFFIX;
+import static org.assertj.core.api.PregeneratedProxies.SOFT_ASSERTION_PROXY_SUFFIX;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.scaffold.TypeValidation;
+import net.bytebuddy.implementation.auxiliary.AuxiliaryType;
+
+/**
+ * Generates the classes looked up by {@link PregeneratedProxies}, run at build time by the {@code pregenerated-proxies}
+ * profile.
+ * <p>
+ * It is part of the test sources so that it is not shipped, but being in the {@code org.assertj.core.api} package it
+ * can reuse the package-private class definitions of {@link SoftProxies} and {@link Assumptions}.
+ */
+final class PregeneratedProxiesGenerator {
+
+  private PregeneratedProxiesGenerator() {}
+
+  /**
+   * Generates the soft assertion proxy and assumption classes of the standard assert types compiled in the given classes
+   * directory and saves them in it.
+   *
+   * @param args the classes directory
+   */
+  public static void main(String[] args) {
+    if (args.length != 1) throw new IllegalArgumentException("Expecting the classes directory as the only argument");
+    Path classesDirectory = Paths.get(args[0]);
+    generate(standardAssertClasses(classesDirectory), classesDirectory.toFile());
+  }
+
+  /**
+   * Generates the soft assertion proxy and assumption classes of the given assert types in the given directory, the assert
+   * types that can't be proxied are skipped.
+   *
+   * @param assertClasses the assert types to generate classes for
+   * @param directory the directory to save the class files in
+   * @return the number of generated classes
+   */
+  static int generate(List<Class<?>> assertClasses, File directory) {
+    // deterministic rather than random auxiliary type names for a reproducible build
+    ByteBuddy softProxiesByteBuddy = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.Enumerating("AssertJ$SoftProxies"))
+                                                    .with(TypeValidation.DISABLED);
+    ByteBuddy assumptionsByteBuddy = new ByteBuddy().with(new AuxiliaryType.NamingStrategy.Enumerating("Assertj$Assumptions"))
+                                                    .with(TypeValidation.DISABLED);
+    int generated = 0;
+    for (Class<?> assertClass : assertClasses) {
+      try {
+        SoftProxies.defineProxyClass(softProxiesByteBuddy.subclass(assertClass)
+                                                         .name(assertClass.getName() + SOFT_ASSERTION_PROXY_SUFFIX))
+                   .make()
+                   .saveIn(directory);
+        Assumptions.defineAssumptionClass(assumptionsByteBuddy.subclass(assertClass)
+                                                              .name(assertClass.getName() + ASSUMPTION_SUFFIX))
+                   .make()
+                   .saveIn(directory);
+        generated += 2;
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      } catch (RuntimeException e) {
+        // skipped, the classes will be generated at runtime if ever needed
+      }
+    }
+    return generated;
+  }
+
+  /**
+   * Returns the standard assert types that can be proxied, i.e. the public non abstract and non final subclasses of
+   * {@link AbstractAssert} of the {@code org.assertj.core.api} package compiled in the given classes directory.
+   */
+  static List<Class<?>> standardAssertClasses(Path classesDirectory) {
+    Path assertTypesDirectory = classesDirectory.resolve(ASSERT_TYPES_PACKAGE.replace('.', File.separatorChar));
+    List<Class<?>> assertClasses = new ArrayList<>();
+    try (Stream<Path> classFiles = Files.list(assertTypesDirectory)) {
+      for (String className : classFiles.map(path -> path.getFileName().toString())
+                                        .filter(fileName -> fileName.endsWith(".class"))
+                                        .map(fileName -> ASSERT_TYPES_PACKAGE + "."
+                                                         + fileName.substring(0, fileName.length() - ".class".length()))
+                                        .filter(className -> !isPregenerated(className))
+                                        .sorted()
+                                        .collect(toList())) {
+        if (canBeProxied(className)) assertClasses.add(Class.forName(className, false, ASSERTJ_CLASS_LOADER));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (ClassNotFoundException e) {
+      throw new IllegalStateException("Classes of " + classesDirectory + " must be on the classpath", e);
+    }
+    return assertClasses;
+  }
+
+  private static boolean canBeProxied(String className) throws ClassNotFoundException {
+    Class<?> type;
+    try {
+      type = Class.forName(className, false, ASSERTJ_CLASS_LOADER);
+      type.getConstructors();
+    } catch (LinkageError e) {
+      // depends on an optional dependency that is not on the classpath, e.g. JUnit 4 for JUnitSoftAssertions
+      return false;
+    }
+    int modifiers = type.getModifiers();
+    return AbstractAssert.class.isAssignableFrom(type) && Modifier.isPublic(modifiers) && !Modifier.isAbstract(modifiers)
+           && !Modifier.isFinal(modifiers) && type.getConstructors().length > 0;
+  }
+
+  private static boolean isPregenerated(String className) {
+    return className.contains(SOFT_ASSERTION_PROXY_SUFFIX) || className.contains(ASSUMPTION_SUFFIX);
+  }
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.PregeneratedProxies.ASSUMPTION_SUFFIX;
+import static org.assertj.core.api.PregeneratedProxies.SOFT_ASSERTION_PROXY_SUFFIX;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PregeneratedProxiesGenerator_Test {
+
+  @Test
+  void should_list_the_standard_assert_types_that_can_be_proxied() throws Exception {
+    // GIVEN
+    Path classesDirectory = Paths.get(StringAssert.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    // WHEN
+    List<Class<?>> assertClasses = PregeneratedProxiesGenerator.standardAssertClasses(classesDirectory);
+    // THEN
+    then(assertClasses).contains(StringAssert.class, ListAssert.class, RecursiveComparisonAssert.class)
+                       .doesNotContain(AbstractStringAssert.class, Assert.class, Assertions.class);
+  }
+
+  @Test
+  void should_generate_soft_assertion_proxy_and_assumption_classes(@TempDir File directory) {
+    // WHEN
+    int generated = PregeneratedProxiesGenerator.generate(list(StringAssert.class), directory);
+    // THEN
+    then(generated).isEqualTo(2);
+    File packageDirectory = new File(directory, "org/assertj/core/api");
+    then(new File(packageDirectory, "StringAssert" + SOFT_ASSERTION_PROXY_SUFFIX + ".class")).isFile();
+    then(new File(packageDirectory, "StringAssert" + ASSUMPTION_SUFFIX + ".class")).isFile();
+  }
+
+}
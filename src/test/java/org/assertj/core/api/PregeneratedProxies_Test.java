@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.PregeneratedProxies.ASSUMPTION_SUFFIX;
+import static org.assertj.core.api.PregeneratedProxies.SOFT_ASSERTION_PROXY_SUFFIX;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class PregeneratedProxies_Test {
+
+  @Test
+  void should_not_find_pregenerated_classes_of_user_defined_assert_types() {
+    then(PregeneratedProxies.softAssertionProxyClass(TestAssert.class)).isNull();
+    then(PregeneratedProxies.assumptionClass(TestAssert.class)).isNull();
+  }
+
+  @Test
+  void should_load_pregenerated_classes_instead_of_generating_them() throws Exception {
+    // GIVEN
+    Path testClassesDirectory = Paths.get(PregeneratedAssert.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    // PregeneratedAssert is in the org.assertj.core.api package, its classes are thus looked up like the standard ones
+    PregeneratedProxiesGenerator.generate(list(PregeneratedAssert.class), testClassesDirectory.toFile());
+    try {
+      // WHEN
+      PregeneratedAssert softAssertionProxy = new SoftAssertions().proxy(PregeneratedAssert.class, Object.class, "foo");
+      Class<?> assumptionClass = Assumptions.createAssumptionClass(PregeneratedAssert.class);
+      // THEN
+      then(softAssertionProxy.getClass().getName()).isEqualTo(PregeneratedAssert.class.getName() + SOFT_ASSERTION_PROXY_SUFFIX);
+      then(assumptionClass.getName()).isEqualTo(PregeneratedAssert.class.getName() + ASSUMPTION_SUFFIX);
+    } finally {
+      deleteGeneratedClassFiles(testClassesDirectory);
+    }
+  }
+
+  private static void deleteGeneratedClassFiles(Path testClassesDirectory) {
+    String generatedClassFilePrefix = PregeneratedAssert.class.getSimpleName() + "$AssertJ$";
+    File packageDirectory = testClassesDirectory.resolve("org/assertj/core/api").toFile();
+    Stream.of(packageDirectory.listFiles((directory, name) -> name.startsWith(PregeneratedProxies_Test.class.getSimpleName())
+                                                              && name.contains(generatedClassFilePrefix)))
+          .forEach(File::delete);
+  }
+
+  static class TestAssert extends AbstractAssert<TestAssert, Object> {
+    TestAssert(Object actual) {
+      super(actual, TestAssert.class);
+    }
+  }
+
+  public static class PregeneratedAssert extends AbstractAssert<PregeneratedAssert, Object> {
+    public PregeneratedAssert(Object actual) {
+      super(actual, PregeneratedAssert.class);
+    }
+  }
+
+}
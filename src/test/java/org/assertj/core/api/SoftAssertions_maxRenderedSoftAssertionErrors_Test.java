@@ -0,0 +1,89 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.InstanceOfAssertFactories.THROWABLE;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.error.LazilyRenderedAssertionError;
+import org.assertj.core.internal.Failures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Soft assertions maxRenderedSoftAssertionErrors")
+class SoftAssertions_maxRenderedSoftAssertionErrors_Test {
+
+  private final SoftAssertions softly = new SoftAssertions();
+
+  @AfterEach
+  void afterEachTest() {
+    // reset to the default value to avoid side effects on the other tests
+    Failures.instance().setMaxRenderedSoftAssertionErrors(Configuration.MAX_RENDERED_SOFT_ASSERTION_ERRORS);
+  }
+
+  @Test
+  void should_only_render_the_messages_of_the_first_collected_errors() {
+    // GIVEN
+    Assertions.setMaxRenderedSoftAssertionErrors(1);
+    // WHEN
+    softly.assertThat(list("a")).as("first").isEmpty();
+    softly.assertThat(list("b")).as("second").isEmpty();
+    // THEN
+    List<Throwable> errors = softly.errorsCollected();
+    then(errors).hasSize(2);
+    then(errors.get(0)).hasMessageStartingWith(format("[first] %nExpecting empty but was: [\"a\"]"));
+    then(errors.get(1)).hasMessageStartingWith(format("[second] %n[failure message not rendered as only the first 1 collected soft assertion errors are"))
+                       .hasMessageNotContaining("\"b\"");
+  }
+
+  @Test
+  void should_render_message_when_the_error_is_collected() {
+    // GIVEN
+    Assertions.setMaxRenderedSoftAssertionErrors(10);
+    List<String> list = list("a");
+    // WHEN
+    softly.assertThat(list).isEmpty();
+    list.add("b");
+    // THEN
+    then(softly.errorsCollected()).singleElement(as(THROWABLE))
+                                  .isInstanceOf(LazilyRenderedAssertionError.class)
+                                  .hasMessageContaining("[\"a\"]");
+  }
+
+  @Test
+  void should_render_messages_when_failing_if_the_number_of_rendered_errors_is_not_limited() {
+    // WHEN
+    softly.assertThat(list("a")).isEmpty();
+    // THEN
+    then(softly.errorsCollected()).singleElement()
+                                  .isNotInstanceOf(LazilyRenderedAssertionError.class);
+  }
+
+  @Test
+  void should_render_hard_assertion_messages_when_failing() {
+    // GIVEN
+    Assertions.setMaxRenderedSoftAssertionErrors(0);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> Assertions.assertThat(list("a")).isEmpty());
+    // THEN
+    then(error).isNotInstanceOf(LazilyRenderedAssertionError.class);
+  }
+}
@@ -58,6 +58,9 @@ import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.LongPredicate;
 import java.util.function.Predicate;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.data.MapEntry;
@@ -259,6 +262,17 @@ class WithAssertions_delegation_Test implements WithAssertions {
     assertThat(Stream.of("")).hasSize(1);
   }
 
+  /**
+   * Test that the delegate method is called.
+   */
+  @Test
+  void withAssertions_assertThatLazily_stream_Test() {
+    assertThatLazily(Stream.iterate(0, i -> i + 1)).anyMatch(i -> i == 10);
+    assertThatLazily(IntStream.iterate(0, i -> i + 1)).anyMatch(i -> i == 10);
+    assertThatLazily(LongStream.iterate(0, i -> i + 1)).anyMatch(i -> i == 10);
+    assertThatLazily(DoubleStream.iterate(0.0, d -> d + 1.0)).anyMatch(d -> d == 10.0);
+  }
+
   /**
    * Test that the delegate method is called.
    */
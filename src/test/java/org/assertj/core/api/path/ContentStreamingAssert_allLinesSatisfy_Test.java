@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentStreamingAssert_allLinesSatisfy_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_pass_if_all_lines_satisfy_requirements() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth\r\nIs Out\rThere\n".getBytes(UTF_8));
+    List<String> lines = new ArrayList<>();
+    // WHEN
+    assertThat(actual).streamingContent(UTF_8).allLinesSatisfy(line -> {
+      lines.add(line);
+      assertThat(line).doesNotContain("\n", "\r");
+    });
+    // THEN
+    then(lines).containsExactly("The Truth", "Is Out", "There");
+  }
+
+  @Test
+  void should_fail_at_the_first_line_not_satisfying_requirements() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth\nIs 100% Out\nThere".getBytes(UTF_8));
+    List<String> lines = new ArrayList<>();
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8)
+                                                                                 .allLinesSatisfy(line -> {
+                                                                                   lines.add(line);
+                                                                                   assertThat(line).contains("The");
+                                                                                 }));
+    // THEN
+    then(lines).containsExactly("The Truth", "Is 100% Out");
+    then(assertionError).hasMessage(format("%nExpecting all lines of:%n" +
+                                           "  %s%n" +
+                                           "read with UTF-8 charset to satisfy the given requirements but line 2:%n" +
+                                           "  \"Is 100%% Out\"%n" +
+                                           "did not:%n" +
+                                           "%nExpecting actual:%n" +
+                                           "  \"Is 100%% Out\"%n" +
+                                           "to contain:%n" +
+                                           "  \"The\" ",
+                                           actual));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.path.ContentStreamingAssert_contains_Test.repeat;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ContentStreamingAssert_containsPattern_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Tr.th", "^The", "There$", "\\bIs\\b", "(?m)^Out", "(?<=Is\\n)Out", "" })
+  void should_pass_if_content_contains_pattern(String regex) throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth Is\nOut There".getBytes(UTF_8));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_8).containsPattern(regex).containsPattern(Pattern.compile(regex));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 8180, 8190, 8192, 16_383, 30_000 })
+  void should_pass_if_match_crosses_the_chunks_read(int offset) throws IOException {
+    // GIVEN
+    String content = repeat('x', offset) + "<" + repeat('y', 10_000) + ">" + repeat('x', 20_000);
+    Path actual = Files.write(tempDir.resolve("actual.txt"), content.getBytes(UTF_8));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_8).containsPattern("x<y+>x");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = { "Is Out", "^Truth", "Truth$", "(?m)^Is", "(?<!Is\\n)Out", "x<y+>x" })
+  void should_fail_if_content_does_not_contain_pattern(String regex) throws IOException {
+    // GIVEN
+    String content = "The Truth Is\nOut There" + repeat(' ', 20_000) + "x<yyy>" + repeat(' ', 20_000);
+    Path actual = Files.write(tempDir.resolve("actual.txt"), content.getBytes(UTF_8));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8)
+                                                                                 .containsPattern(regex));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting content of:%n" +
+                                           "  %s%n" +
+                                           "read with UTF-8 charset to contain pattern:%n" +
+                                           "  \"%s\"",
+                                           actual, regex));
+  }
+
+  @Test
+  @Timeout(10)
+  void should_only_keep_the_characters_where_a_match_can_still_start_between_chunks() throws IOException {
+    // GIVEN
+    // every chunk ends with a partial match, the whole content would be searched again if it was kept
+    Path actual = Files.write(tempDir.resolve("actual.txt"), (repeat('a', 10_000_000) + "b").getBytes(UTF_8));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_8).containsPattern("a{3}b");
+  }
+
+  @Test
+  void should_not_match_end_of_input_before_the_end_of_the_content() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), (repeat('x', 8192) + "y").getBytes(UTF_8));
+    // WHEN
+    expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8).containsPattern("x$"));
+    // THEN
+    assertThat(actual).streamingContent(UTF_8).containsPattern("y$");
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ContentStreamingAssert_contains_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_pass_if_content_contains_all_values() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth Is Out There".getBytes(UTF_8));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_8).contains("There", "Truth", "", "The Truth Is Out There");
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 8180, 8188, 8191, 8192, 8193, 16380 })
+  void should_pass_if_value_crosses_the_chunks_read(int offset) throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), (repeat('x', offset) + "needle" + repeat('x', 20_000)).getBytes(UTF_8));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_8).contains("xneedlex", "needle");
+  }
+
+  @Test
+  void should_pass_if_content_of_a_file_in_a_zip_file_system_contains_all_values() throws IOException {
+    // GIVEN
+    URI zipFile = URI.create("jar:" + tempDir.resolve("archive.zip").toUri());
+    try (FileSystem zipFileSystem = FileSystems.newFileSystem(zipFile, Collections.singletonMap("create", "true"))) {
+      Path actual = Files.write(zipFileSystem.getPath("actual.txt"), "The Truth Is Out There".getBytes(UTF_8));
+      // WHEN/THEN
+      assertThat(actual).streamingContent(UTF_8).contains("There", "Truth");
+    }
+  }
+
+  @Test
+  void should_fail_if_content_does_not_contain_all_values() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth Is Out There".getBytes(UTF_8));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8)
+                                                                                 .contains("Truth", "Elsewhere"));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting content of:%n" +
+                                           "  %s%n" +
+                                           "read with UTF-8 charset to contain:%n" +
+                                           "  [\"Truth\", \"Elsewhere\"]%n" +
+                                           "but could not find:%n" +
+                                           "  [\"Elsewhere\"]",
+                                           actual));
+  }
+
+  @Test
+  void should_fail_if_content_is_empty() throws IOException {
+    // GIVEN
+    Path actual = Files.createFile(tempDir.resolve("actual.txt"));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8).contains("a"));
+    // THEN
+    then(assertionError).hasMessageContaining("but could not find");
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_readable() {
+    // GIVEN
+    Path actual = tempDir.resolve("missing.txt");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent().contains("a"));
+    // THEN
+    then(assertionError).hasMessageContaining("to exist");
+  }
+
+  @Test
+  void should_throw_error_if_values_are_null() {
+    // GIVEN
+    CharSequence[] values = null;
+    // WHEN
+    NullPointerException exception = catchNullPointerException(() -> assertThat(tempDir).streamingContent().contains(values));
+    // THEN
+    then(exception).hasMessage("The array of values to look for should not be null");
+  }
+
+  @Test
+  void should_throw_error_if_values_are_empty() {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> assertThat(tempDir).streamingContent()
+                                                                                                .contains());
+    // THEN
+    then(exception).hasMessage("The array of values to look for should not be empty");
+  }
+
+  static String repeat(char c, int count) {
+    char[] chars = new char[count];
+    Arrays.fill(chars, c);
+    return new String(chars);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class ContentStreamingAssert_hasLineCount_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @ParameterizedTest
+  @MethodSource
+  void should_count_lines_like_BufferedReader(String content, long expectedLineCount) throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), content.getBytes(UTF_8));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_8).hasLineCount(expectedLineCount);
+    then(Files.newBufferedReader(actual).lines()).hasSize((int) expectedLineCount);
+  }
+
+  static Stream<Arguments> should_count_lines_like_BufferedReader() {
+    StringBuilder crlfAcrossChunks = new StringBuilder();
+    for (int i = 0; i < 8191; i++) {
+      crlfAcrossChunks.append('x');
+    }
+    crlfAcrossChunks.append("\r\nlast");
+    return Stream.of(Arguments.of("", 0),
+                     Arguments.of("one", 1),
+                     Arguments.of("one\n", 1),
+                     Arguments.of("\n", 1),
+                     Arguments.of("\n\n", 2),
+                     Arguments.of("one\ntwo", 2),
+                     Arguments.of("one\r\ntwo\r\n", 2),
+                     Arguments.of("one\rtwo\n\rthree", 4),
+                     Arguments.of(crlfAcrossChunks.toString(), 2));
+  }
+
+  @Test
+  void should_fail_if_line_count_is_not_the_expected_one() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "one\ntwo\n".getBytes(UTF_8));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8).hasLineCount(3));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting content of:%n" +
+                                           "  %s%n" +
+                                           "read with UTF-8 charset to have 3 lines but had 2",
+                                           actual));
+  }
+
+  @Test
+  void should_throw_error_if_expected_line_count_is_negative() {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> assertThat(tempDir).streamingContent()
+                                                                                                .hasLineCount(-1));
+    // THEN
+    then(exception).hasMessage("The expected line count must be >= 0 but was -1");
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.path.ContentStreamingAssert_contains_Test.repeat;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ContentStreamingAssert_startsWith_endsWith_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_pass_if_content_starts_and_ends_with_values() throws IOException {
+    // GIVEN
+    String content = "é" + repeat('x', 20_000) + "漢字";
+    Path actual = Files.write(tempDir.resolve("actual.txt"), content.getBytes(UTF_16));
+    // WHEN/THEN
+    assertThat(actual).streamingContent(UTF_16)
+                      .startsWith("éxx")
+                      .startsWith("")
+                      .startsWith(content)
+                      .endsWith("x漢字")
+                      .endsWith("")
+                      .endsWith(content);
+  }
+
+  @Test
+  void should_fail_if_content_does_not_start_with_prefix() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth Is Out There".getBytes(UTF_8));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8).startsWith("Truth"));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting content of:%n" +
+                                           "  %s%n" +
+                                           "read with UTF-8 charset to start with:%n" +
+                                           "  \"Truth\"%n" +
+                                           "but started with:%n" +
+                                           "  \"The T\"",
+                                           actual));
+  }
+
+  @Test
+  void should_fail_if_content_is_shorter_than_prefix() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The".getBytes(UTF_8));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8).startsWith("The Truth"));
+    // THEN
+    then(assertionError).hasMessageEndingWith(format("but started with:%n  \"The\""));
+  }
+
+  @Test
+  void should_fail_if_content_does_not_end_with_suffix() throws IOException {
+    // GIVEN
+    Path actual = Files.write(tempDir.resolve("actual.txt"), "The Truth Is Out There".getBytes(UTF_8));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).streamingContent(UTF_8).endsWith("Out"));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting content of:%n" +
+                                           "  %s%n" +
+                                           "read with UTF-8 charset to end with:%n" +
+                                           "  \"Out\"%n" +
+                                           "but ended with:%n" +
+                                           "  \"ere\"",
+                                           actual));
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.path;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.assertj.core.api.AbstractAssert;
+import org.assertj.core.api.ContentStreamingAssert;
+import org.assertj.core.api.PathAssert;
+import org.assertj.core.api.PathAssertBaseTest;
+import org.assertj.core.api.NavigationMethodBaseTest;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+class PathAssert_streamingContent_Test extends PathAssertBaseTest implements NavigationMethodBaseTest<PathAssert> {
+
+  @Override
+  protected PathAssert invoke_api_method() {
+    assertions.streamingContent();
+    return assertions;
+  }
+
+  @Override
+  protected void verify_internal_effects() {
+    // the content is only read by the returned assertions
+  }
+
+  @Override
+  protected PathAssert create_assertions() {
+    return new PathAssert(new File("src/test/resources/actual_file.txt").toPath());
+  }
+
+  @Test
+  void should_return_ContentStreamingAssert_on_path_content() {
+    // GIVEN
+    Path path = new File("src/test/resources/actual_file.txt").toPath();
+    // WHEN
+    ContentStreamingAssert contentAssert = assertThat(path).streamingContent(UTF_8);
+    // THEN
+    contentAssert.startsWith("actual").endsWith(format("actual%n")).hasLineCount(1);
+  }
+
+  @Test
+  void should_collect_errors_of_soft_assertions_on_path_content() {
+    // GIVEN
+    SoftAssertions softly = new SoftAssertions();
+    // WHEN
+    softly.assertThat(new File("src/test/resources/actual_file.txt").toPath()).streamingContent().contains("expected").hasLineCount(2);
+    // THEN
+    then(softly.errorsCollected()).hasSize(2);
+  }
+
+  @Override
+  public PathAssert getAssertion() {
+    return assertions;
+  }
+
+  @Override
+  public AbstractAssert<?, ?> invoke_navigation_method(PathAssert assertion) {
+    return assertion.streamingContent();
+  }
+
+}
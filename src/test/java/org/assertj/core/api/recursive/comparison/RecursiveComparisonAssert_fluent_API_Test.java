@@ -27,6 +27,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 import org.assertj.core.groups.Tuple;
@@ -70,6 +71,31 @@ class RecursiveComparisonAssert_fluent_API_Test {
     assertThat(configuration.isInStrictTypeCheckingMode()).isTrue();
   }
 
+  @Test
+  void should_allow_to_set_parallelism() {
+    // GIVEN
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                       .withParallelism(8)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getParallelism()).isEqualTo(8);
+  }
+
+  @Test
+  void should_allow_to_set_fork_join_pool() {
+    // GIVEN
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = assertThat(ACTUAL).usingRecursiveComparison(recursiveComparisonConfiguration)
+                                                                       .usingForkJoinPool(forkJoinPool)
+                                                                       .getRecursiveComparisonConfiguration();
+    // THEN
+    assertThat(configuration.getForkJoinPool()).isSameAs(forkJoinPool);
+  }
+
   @Test
   void should_allow_to_use_its_own_RecursiveComparisonConfiguration() {
     // GIVEN
@@ -426,4 +426,94 @@ class RecursiveComparisonAssert_isEqualTo_ignoringCollectionOrder_Test
                                        new PersonWithInt("name-1", 1)));
   }
 
+  @Test
+  void should_pass_when_unordered_elements_only_match_with_a_field_comparator() {
+    // GIVEN
+    List<PersonWithInt> persons = list(new PersonWithInt("name-1", 1),
+                                       new PersonWithInt("name-2", 2));
+
+    // WHEN/THEN
+    assertThat(persons).usingRecursiveComparison()
+                       .ignoringCollectionOrder()
+                       .withEqualsForFields((String s1, String s2) -> s1.equalsIgnoreCase(s2), "name")
+                       .isEqualTo(list(new PersonWithInt("NAME-2", 2),
+                                       new PersonWithInt("NAME-1", 1)));
+  }
+
+  @Test
+  void should_pass_when_unordered_elements_only_match_with_a_type_comparator() {
+    // GIVEN
+    List<PersonWithInt> persons = list(new PersonWithInt("name-1", 1),
+                                       new PersonWithInt("name-2", 2));
+
+    // WHEN/THEN
+    assertThat(persons).usingRecursiveComparison()
+                       .ignoringCollectionOrder()
+                       .withComparatorForType(String.CASE_INSENSITIVE_ORDER, String.class)
+                       .isEqualTo(list(new PersonWithInt("NAME-2", 2),
+                                       new PersonWithInt("NAME-1", 1)));
+  }
+
+  @Test
+  void should_pass_when_unordered_elements_only_match_when_ignoring_fields() {
+    // GIVEN
+    List<PersonWithInt> persons = list(new PersonWithInt("name-1", 1),
+                                       new PersonWithInt("name-2", 2));
+
+    // WHEN/THEN
+    assertThat(persons).usingRecursiveComparison()
+                       .ignoringCollectionOrder()
+                       .ignoringFields("name")
+                       .isEqualTo(list(new PersonWithInt("other-2", 2),
+                                       new PersonWithInt("other-1", 1)));
+  }
+
+  @Test
+  void should_pass_when_unordered_elements_only_match_when_ignoring_expected_null_fields() {
+    // GIVEN
+    List<PersonWithInt> persons = list(new PersonWithInt("name-1", 1),
+                                       new PersonWithInt("name-2", 2));
+
+    // WHEN/THEN
+    assertThat(persons).usingRecursiveComparison()
+                       .ignoringCollectionOrder()
+                       .ignoringExpectedNullFields()
+                       .isEqualTo(list(new PersonWithInt(null, 2),
+                                       new PersonWithInt(null, 1)));
+  }
+
+  @Test
+  void should_pass_when_unordered_enums_of_different_types_have_the_same_names() {
+    // GIVEN
+    List<Type> types = list(FIRST, SECOND);
+
+    // WHEN/THEN
+    assertThat(types).usingRecursiveComparison()
+                     .ignoringCollectionOrder()
+                     .isEqualTo(list(OtherType.SECOND, OtherType.FIRST));
+  }
+
+  @Test
+  void should_report_unordered_elements_not_matched_whatever_their_fingerprint() {
+    // GIVEN
+    List<PersonWithInt> actual = list(new PersonWithInt("name-1", 1),
+                                      new PersonWithInt("name-2", 2));
+    List<PersonWithInt> expected = list(new PersonWithInt("name-2", 2),
+                                        new PersonWithInt("name-1", 3));
+    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+
+    // WHEN
+    compareRecursivelyFailsAsExpected(actual, expected);
+
+    // THEN
+    ComparisonDifference comparisonDifference = new ComparisonDifference(new DualValue(list(), actual, expected),
+                                                                         format("The following expected elements were not matched in the actual ArrayList:%n"
+                                                                                + "  [Person [name=name-1, type=3]]"));
+    verifyShouldBeEqualByComparingFieldByFieldRecursivelyCall(actual, expected, comparisonDifference);
+  }
+
+  enum OtherType {
+    FIRST, SECOND
+  }
+
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  private static final int SIZE = 3 * RecursiveComparisonDifferenceCalculator.PARALLEL_COMPARISON_THRESHOLD;
+
+  @Test
+  void should_pass_when_large_graphs_are_equal() {
+    // GIVEN
+    Node actual = graph(SIZE);
+    Node expected = graph(SIZE);
+    // WHEN/THEN
+    then(actual).usingRecursiveComparison()
+                .withParallelism(4)
+                .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_as_a_sequential_comparison() {
+    // GIVEN
+    Node actual = graph(SIZE);
+    Node expected = graph(SIZE);
+    expected.children.get(10).name = "other";
+    expected.children.get(SIZE / 2).children.get(5).name = "other";
+    expected.children.get(SIZE - 1).children.remove(0);
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                             .withParallelism(4)
+                                                                                             .build();
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    // WHEN
+    List<ComparisonDifference> differences = calculator.determineDifferences(actual, expected, parallelConfiguration);
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       new RecursiveComparisonConfiguration());
+    then(differences).hasSize(3)
+                     .containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  @Test
+  void should_report_once_the_differences_of_values_shared_by_several_parallel_tasks() {
+    // GIVEN
+    Node actual = graph(SIZE);
+    Node expected = graph(SIZE);
+    Node actualShared = new Node("shared", null);
+    Node expectedShared = new Node("other", null);
+    for (int i = 0; i < SIZE; i++) {
+      actual.children.get(i).shared = actualShared;
+      expected.children.get(i).shared = expectedShared;
+    }
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                             .withParallelism(4)
+                                                                                             .build();
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    // WHEN
+    List<ComparisonDifference> differences = calculator.determineDifferences(actual, expected, parallelConfiguration);
+    // THEN
+    List<ComparisonDifference> sequentialDifferences = calculator.determineDifferences(actual, expected,
+                                                                                       new RecursiveComparisonConfiguration());
+    then(differences).hasSize(1)
+                     .containsExactlyElementsOf(sequentialDifferences);
+  }
+
+  @Test
+  void should_fail_when_large_unordered_collections_differ() {
+    // GIVEN
+    Set<Node> actual = new HashSet<>(graph(SIZE).children);
+    Set<Node> expected = new HashSet<>(graph(SIZE).children);
+    expected.iterator().next().name = "other";
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withParallelism(4)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining("The following expected elements were not matched in the actual HashSet");
+  }
+
+  @Test
+  void should_compare_values_with_the_given_fork_join_pool() {
+    // GIVEN
+    Node actual = graph(SIZE);
+    Node expected = graph(SIZE);
+    ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+    Set<ForkJoinPool> usedPools = ConcurrentHashMap.newKeySet();
+    // WHEN
+    try {
+      then(actual).usingRecursiveComparison()
+                  .usingForkJoinPool(forkJoinPool)
+                  .withEqualsForType((String s1, String s2) -> {
+                    if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+                      usedPools.add(((ForkJoinWorkerThread) Thread.currentThread()).getPool());
+                    }
+                    return s1.equals(s2);
+                  }, String.class)
+                  .isEqualTo(expected);
+      // THEN
+      then(usedPools).containsExactly(forkJoinPool);
+      then(forkJoinPool.isShutdown()).isFalse();
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  private static Node graph(int size) {
+    Node root = new Node("root", null);
+    for (int i = 0; i < size; i++) {
+      Node child = new Node("node-" + i, root);
+      for (int j = 0; j < 10; j++) {
+        child.children.add(new Node("node-" + i + "-" + j, child));
+      }
+      root.children.add(child);
+    }
+    return root;
+  }
+
+  static class Node {
+    String name;
+    Node parent;
+    Node shared;
+    List<Node> children = new ArrayList<>();
+
+    Node(String name, Node parent) {
+      this.name = name;
+      this.parent = parent;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
@@ -13,8 +13,13 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.recursive.comparison.Color.GREEN;
 import static org.assertj.core.test.NeverEqualComparator.NEVER_EQUALS_STRING;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.assertj.core.api.RecursiveComparisonAssert_isNotEqualTo_BaseTest;
 import org.assertj.core.internal.objects.data.Person;
@@ -161,6 +166,20 @@ class RecursiveComparisonAssert_isNotEqualTo_Test extends RecursiveComparisonAss
                       .isNotEqualTo(other);
   }
 
+  @Test
+  void should_stop_comparing_values_at_the_first_difference() {
+    // GIVEN
+    List<String> actual = list("a", "b", "c", "d");
+    List<String> other = list("w", "x", "y", "z");
+    AtomicInteger comparedStrings = new AtomicInteger();
+    // WHEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withEqualsForType((String s1, String s2) -> comparedStrings.incrementAndGet() == 0, String.class)
+                      .isNotEqualTo(other);
+    // THEN
+    then(comparedStrings).hasValue(1);
+  }
+
   @Test
   void should_be_able_to_use_a_BiPredicate_for_specified_fields() {
     // GIVEN
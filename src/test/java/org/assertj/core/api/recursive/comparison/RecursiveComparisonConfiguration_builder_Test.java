@@ -17,6 +17,7 @@ import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.test.AlwaysEqualComparator.alwaysEqual;
 
 import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
@@ -319,6 +320,33 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.getMessageForType(String.class)).isEqualTo(message);
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withParallelism(4).build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_fail_if_parallelism_is_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> configBuilder().withParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("The parallelism must be greater than or equal to 1 but was 0");
+  }
+
+  @Test
+  void should_set_fork_join_pool() {
+    // GIVEN
+    ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = configBuilder().withForkJoinPool(forkJoinPool).build();
+    // THEN
+    then(configuration.getForkJoinPool()).isSameAs(forkJoinPool);
+  }
+
   private static Builder configBuilder() {
     return RecursiveComparisonConfiguration.builder();
   }
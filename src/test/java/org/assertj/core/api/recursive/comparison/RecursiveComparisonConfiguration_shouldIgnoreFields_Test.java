@@ -56,6 +56,18 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
     then(fields).containsExactlyInAnyOrder("foo", "bar", "foo.bar");
   }
 
+  @Test
+  void should_honor_fields_to_ignore_registered_after_a_field_has_been_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("name", "first");
+    then(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isFalse();
+    recursiveComparisonConfiguration.ignoreFields("name.first");
+    // WHEN
+    boolean ignored = recursiveComparisonConfiguration.shouldIgnore(dualValue);
+    // THEN
+    then(ignored).isTrue();
+  }
+
   @ParameterizedTest(name = "{0} should be ignored")
   @MethodSource
   void should_ignore_actual_null_fields(DualValue dualValue) {
@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static java.lang.Double.NaN;
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldNotContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.DoubleStream;
+
+import org.junit.jupiter.api.Test;
+
+class DoubleStreamingAssert_Test {
+
+  private static DoubleStream halves() {
+    return DoubleStream.iterate(0.0, d -> d + 0.5);
+  }
+
+  @Test
+  void should_pass_on_infinite_streams() {
+    assertThatLazily(halves()).anyMatch(d -> d == 1_000_000.0);
+    assertThatLazily(halves()).contains(1_000.5, 0.0);
+    assertThatLazily(halves()).startsWith(0.0, 0.5, 1.0);
+    assertThatLazily(halves()).hasSizeGreaterThan(1_000_000);
+  }
+
+  @Test
+  void should_pass_on_finite_streams() {
+    assertThatLazily(halves().limit(1_000)).allMatch(d -> d >= 0.0);
+    assertThatLazily(halves().limit(1_000)).noneMatch(d -> d < 0.0);
+    assertThatLazily(halves().limit(1_000)).doesNotContain(-0.5, 0.25);
+    assertThatLazily(DoubleStream.of(-1.0, 2.0, 2.0, 3.0)).isSorted();
+  }
+
+  @Test
+  void should_compare_elements_like_their_boxed_values() {
+    assertThatLazily(DoubleStream.of(1.0, NaN)).contains(NaN);
+    assertThatLazily(DoubleStream.of(0.0)).doesNotContain(-0.0);
+    assertThatLazily(DoubleStream.of(-0.0, 0.0, NaN)).isSorted();
+  }
+
+  @Test
+  void should_fail_allMatch_at_the_first_element_not_matching() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(halves()).allMatch(d -> d < 5.0));
+    // THEN
+    then(assertionError).hasMessage(streamElementsShouldMatch(10, 5.0, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_anyMatch_if_no_element_matches() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(DoubleStream.of(NaN)).anyMatch(d -> d == NaN));
+    // THEN
+    then(assertionError).hasMessage(anyStreamElementShouldMatch(1, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_noneMatch_at_the_first_element_matching() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(halves()).noneMatch(d -> d == 1.0));
+    // THEN
+    then(assertionError).hasMessage(noStreamElementsShouldMatch(2, 1.0, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_contains_if_values_are_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(DoubleStream.of(0.0)).contains(-0.0, 0.0));
+    // THEN
+    then(assertionError).hasMessage(streamShouldContain(new double[] { -0.0, 0.0 }, new double[] { -0.0 }, 1).create());
+  }
+
+  @Test
+  void should_fail_doesNotContain_at_the_first_value_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(DoubleStream.of(1.0, NaN)).doesNotContain(NaN));
+    // THEN
+    then(assertionError).hasMessage(streamShouldNotContain(new double[] { NaN }, 1, NaN).create());
+  }
+
+  @Test
+  void should_fail_startsWith_if_an_element_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(halves()).startsWith(0.0, 1.0));
+    // THEN
+    then(assertionError).hasMessage(streamShouldStartWith(new double[] { 0.0, 1.0 }, 1, 0.5).create());
+  }
+
+  @Test
+  void should_fail_isSorted_at_the_first_unsorted_element() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(DoubleStream.of(0.0, -0.0)).isSorted());
+    // THEN
+    then(assertionError).hasMessage(streamShouldBeSorted(0, 0.0, -0.0).create());
+  }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldNotContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class IntStreamingAssert_Test {
+
+  private static IntStream naturalNumbers() {
+    return IntStream.iterate(0, i -> i + 1);
+  }
+
+  @Test
+  void should_pass_on_infinite_streams() {
+    assertThatLazily(naturalNumbers()).anyMatch(i -> i == 1_000_000);
+    assertThatLazily(naturalNumbers()).contains(1_000_000, 0, 10);
+    assertThatLazily(naturalNumbers()).startsWith(0, 1, 2);
+    assertThatLazily(naturalNumbers()).hasSizeGreaterThan(1_000_000);
+  }
+
+  @Test
+  void should_pass_on_finite_streams() {
+    assertThatLazily(IntStream.range(0, 1_000_000)).allMatch(i -> i >= 0);
+    assertThatLazily(IntStream.range(0, 1_000_000)).noneMatch(i -> i < 0);
+    assertThatLazily(IntStream.range(0, 1_000_000)).doesNotContain(-1, 1_000_000);
+    assertThatLazily(IntStream.of(1, 2, 2, 3)).isSorted();
+  }
+
+  @Test
+  void should_fail_allMatch_at_the_first_element_not_matching() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers()).allMatch(i -> i < 10));
+    // THEN
+    then(assertionError).hasMessage(streamElementsShouldMatch(10, 10, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_anyMatch_if_no_element_matches() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.of(1, 2)).anyMatch(i -> i > 2));
+    // THEN
+    then(assertionError).hasMessage(anyStreamElementShouldMatch(2, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_noneMatch_at_the_first_element_matching() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers()).noneMatch(i -> i == 5));
+    // THEN
+    then(assertionError).hasMessage(noStreamElementsShouldMatch(5, 5, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_contains_if_values_are_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.of(1, 2)).contains(2, 3, 4));
+    // THEN
+    then(assertionError).hasMessage(streamShouldContain(new int[] { 2, 3, 4 }, new int[] { 3, 4 }, 2).create());
+  }
+
+  @Test
+  void should_fail_doesNotContain_at_the_first_value_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers()).doesNotContain(-1, 7));
+    // THEN
+    then(assertionError).hasMessage(streamShouldNotContain(new int[] { -1, 7 }, 7, 7).create());
+  }
+
+  @Test
+  void should_fail_startsWith_if_an_element_differs() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers()).startsWith(0, 2));
+    // THEN
+    then(assertionError).hasMessage(streamShouldStartWith(new int[] { 0, 2 }, 1, 1).create());
+  }
+
+  @Test
+  void should_fail_startsWith_if_stream_is_too_short() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(IntStream.of(0)).startsWith(0, 1));
+    // THEN
+    then(assertionError).hasMessage(streamShouldStartWith(new int[] { 0, 1 }, 1).create());
+  }
+
+  @Test
+  void should_fail_isSorted_at_the_first_unsorted_element() {
+    // GIVEN
+    IntStream sawtooth = IntStream.iterate(0, i -> i == 100 ? 0 : i + 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(sawtooth).isSorted());
+    // THEN
+    then(assertionError).hasMessage(streamShouldBeSorted(100, 100, 0).create());
+  }
+
+}
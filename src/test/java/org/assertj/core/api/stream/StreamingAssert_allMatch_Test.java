@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_allMatch_Test {
+
+  @Test
+  void should_pass_if_all_elements_match_the_predicate() {
+    assertThatLazily(Stream.of("a", "bb", "ccc")).allMatch(s -> !s.isEmpty());
+  }
+
+  @Test
+  void should_pass_if_stream_is_empty() {
+    assertThatLazily(Stream.<String> empty()).allMatch(String::isEmpty);
+  }
+
+  @Test
+  void should_fail_at_the_first_element_not_matching_the_predicate_of_an_infinite_stream() {
+    // GIVEN
+    Stream<Integer> naturalNumbers = Stream.iterate(0, i -> i + 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers).allMatch(i -> i < 1000));
+    // THEN
+    then(assertionError).hasMessage(streamElementsShouldMatch(1000, 1000, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Stream<String> actual = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).allMatch(String::isEmpty));
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_throw_error_if_predicate_is_null() {
+    assertThatNullPointerException().isThrownBy(() -> assertThatLazily(Stream.of("a")).allMatch(null))
+                                    .withMessage("The predicate to evaluate should not be null");
+  }
+
+  @Test
+  void should_close_the_stream() {
+    // GIVEN
+    boolean[] closed = { false };
+    Stream<String> actual = Stream.of("a").onClose(() -> closed[0] = true);
+    // WHEN
+    assertThatLazily(actual).allMatch(s -> !s.isEmpty());
+    // THEN
+    then(closed[0]).isTrue();
+  }
+
+}
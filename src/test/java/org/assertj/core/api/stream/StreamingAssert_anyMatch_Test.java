@@ -0,0 +1,50 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_anyMatch_Test {
+
+  @Test
+  void should_pass_if_an_element_of_an_infinite_stream_matches_the_predicate() {
+    assertThatLazily(Stream.iterate(0, i -> i + 1)).anyMatch(i -> i == 1_000_000);
+  }
+
+  @Test
+  void should_fail_if_no_element_matches_the_predicate() {
+    // GIVEN
+    Stream<String> actual = Stream.of("a", "b", "c");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).anyMatch(String::isEmpty));
+    // THEN
+    then(assertionError).hasMessage(anyStreamElementShouldMatch(3, GIVEN).create());
+  }
+
+  @Test
+  void should_fail_if_stream_is_empty() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(Stream.<String> empty()).anyMatch(String::isEmpty));
+    // THEN
+    then(assertionError).hasMessage(anyStreamElementShouldMatch(0, GIVEN).create());
+  }
+
+}
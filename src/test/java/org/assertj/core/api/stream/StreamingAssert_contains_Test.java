@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_contains_Test {
+
+  @Test
+  void should_pass_if_an_infinite_stream_contains_the_given_values() {
+    assertThatLazily(Stream.iterate(0, i -> i + 1)).contains(100_000, 10, 10);
+  }
+
+  @Test
+  void should_pass_if_stream_contains_the_given_arrays_and_nulls() {
+    assertThatLazily(Stream.of(new String[] { "a" }, null)).contains(null, new String[] { "a" });
+  }
+
+  @Test
+  void should_fail_if_stream_does_not_contain_all_the_given_values() {
+    // GIVEN
+    Stream<String> actual = Stream.of("Luke", "Leia");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).contains("Leia", "Yoda", "Han"));
+    // THEN
+    then(assertionError).hasMessage(streamShouldContain(new String[] { "Leia", "Yoda", "Han" }, list("Yoda", "Han"), 2).create());
+  }
+
+  @Test
+  void should_throw_error_if_values_are_null_or_empty() {
+    assertThatNullPointerException().isThrownBy(() -> assertThatLazily(Stream.of("a")).contains((String[]) null));
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatLazily(Stream.of("a")).contains());
+  }
+
+}
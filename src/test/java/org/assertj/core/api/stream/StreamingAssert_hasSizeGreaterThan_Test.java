@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.streamShouldHaveSizeGreaterThan;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.StreamingAssert;
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_hasSizeGreaterThan_Test {
+
+  @Test
+  void should_pass_if_an_infinite_stream_has_more_elements_than_the_boundary() {
+    assertThatLazily(Stream.generate(() -> "a")).hasSizeGreaterThan(1_000_000);
+    assertThatLazily(IntStream.generate(() -> 1)).hasSizeGreaterThan(1_000_000);
+  }
+
+  @Test
+  void should_fail_if_stream_does_not_have_more_elements_than_the_boundary() {
+    // GIVEN
+    Stream<String> actual = Stream.of("a", "b", "c");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).hasSizeGreaterThan(3));
+    // THEN
+    then(assertionError).hasMessage(streamShouldHaveSizeGreaterThan(3, 3).create());
+  }
+
+  @Test
+  void should_throw_error_if_boundary_is_negative() {
+    assertThatIllegalArgumentException().isThrownBy(() -> assertThatLazily(Stream.of("a")).hasSizeGreaterThan(-1))
+                                        .withMessage("The boundary must be >= 0 but was -1");
+  }
+
+  @Test
+  void should_throw_error_if_stream_has_already_been_consumed_by_a_previous_assertion() {
+    // GIVEN
+    StreamingAssert<String> streamingAssert = assertThatLazily(Stream.of("a", "b"));
+    streamingAssert.hasSizeGreaterThan(1);
+    // WHEN/THEN
+    assertThatIllegalStateException().isThrownBy(() -> streamingAssert.hasSizeGreaterThan(1))
+                                     .withMessage("The stream under test has already been consumed by a previous assertion");
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldHaveMutuallyComparableElements;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_isSorted_Test {
+
+  @Test
+  void should_pass_if_stream_is_sorted() {
+    assertThatLazily(Stream.of("a", "b", "b", "c")).isSorted();
+  }
+
+  @Test
+  void should_pass_if_stream_is_empty() {
+    assertThatLazily(Stream.empty()).isSorted();
+  }
+
+  @Test
+  void should_fail_at_the_first_unsorted_element_of_an_infinite_stream() {
+    // GIVEN
+    Stream<Integer> sawtooth = Stream.iterate(0, i -> i == 1000 ? 0 : i + 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(sawtooth).isSorted());
+    // THEN
+    then(assertionError).hasMessage(streamShouldBeSorted(1000, 1000, 0).create());
+  }
+
+  @Test
+  void should_fail_if_elements_are_not_mutually_comparable() {
+    // GIVEN
+    Stream<Object> actual = Stream.of("a", 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).isSorted());
+    // THEN
+    then(assertionError).hasMessage(streamShouldHaveMutuallyComparableElements(0, "a", 1).create());
+  }
+
+  @Test
+  void should_fail_if_stream_contains_null() {
+    // GIVEN
+    Stream<String> actual = Stream.of("a", null);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).isSorted());
+    // THEN
+    then(assertionError).hasMessage(streamShouldHaveMutuallyComparableElements(0, "a", null).create());
+  }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_noneMatch_Test {
+
+  @Test
+  void should_pass_if_no_element_matches_the_predicate() {
+    assertThatLazily(Stream.of("a", "b", "c")).noneMatch(String::isEmpty);
+  }
+
+  @Test
+  void should_fail_at_the_first_element_matching_the_predicate_of_an_infinite_stream() {
+    // GIVEN
+    Stream<Integer> naturalNumbers = Stream.iterate(0, i -> i + 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers).noneMatch(i -> i == 42));
+    // THEN
+    then(assertionError).hasMessage(noStreamElementsShouldMatch(42, 42, GIVEN).create());
+  }
+
+}
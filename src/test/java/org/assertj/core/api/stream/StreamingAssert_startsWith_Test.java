@@ -0,0 +1,51 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.api.stream;
+
+import static org.assertj.core.api.Assertions.assertThatLazily;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingAssert_startsWith_Test {
+
+  @Test
+  void should_pass_if_an_infinite_stream_starts_with_the_given_sequence() {
+    assertThatLazily(Stream.iterate(0, i -> i + 1)).startsWith(0, 1, 2);
+  }
+
+  @Test
+  void should_fail_if_stream_does_not_start_with_the_given_sequence() {
+    // GIVEN
+    Stream<Integer> naturalNumbers = Stream.iterate(0, i -> i + 1);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(naturalNumbers).startsWith(0, 2));
+    // THEN
+    then(assertionError).hasMessage(streamShouldStartWith(new Integer[] { 0, 2 }, 1, 1).create());
+  }
+
+  @Test
+  void should_fail_if_stream_is_shorter_than_the_given_sequence() {
+    // GIVEN
+    Stream<String> actual = Stream.of("Luke");
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThatLazily(actual).startsWith("Luke", "Leia"));
+    // THEN
+    then(assertionError).hasMessage(streamShouldStartWith(new String[] { "Luke", "Leia" }, 1).create());
+  }
+
+}
@@ -19,6 +19,7 @@ import java.text.SimpleDateFormat;
 import java.util.Date;
 
 import org.assertj.core.api.AssumptionExceptionFactory;
+import org.assertj.core.internal.Diff;
 import org.assertj.core.internal.Failures;
 import org.assertj.core.presentation.StandardRepresentation;
 import org.assertj.core.util.introspection.FieldSupport;
@@ -44,6 +45,9 @@ class Configuration_apply_Test {
     then(StandardRepresentation.getMaxElementsForPrinting()).isEqualTo(configuration.maxElementsForPrinting());
     then(StandardRepresentation.getMaxStackTraceElementsDisplayed()).isEqualTo(configuration.maxStackTraceElementsDisplayed());
     then(StandardRepresentation.getMaxLengthForSingleLineDescription()).isEqualTo(configuration.maxLengthForSingleLineDescription());
+    then(Diff.getMaxLinesForTextualDiff()).isEqualTo(configuration.maxLinesForTextualDiff());
+    then(Failures.instance().getMaxRenderedSoftAssertionErrors()).isEqualTo(configuration.maxRenderedSoftAssertionErrors());
+    then(StandardRepresentation.getMaxLengthForErrorMessageValues()).isEqualTo(configuration.maxLengthForErrorMessageValues());
     boolean removeAssertJRelatedElementsFromStackTrace = Failures.instance().isRemoveAssertJRelatedElementsFromStackTrace();
     then(removeAssertJRelatedElementsFromStackTrace).isEqualTo(configuration.removeAssertJRelatedElementsFromStackTraceEnabled());
     // check lenient is honored by parsing a string that would fail if the DateFormat was not lenient.
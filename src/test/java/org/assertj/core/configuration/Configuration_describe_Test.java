@@ -51,6 +51,9 @@ class Configuration_describe_Test {
                                        "- maxLengthForSingleLineDescription ............... = 81%n" +
                                        "- maxElementsForPrinting .......................... = 1001%n" +
                                        "- maxStackTraceElementsDisplayed................... = 4%n" +
+                                       "- maxLinesForTextualDiff .......................... = 10001%n" +
+                                       "- maxRenderedSoftAssertionErrors .................. = 100%n" +
+                                       "- maxLengthForErrorMessageValues .................. = 1000001%n" +
                                        "- printAssertionsDescription ...................... = false%n" +
                                        "- descriptionConsumer ............................. = sysout%n" +
                                        "- removeAssertJRelatedElementsFromStackTraceEnabled = false%n" +
@@ -71,6 +71,21 @@ class NonDefaultConfiguration extends Configuration {
     return super.maxStackTraceElementsDisplayed () + 1;
   }
 
+  @Override
+  public int maxLinesForTextualDiff() {
+    return super.maxLinesForTextualDiff() + 1;
+  }
+
+  @Override
+  public int maxRenderedSoftAssertionErrors() {
+    return 100;
+  }
+
+  @Override
+  public int maxLengthForErrorMessageValues() {
+    return super.maxLengthForErrorMessageValues() + 1;
+  }
+
   @Override
   public List<DateFormat> additionalDateFormats() {
     return list(DATE_FORMAT1, DATE_FORMAT2);
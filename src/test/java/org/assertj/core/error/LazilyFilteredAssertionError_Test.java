@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.StackTraceUtils.hasStackTraceElementRelatedToAssertJ;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+class LazilyFilteredAssertionError_Test {
+
+  @Test
+  void should_not_filter_stack_trace_if_not_requested() {
+    // GIVEN
+    LazilyFilteredAssertionError error = new LazilyFilteredAssertionError("boom");
+    // WHEN
+    StackTraceElement[] stackTrace = error.getStackTrace();
+    // THEN
+    then(stackTrace).anyMatch(element -> element.getClassName().contains("org.assertj"));
+  }
+
+  @Test
+  void should_filter_stack_trace_when_read() {
+    // GIVEN
+    LazilyFilteredAssertionError error = new LazilyFilteredAssertionError("boom");
+    // WHEN
+    error.filterStackTraceLazily();
+    // THEN
+    then(hasStackTraceElementRelatedToAssertJ(error)).isFalse();
+    then(error.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void should_filter_stack_trace_when_printed() {
+    // GIVEN
+    LazilyFilteredAssertionError error = new LazilyFilteredAssertionError("boom");
+    error.filterStackTraceLazily();
+    StringWriter stackTrace = new StringWriter();
+    // WHEN
+    error.printStackTrace(new PrintWriter(stackTrace));
+    // THEN
+    then(stackTrace.toString()).contains("boom")
+                               .doesNotContain("at org.assertj");
+  }
+
+  @Test
+  void should_not_filter_stack_trace_set_explicitly() {
+    // GIVEN
+    LazilyFilteredAssertionError error = new LazilyFilteredAssertionError("boom");
+    error.filterStackTraceLazily();
+    StackTraceElement assertjElement = new StackTraceElement("org.assertj.core.Foo", "bar", "Foo.java", 1);
+    // WHEN
+    error.setStackTrace(new StackTraceElement[] { assertjElement });
+    // THEN
+    then(error.getStackTrace()).containsExactly(assertjElement);
+  }
+}
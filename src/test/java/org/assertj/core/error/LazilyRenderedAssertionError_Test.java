@@ -0,0 +1,84 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.description.Description;
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.Representation;
+import org.junit.jupiter.api.Test;
+
+class LazilyRenderedAssertionError_Test {
+
+  private final AtomicInteger renderingCount = new AtomicInteger();
+  private final ErrorMessageFactory messageFactory = new BasicErrorMessageFactory("boom %s", "value") {
+    @Override
+    public String create(Description description, Representation representation) {
+      renderingCount.incrementAndGet();
+      return super.create(description, representation);
+    }
+  };
+
+  @Test
+  void should_not_render_message_before_it_is_read() {
+    // WHEN
+    LazilyRenderedAssertionError error = new LazilyRenderedAssertionError(new TextDescription("test"), STANDARD_REPRESENTATION,
+                                                                          messageFactory);
+    // THEN
+    then(error.isMessageRendered()).isFalse();
+    then(renderingCount).hasValue(0);
+  }
+
+  @Test
+  void should_render_message_once_when_read() {
+    // GIVEN
+    LazilyRenderedAssertionError error = new LazilyRenderedAssertionError(new TextDescription("test"), STANDARD_REPRESENTATION,
+                                                                          messageFactory);
+    // WHEN
+    String message = error.getMessage();
+    // THEN
+    then(message).isEqualTo("[test] boom \"value\"");
+    then(error).hasMessage(message)
+               .hasToString(LazilyRenderedAssertionError.class.getName() + ": " + message);
+    then(error.isMessageRendered()).isTrue();
+    then(renderingCount).hasValue(1);
+  }
+
+  @Test
+  void should_replace_message_by_description_and_explanation_when_rendering_is_skipped() {
+    // GIVEN
+    LazilyRenderedAssertionError error = new LazilyRenderedAssertionError(new TextDescription("test"), STANDARD_REPRESENTATION,
+                                                                          messageFactory);
+    // WHEN
+    error.skipMessageRendering("not rendered");
+    // THEN
+    then(error).hasMessage("[test] not rendered");
+    then(renderingCount).hasValue(0);
+  }
+
+  @Test
+  void should_keep_rendered_message_when_rendering_is_skipped_afterwards() {
+    // GIVEN
+    LazilyRenderedAssertionError error = new LazilyRenderedAssertionError(new TextDescription("test"), STANDARD_REPRESENTATION,
+                                                                          messageFactory);
+    error.getMessage();
+    // WHEN
+    error.skipMessageRendering("not rendered");
+    // THEN
+    then(error).hasMessage("[test] boom \"value\"");
+  }
+}
@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNullPointerException;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
@@ -23,6 +24,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.description.Description;
 import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.StandardRepresentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -68,6 +70,21 @@ class MessageFormatter_format_Test {
     verify(descriptionFormatter).format(description);
   }
 
+  @Test
+  void should_share_maxLengthForErrorMessageValues_between_arguments() {
+    // GIVEN
+    Description description = new TextDescription("Test");
+    StandardRepresentation.setMaxLengthForErrorMessageValues(12);
+    try {
+      // WHEN
+      String s = messageFormatter.format(description, STANDARD_REPRESENTATION, "%s and %s", list("abc", "def"), "ghi");
+      // THEN
+      then(s).isEqualTo("[Test] [\"abc\", \"def... and ...");
+    } finally {
+      StandardRepresentation.resetDefaults();
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("messages")
   void should_format_message_and_correctly_escape_percentage(String input, String formatted) {
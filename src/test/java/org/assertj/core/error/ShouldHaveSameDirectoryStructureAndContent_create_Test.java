@@ -0,0 +1,77 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldHaveSameDirectoryStructureAndContent.shouldHaveSameDirectoryStructureAndContent;
+import static org.assertj.core.util.Lists.list;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.Test;
+
+class ShouldHaveSameDirectoryStructureAndContent_create_Test {
+
+  private final Path actual = Paths.get("actual");
+  private final Path expected = Paths.get("expected");
+
+  @Test
+  void should_create_error_message_with_all_kinds_of_differences() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSameDirectoryStructureAndContent(actual, expected,
+                                                                             list(Paths.get("foo"), Paths.get("bar", "b%s%n")),
+                                                                             list(Paths.get("baz")),
+                                                                             list(Paths.get("qux.txt")));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), StandardRepresentation.STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  %s%n" +
+                                   "to have the same structure and content as:%n" +
+                                   "  %s%n" +
+                                   "but:%n" +
+                                   "- these entries were missing:%n" +
+                                   "  [%s, %s]%n" +
+                                   "- these entries were unexpected:%n" +
+                                   "  [%s]%n" +
+                                   "- these entries had a different content or type:%n" +
+                                   "  [%s]",
+                                   actual, expected, Paths.get("foo"), Paths.get("bar", "b%s%n"), Paths.get("baz"),
+                                   Paths.get("qux.txt")));
+  }
+
+  @Test
+  void should_only_report_non_empty_differences() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSameDirectoryStructureAndContent(actual, expected, emptyList(), emptyList(),
+                                                                             list(Paths.get("qux.txt")));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), StandardRepresentation.STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting directory:%n" +
+                                   "  %s%n" +
+                                   "to have the same structure and content as:%n" +
+                                   "  %s%n" +
+                                   "but:%n" +
+                                   "- these entries had a different content or type:%n" +
+                                   "  [%s]",
+                                   actual, expected, Paths.get("qux.txt")));
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.error;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.StreamElementsShould.anyStreamElementShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.noStreamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamElementsShouldMatch;
+import static org.assertj.core.error.StreamElementsShould.streamShouldBeSorted;
+import static org.assertj.core.error.StreamElementsShould.streamShouldContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldHaveMutuallyComparableElements;
+import static org.assertj.core.error.StreamElementsShould.streamShouldHaveSizeGreaterThan;
+import static org.assertj.core.error.StreamElementsShould.streamShouldNotContain;
+import static org.assertj.core.error.StreamElementsShould.streamShouldStartWith;
+import static org.assertj.core.presentation.PredicateDescription.GIVEN;
+import static org.assertj.core.util.Lists.list;
+
+import org.assertj.core.description.TextDescription;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.presentation.StandardRepresentation;
+import org.junit.jupiter.api.Test;
+
+class StreamElementsShould_create_Test {
+
+  @Test
+  void should_create_error_message_for_allMatch() {
+    // GIVEN
+    ErrorMessageFactory factory = streamElementsShouldMatch(1_234_567, "Yoda", new PredicateDescription("jedi"));
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting all elements of the stream to match 'jedi' predicate but element at index 1234567 did not:%n" +
+                                   "  \"Yoda\""));
+  }
+
+  @Test
+  void should_create_error_message_for_anyMatch() {
+    // GIVEN
+    ErrorMessageFactory factory = anyStreamElementShouldMatch(3, GIVEN);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting any element of the stream to match given predicate but none of its 3 elements did"));
+  }
+
+  @Test
+  void should_create_error_message_for_noneMatch() {
+    // GIVEN
+    ErrorMessageFactory factory = noStreamElementsShouldMatch(2, "Luke", GIVEN);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting no elements of the stream to match given predicate but element at index 2 did:%n" +
+                                   "  \"Luke\""));
+  }
+
+  @Test
+  void should_create_error_message_for_contains() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldContain(new String[] { "Luke", "Yoda" }, list("Yoda"), 5);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting the stream to contain:%n" +
+                                   "  [\"Luke\", \"Yoda\"]%n" +
+                                   "but could not find the following element(s) in its 5 elements:%n" +
+                                   "  [\"Yoda\"]"));
+  }
+
+  @Test
+  void should_create_error_message_for_doesNotContain() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldNotContain(new int[] { 1, 2 }, 7, 2);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting the stream not to contain:%n" +
+                                   "  [1, 2]%n" +
+                                   "but found element at index 7:%n" +
+                                   "  2"));
+  }
+
+  @Test
+  void should_create_error_message_for_hasSizeGreaterThan() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldHaveSizeGreaterThan(10_000, 1_000);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting size of the stream to be greater than 10000 but was 1000"));
+  }
+
+  @Test
+  void should_create_error_message_for_startsWith_with_different_element() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldStartWith(new long[] { 1L, 2L }, 1, 3L);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting the stream to start with:%n" +
+                                   "  [1L, 2L]%n" +
+                                   "but element at index 1 was:%n" +
+                                   "  3L"));
+  }
+
+  @Test
+  void should_create_error_message_for_startsWith_with_too_short_stream() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldStartWith(new long[] { 1L, 2L }, 1);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting the stream to start with:%n" +
+                                   "  [1L, 2L]%n" +
+                                   "but it only had 1 elements"));
+  }
+
+  @Test
+  void should_create_error_message_for_isSorted() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldBeSorted(41, 2.0, 1.0);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting the stream to be sorted but element at index 41:%n" +
+                                   "  2.0%n" +
+                                   "is not less or equal than element at index 42:%n" +
+                                   "  1.0"));
+  }
+
+  @Test
+  void should_create_error_message_for_isSorted_with_not_comparable_elements() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldHaveMutuallyComparableElements(0, "a", 1);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), new StandardRepresentation());
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting the stream elements to be mutually comparable but element at index 0:%n" +
+                                   "  \"a\"%n" +
+                                   "is not comparable to element at index 1:%n" +
+                                   "  1"));
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.BipartiteMatching.maximumMatchingSize;
+
+import org.junit.jupiter.api.Test;
+
+class BipartiteMatching_Test {
+
+  @Test
+  void should_return_zero_for_an_empty_graph() {
+    then(maximumMatchingSize(new int[0][], 0)).isZero();
+  }
+
+  @Test
+  void should_find_a_perfect_matching() {
+    // GIVEN
+    int[][] adjacency = { { 0, 1, 2 }, { 0 }, { 0, 1 } };
+    // WHEN
+    int size = maximumMatchingSize(adjacency, 3);
+    // THEN
+    then(size).isEqualTo(3);
+  }
+
+  @Test
+  void should_find_a_perfect_matching_requiring_to_reassign_matched_vertices() {
+    // GIVEN
+    // greedily matching each left vertex to its first right vertex only matches 0 -> 0
+    int[][] adjacency = { { 0, 1 }, { 0, 2 }, { 0, 3 }, { 0 } };
+    // WHEN
+    int size = maximumMatchingSize(adjacency, 4);
+    // THEN
+    then(size).isEqualTo(4);
+  }
+
+  @Test
+  void should_find_a_maximum_matching_when_there_is_no_perfect_one() {
+    // GIVEN
+    // left vertices 1 and 2 compete for right vertex 0
+    int[][] adjacency = { { 0, 1, 2 }, { 0 }, { 0 } };
+    // WHEN
+    int size = maximumMatchingSize(adjacency, 3);
+    // THEN
+    then(size).isEqualTo(2);
+  }
+
+  @Test
+  void should_ignore_left_vertices_without_edges() {
+    // GIVEN
+    int[][] adjacency = { {}, { 1 }, {} };
+    // WHEN
+    int size = maximumMatchingSize(adjacency, 2);
+    // THEN
+    then(size).isEqualTo(1);
+  }
+
+}
@@ -12,7 +12,6 @@
  */
 package org.assertj.core.internal;
 
-import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,13 +35,13 @@ class ConfigurableRecursiveFieldByFieldComparator_Test {
     RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
     configurableRecursiveFieldByFieldComparator = new ConfigurableRecursiveFieldByFieldComparator(recursiveComparisonConfiguration,
                                                                                                   recursiveComparisonDifferenceCalculator);
-    given(recursiveComparisonDifferenceCalculator.determineDifferences(any(), any(), any())).willReturn(emptyList());
+    given(recursiveComparisonDifferenceCalculator.areEqual(any(), any(), any())).willReturn(true);
     String actual = "foo";
     String other = "bar";
     // WHEN
     int compare = configurableRecursiveFieldByFieldComparator.compare(actual, other);
     // THEN
-    verify(recursiveComparisonDifferenceCalculator).determineDifferences(actual, other, recursiveComparisonConfiguration);
+    verify(recursiveComparisonDifferenceCalculator).areEqual(actual, other, recursiveComparisonConfiguration);
     then(compare).isZero();
   }
 
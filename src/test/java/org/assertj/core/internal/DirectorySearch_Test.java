@@ -0,0 +1,148 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class DirectorySearch_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void should_compile_path_matcher_once_per_file_system_and_pattern() {
+    // GIVEN
+    FileSystem fileSystem = FileSystems.getDefault();
+    // WHEN
+    PathMatcher pathMatcher = DirectorySearch.pathMatcher(fileSystem, "glob:**.{java,class}");
+    // THEN
+    then(DirectorySearch.pathMatcher(fileSystem, "glob:**.{java,class}")).isSameAs(pathMatcher);
+    then(DirectorySearch.pathMatcher(fileSystem, "glob:**.java")).isNotSameAs(pathMatcher);
+    then(pathMatcher.matches(tempDir.resolve("Foo.java"))).isTrue();
+  }
+
+  @Test
+  void should_not_cache_invalid_patterns() {
+    // WHEN
+    Throwable thrown = catchThrowable(() -> DirectorySearch.pathMatcher(FileSystems.getDefault(), "unknown:*"));
+    // THEN
+    then(thrown).isInstanceOf(UnsupportedOperationException.class);
+    then(catchThrowable(() -> DirectorySearch.pathMatcher(FileSystems.getDefault(), "unknown:*"))).isNotSameAs(thrown);
+  }
+
+  @Test
+  void should_find_path_matching_filter_at_any_depth() throws IOException {
+    // GIVEN
+    Path deepest = createTree(tempDir, 4, 3);
+    Path match = Files.createFile(deepest.resolve("match.txt"));
+    // WHEN
+    boolean found = DirectorySearch.isDirectoryRecursivelyContaining(tempDir, path -> path.equals(match));
+    // THEN
+    then(found).isTrue();
+  }
+
+  @Test
+  void should_evaluate_filter_against_every_path_when_none_matches() throws IOException {
+    // GIVEN
+    createTree(tempDir, 4, 3);
+    Set<Path> tested = ConcurrentHashMap.newKeySet();
+    // WHEN
+    boolean found = DirectorySearch.isDirectoryRecursivelyContaining(tempDir, path -> !tested.add(path));
+    // THEN
+    then(found).isFalse();
+    // 3 + 9 + 27 + 81 directories
+    then(tested).hasSize(120)
+                .doesNotContain(tempDir);
+  }
+
+  @Test
+  void should_not_list_subdirectories_once_a_matching_path_is_found() throws IOException {
+    // GIVEN
+    Path directory = Files.createDirectory(tempDir.resolve("directory"));
+    Files.createFile(directory.resolve("file"));
+    Set<Path> tested = ConcurrentHashMap.newKeySet();
+    // WHEN
+    boolean found = DirectorySearch.isDirectoryRecursivelyContaining(tempDir, path -> tested.add(path));
+    // THEN
+    then(found).isTrue();
+    then(tested).containsExactly(directory);
+  }
+
+  @Test
+  void should_evaluate_filter_on_the_calling_thread_only() throws IOException {
+    // GIVEN
+    createTree(tempDir, 4, 3);
+    Thread callingThread = Thread.currentThread();
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    // WHEN
+    DirectorySearch.isDirectoryRecursivelyContaining(tempDir, path -> {
+      threads.add(Thread.currentThread());
+      return false;
+    });
+    // THEN
+    then(threads).containsExactly(callingThread);
+  }
+
+  @Test
+  void should_evaluate_filter_against_the_entries_of_a_directory_before_the_ones_of_its_subdirectories() throws IOException {
+    // GIVEN
+    createTree(tempDir, 3, 3);
+    Path match = Files.createFile(tempDir.resolve("match.txt"));
+    Set<Path> tested = new HashSet<>();
+    // WHEN
+    boolean found = DirectorySearch.isDirectoryRecursivelyContaining(tempDir, path -> !tested.add(path) || path.equals(match));
+    // THEN
+    then(found).isTrue();
+    then(tested).allMatch(path -> path.getParent().equals(tempDir));
+  }
+
+  @Test
+  void should_rethrow_the_exception_thrown_by_the_filter() throws IOException {
+    // GIVEN
+    createTree(tempDir, 3, 3);
+    IllegalStateException exception = new IllegalStateException("boom!");
+    Predicate<Path> filter = path -> {
+      if (path.getNameCount() - tempDir.getNameCount() == 3) throw exception;
+      return false;
+    };
+    // WHEN
+    Throwable thrown = catchThrowable(() -> DirectorySearch.isDirectoryRecursivelyContaining(tempDir, filter));
+    // THEN
+    then(thrown).isSameAs(exception);
+  }
+
+  // creates a tree of the given depth where each directory has the given number of subdirectories, returns the last one
+  private static Path createTree(Path root, int depth, int width) throws IOException {
+    Path last = root;
+    if (depth == 0) return last;
+    for (int i = 0; i < width; i++) {
+      last = createTree(Files.createDirectory(root.resolve("dir" + i)), depth - 1, width);
+    }
+    return last;
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+
+import org.assertj.core.util.TotalOrderComparator;
+
+import org.junit.jupiter.api.Test;
+
+class ElementMultiset_Test {
+
+  private static final ComparisonStrategy TOTAL_ORDER_CASE_INSENSITIVE_STRATEGY = new ComparatorBasedComparisonStrategy(
+      (TotalOrderComparator<String>) String::compareToIgnoreCase);
+
+  @Test
+  void should_return_unmatched_elements_in_order_matching_first_occurrences_first() {
+    // GIVEN
+    ElementMultiset multiset = ElementMultiset.of(list("a", "b", "b", null), StandardComparisonStrategy.instance());
+    // WHEN
+    List<String> unmatched = multiset.unmatched(list("b", "c", "a", "b", "a", "b", null, null));
+    // THEN
+    then(unmatched).containsExactly("c", "a", "b", null);
+  }
+
+  @Test
+  void should_find_elements() {
+    // WHEN
+    ElementMultiset multiset = ElementMultiset.of(list("a", "b", null), StandardComparisonStrategy.instance());
+    // THEN
+    then(multiset.contains("a")).isTrue();
+    then(multiset.contains(null)).isTrue();
+    then(multiset.contains("c")).isFalse();
+  }
+
+  @Test
+  void should_return_unmatched_elements_according_to_total_order_comparator() {
+    // GIVEN
+    ElementMultiset multiset = ElementMultiset.of(list("a", "B", "b", null), TOTAL_ORDER_CASE_INSENSITIVE_STRATEGY);
+    // WHEN
+    List<String> unmatched = multiset.unmatched(list("b", "c", "A", "B", "a", "b", null, null));
+    // THEN
+    then(unmatched).containsExactly("c", "a", "b", null);
+    then(multiset.contains("A")).isTrue();
+  }
+
+  @Test
+  void should_be_usable_with_total_order_comparator_whatever_the_elements() {
+    // WHEN
+    boolean canBeUsed = ElementMultiset.canBeUsed(TOTAL_ORDER_CASE_INSENSITIVE_STRATEGY, list("a"), list(new EqualsOnly()));
+    // THEN
+    then(canBeUsed).isTrue();
+  }
+
+  @Test
+  void should_be_usable_with_standard_comparison_strategy_and_consistent_hash_codes() {
+    // GIVEN
+    List<Object> elements = list("a", 1, null, new Object(), new EqualsAndHashCode(), new InheritedEqualsAndHashCode());
+    // WHEN
+    boolean canBeUsed = ElementMultiset.canBeUsed(StandardComparisonStrategy.instance(), elements, list("b"));
+    // THEN
+    then(canBeUsed).isTrue();
+  }
+
+  @Test
+  void should_not_be_usable_with_elements_overriding_equals_but_not_hash_code() {
+    // WHEN
+    boolean canBeUsed = ElementMultiset.canBeUsed(StandardComparisonStrategy.instance(), list("a"), list(new EqualsOnly()));
+    // THEN
+    then(canBeUsed).isFalse();
+  }
+
+  @Test
+  void should_not_be_usable_with_arrays() {
+    // WHEN
+    boolean canBeUsed = ElementMultiset.canBeUsed(StandardComparisonStrategy.instance(), list((Object) new String[] { "a" }), list());
+    // THEN
+    then(canBeUsed).isFalse();
+  }
+
+  @Test
+  void should_not_be_usable_with_other_comparison_strategies() {
+    // GIVEN
+    ComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    // WHEN
+    boolean canBeUsed = ElementMultiset.canBeUsed(comparisonStrategy, list("a"), list("A"));
+    // THEN
+    then(canBeUsed).isFalse();
+  }
+
+  private static class EqualsAndHashCode {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsAndHashCode;
+    }
+
+    @Override
+    public int hashCode() {
+      return 1;
+    }
+  }
+
+  private static class InheritedEqualsAndHashCode extends EqualsAndHashCode {
+  }
+
+  private static class EqualsOnly extends EqualsAndHashCode {
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof EqualsOnly;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class PrimitiveArrays_Test {
+
+  @Test
+  void should_only_check_primitive_arrays_of_the_same_type_with_standard_comparison_strategy() {
+    // GIVEN
+    ComparisonStrategy standard = StandardComparisonStrategy.instance();
+    ComparisonStrategy comparatorBased = new ComparatorBasedComparisonStrategy(CaseInsensitiveStringComparator.instance);
+    // WHEN/THEN
+    then(PrimitiveArrays.canCheck(standard, new long[0], new long[0])).isTrue();
+    then(PrimitiveArrays.canCheck(standard, new long[0], new int[0])).isFalse();
+    then(PrimitiveArrays.canCheck(standard, new Long[0], new Long[0])).isFalse();
+    then(PrimitiveArrays.canCheck(comparatorBased, new long[0], new long[0])).isFalse();
+  }
+
+  @Test
+  void should_compare_floating_point_numbers_like_their_boxed_equals() {
+    // GIVEN
+    double[] actual = { Double.NaN, 0.0 };
+    // WHEN/THEN
+    then(PrimitiveArrays.containsExactly(actual, new double[] { Double.NaN, 0.0 })).isTrue();
+    then(PrimitiveArrays.contains(actual, new double[] { -0.0 })).isFalse();
+    then(PrimitiveArrays.containsOnly(new float[] { Float.NaN }, new float[] { Float.NaN })).isTrue();
+  }
+
+  @Test
+  void should_check_sequences() {
+    // GIVEN
+    int[] actual = { 1, 2, 3, 4 };
+    // WHEN/THEN
+    then(PrimitiveArrays.startsWith(actual, new int[] { 1, 2 })).isTrue();
+    then(PrimitiveArrays.startsWith(actual, new int[] { 2 })).isFalse();
+    then(PrimitiveArrays.endsWith(actual, new int[] { 3, 4 })).isTrue();
+    then(PrimitiveArrays.endsWith(actual, new int[] { 1, 2, 3, 4, 5 })).isFalse();
+    then(PrimitiveArrays.containsSequence(actual, new int[] { 2, 3 })).isTrue();
+    then(PrimitiveArrays.containsSequence(actual, new int[] { 2, 4 })).isFalse();
+  }
+
+  @Test
+  void should_check_elements_in_any_order() {
+    // GIVEN
+    long[] actual = { 3, 1, 2, 1 };
+    // WHEN/THEN
+    then(PrimitiveArrays.contains(actual, new long[] { 2, 3, 2 })).isTrue();
+    then(PrimitiveArrays.contains(actual, new long[] { 2, 4 })).isFalse();
+    then(PrimitiveArrays.containsOnly(actual, new long[] { 1, 2, 3 })).isTrue();
+    then(PrimitiveArrays.containsOnly(actual, new long[] { 1, 2 })).isFalse();
+    then(PrimitiveArrays.containsOnly(actual, new long[] { 1, 2, 3, 4 })).isFalse();
+    then(PrimitiveArrays.containsExactlyInAnyOrder(actual, new long[] { 1, 1, 2, 3 })).isTrue();
+    then(PrimitiveArrays.containsExactlyInAnyOrder(actual, new long[] { 1, 2, 2, 3 })).isFalse();
+    // actual is left untouched
+    then(actual).containsExactly(3, 1, 2, 1);
+  }
+
+  @Test
+  void should_check_duplicates() {
+    // WHEN/THEN
+    then(PrimitiveArrays.doesNotHaveDuplicates(new char[] { 'b', 'a', 'c' })).isTrue();
+    then(PrimitiveArrays.doesNotHaveDuplicates(new char[] { 'b', 'a', 'b' })).isFalse();
+  }
+
+  @Test
+  void should_check_natural_order() {
+    // WHEN/THEN
+    then(PrimitiveArrays.isSorted(new byte[] { -1, 0, 0, 1 })).isTrue();
+    then(PrimitiveArrays.isSorted(new char[] { 'a', (char) 0xFFFF })).isTrue();
+    then(PrimitiveArrays.isSorted(new boolean[] { true, false })).isFalse();
+    then(PrimitiveArrays.isSorted(new double[] { -0.0, 0.0, Double.NaN })).isTrue();
+    then(PrimitiveArrays.isSorted(new double[] { 0.0, -0.0 })).isFalse();
+  }
+
+  @Test
+  void should_find_keys_in_hash_set() {
+    // GIVEN
+    long[] keys = new long[1000];
+    for (int i = 0; i < keys.length; i++) keys[i] = i * 1024L;
+    PrimitiveArrays.LongHashSet set = new PrimitiveArrays.LongHashSet(keys);
+    // WHEN
+    for (int i = 0; i < keys.length - 1; i++) set.find(keys[i]);
+    // THEN
+    then(set.find(1)).isFalse();
+    then(set.allFound()).isFalse();
+    then(set.find(keys[keys.length - 1])).isTrue();
+    then(set.allFound()).isTrue();
+  }
+}
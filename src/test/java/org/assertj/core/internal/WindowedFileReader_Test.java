@@ -0,0 +1,125 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class WindowedFileReader_Test {
+
+  @TempDir
+  Path tempDir;
+
+  @ParameterizedTest(name = "{0} with window of {1} bytes")
+  @MethodSource
+  void should_read_the_same_content_as_decoding_all_bytes(Charset charset, int windowSize) throws IOException {
+    // GIVEN
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 100; i++) {
+      text.append("ascii é 漢字 😀 ").append(i).append(System.lineSeparator());
+    }
+    Path file = Files.write(tempDir.resolve("text.txt"), text.toString().getBytes(charset));
+    // WHEN
+    String content = readAll(new WindowedFileReader(file, charset, windowSize));
+    // THEN
+    then(content).isEqualTo(new String(Files.readAllBytes(file), charset));
+  }
+
+  static Stream<Arguments> should_read_the_same_content_as_decoding_all_bytes() {
+    return Stream.of(UTF_8, UTF_16, ISO_8859_1)
+                 .flatMap(charset -> Stream.of(Arguments.of(charset, 16), Arguments.of(charset, 17),
+                                               Arguments.of(charset, WindowedFileReader.DEFAULT_WINDOW_SIZE)));
+  }
+
+  @Test
+  void should_replace_malformed_input_like_decoding_all_bytes() throws IOException {
+    // GIVEN
+    byte[] bytes = { 'a', (byte) 0xC3, 'b', (byte) 0xE6, (byte) 0xBC };
+    Path file = Files.write(tempDir.resolve("malformed.txt"), bytes);
+    // WHEN
+    String content = readAll(new WindowedFileReader(file, UTF_8, 16));
+    // THEN
+    then(content).isEqualTo(new String(bytes, UTF_8));
+  }
+
+  @Test
+  void should_read_empty_file() throws IOException {
+    // GIVEN
+    Path file = Files.createFile(tempDir.resolve("empty.txt"));
+    // WHEN
+    String content = readAll(new WindowedFileReader(file, UTF_8));
+    // THEN
+    then(content).isEmpty();
+  }
+
+  @Test
+  void should_not_prevent_deleting_the_file_once_closed() throws IOException {
+    // GIVEN
+    Path file = Files.write(tempDir.resolve("text.txt"), "text".getBytes(UTF_8));
+    readAll(new WindowedFileReader(file, UTF_8));
+    // WHEN
+    Files.delete(file);
+    // THEN
+    then(file).doesNotExist();
+  }
+
+  @ParameterizedTest(name = "window of {0} bytes")
+  @ValueSource(ints = { 16, 17, WindowedFileReader.DEFAULT_WINDOW_SIZE })
+  void should_read_file_of_a_file_system_other_than_the_default_one(int windowSize) throws IOException {
+    // GIVEN
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 10_000; i++) {
+      text.append("ascii é 漢字 😀 ").append(i).append(System.lineSeparator());
+    }
+    URI zipFile = URI.create("jar:" + tempDir.resolve("archive.zip").toUri());
+    try (FileSystem zipFileSystem = FileSystems.newFileSystem(zipFile, Collections.singletonMap("create", "true"))) {
+      Path file = Files.write(zipFileSystem.getPath("text.txt"), text.toString().getBytes(UTF_8));
+      // WHEN
+      String content = readAll(new WindowedFileReader(file, UTF_8, windowSize));
+      // THEN
+      then(content).isEqualTo(text.toString());
+    }
+  }
+
+  private static String readAll(Reader reader) throws IOException {
+    try (Reader closedReader = reader) {
+      StringBuilder content = new StringBuilder();
+      // odd buffer size so that the reads do not align with the windows
+      char[] buffer = new char[7];
+      for (int read = closedReader.read(buffer); read != -1; read = closedReader.read(buffer)) {
+        content.append(buffer, 0, read);
+      }
+      return content.toString();
+    }
+  }
+}
@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
 
 import org.assertj.core.internal.BinaryDiff;
 import org.assertj.core.internal.BinaryDiffResult;
@@ -82,6 +83,53 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_diff_located_after_the_first_block() throws IOException {
+    byte[] actualContent = new byte[200_000];
+    byte[] expectedContent = new byte[200_000];
+    expectedContent[150_000] = (byte) 0xCA;
+    actual = new ByteArrayInputStream(actualContent);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(150_000);
+    assertThat(result.actual).isEqualTo("0x0");
+    assertThat(result.expected).isEqualTo("0xCA");
+  }
+
+  @Test
+  void should_return_no_diff_if_inputstreams_have_equal_content_read_by_pieces() throws IOException {
+    byte[] content = new byte[100_000];
+    Arrays.fill(content, (byte) 0xBE);
+    actual = new OneByteAtATimeInputStream(content);
+    expected = new ByteArrayInputStream(content);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter_by_pieces() throws IOException {
+    byte[] expectedContent = new byte[65_537];
+    expectedContent[65_536] = (byte) 0xBE;
+    actual = new OneByteAtATimeInputStream(new byte[65_536]);
+    expected = new ByteArrayInputStream(expectedContent);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(65_536);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0xBE");
+  }
+
+  private static class OneByteAtATimeInputStream extends ByteArrayInputStream {
+
+    OneByteAtATimeInputStream(byte[] content) {
+      super(content);
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) {
+      return super.read(b, off, Math.min(len, 1));
+    }
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
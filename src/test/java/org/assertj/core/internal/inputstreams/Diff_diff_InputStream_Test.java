@@ -23,6 +23,8 @@ import java.util.List;
 
 import org.assertj.core.internal.Diff;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.TruncationDelta;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -33,6 +35,8 @@ import org.junit.jupiter.api.Test;
  */
 class Diff_diff_InputStream_Test {
 
+  private static final int DEFAULT_MAX_LINES_FOR_TEXTUAL_DIFF = Diff.getMaxLinesForTextualDiff();
+
   private static Diff diff;
 
   @BeforeAll
@@ -40,6 +44,11 @@ class Diff_diff_InputStream_Test {
     diff = new Diff();
   }
 
+  @AfterEach
+  void resetMaxLinesForTextualDiff() {
+    Diff.setMaxLinesForTextualDiff(DEFAULT_MAX_LINES_FOR_TEXTUAL_DIFF);
+  }
+
   private InputStream actual;
   private InputStream expected;
 
@@ -121,4 +130,136 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_report_diffs_line_numbers_after_many_identical_lines() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(2);
+    actual = stream(lines(1000, "line_1000", "line_1001", "line_1002"));
+    expected = stream(lines(1000, "line1000", "line_1001", "line1002"));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(2);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 1001:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line1000\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_1000\"]%n"));
+    assertThat(diffs.get(1)).hasToString(format("Differences from line 1003 on are not reported, only 2 lines from the first difference were compared%n"));
+  }
+
+  @Test
+  void should_only_report_diffs_within_max_lines_after_first_difference() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(4);
+    actual = stream("base", "line_0", "line1", "line_2", "line3", "line_4", "line5");
+    expected = stream("base", "line0", "line1", "line2", "line3", "line4", "line5");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).extracting(Delta::lineNumber).containsExactly(2, 4, 6);
+    assertThat(diffs.get(2)).isInstanceOf(TruncationDelta.class);
+  }
+
+  @Test
+  void should_report_first_diff_even_if_it_reaches_max_lines() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(2);
+    actual = stream("base", "line_0", "line_1", "line_2");
+    expected = stream("base", "line0", "line1", "line2");
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(2);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 2:%n"
+                                                + "expecting:%n"
+                                                + "  [\"line0\",%n"
+                                                + "   \"line1\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"line_0\",%n"
+                                                + "   \"line_1\"]%n"));
+    assertThat(diffs.get(1)).isInstanceOf(TruncationDelta.class);
+  }
+
+  @Test
+  void should_report_diff_in_the_last_lines_of_contents_longer_than_max_lines() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(2);
+    actual = stream(lines(1000, "actual"));
+    expected = stream(lines(1000, "expected"));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 1001:%n"
+                                                + "expecting:%n"
+                                                + "  [\"expected\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"actual\"]%n"));
+  }
+
+  @Test
+  void should_not_compare_identical_lines_after_the_last_difference() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(4);
+    actual = stream(concat(new String[] { "base", "line_0", "line1", "line_2" }, lines(5)));
+    expected = stream(concat(new String[] { "base", "line0", "line1", "line2" }, lines(5)));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).extracting(Delta::lineNumber).containsExactly(2, 4);
+  }
+
+  @Test
+  void should_report_that_differences_past_max_lines_are_not_compared() throws IOException {
+    // GIVEN
+    Diff.setMaxLinesForTextualDiff(4);
+    actual = stream(concat(new String[] { "first_actual" }, lines(10, "last_actual")));
+    expected = stream(concat(new String[] { "first_expected" }, lines(10, "last_expected")));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(2);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 1:%n"
+                                                + "expecting:%n"
+                                                + "  [\"first_expected\"]%n"
+                                                + "but was:%n"
+                                                + "  [\"first_actual\"]%n"));
+    assertThat(diffs.get(1)).hasToString(format("Differences from line 5 on are not reported, only 4 lines from the first difference were compared%n"));
+  }
+
+  @Test
+  void should_summarize_diffs_if_contents_have_too_many_differences() throws IOException {
+    // GIVEN
+    String[] actualLines = new String[3000];
+    String[] expectedLines = new String[3000];
+    for (int i = 0; i < actualLines.length; i++) {
+      actualLines[i] = "actual" + i;
+      expectedLines[i] = "expected" + i;
+    }
+    actual = stream(lines(10, actualLines));
+    expected = stream(lines(10, expectedLines));
+    // WHEN
+    List<Delta<String>> diffs = diff.diff(actual, expected);
+    // THEN
+    assertThat(diffs).hasSize(1);
+    assertThat(diffs.get(0)).hasToString(format("Changed content at line 11: 3000 lines differ, too many differences to list them%n"));
+  }
+
+  private static String[] concat(String[] lines, String[] otherLines) {
+    String[] allLines = new String[lines.length + otherLines.length];
+    System.arraycopy(lines, 0, allLines, 0, lines.length);
+    System.arraycopy(otherLines, 0, allLines, lines.length, otherLines.length);
+    return allLines;
+  }
+
+  private static String[] lines(int identicalLinesCount, String... otherLines) {
+    String[] lines = new String[identicalLinesCount + otherLines.length];
+    for (int i = 0; i < identicalLinesCount; i++) {
+      lines[i] = "line" + i;
+    }
+    System.arraycopy(otherLines, 0, lines, identicalLinesCount, otherLines.length);
+    return lines;
+  }
 }
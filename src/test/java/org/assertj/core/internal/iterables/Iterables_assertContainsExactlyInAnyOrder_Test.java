@@ -27,9 +27,11 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.assertj.core.internal.StandardComparisonStrategy;
+import org.assertj.core.util.TotalOrderComparator;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -160,4 +162,19 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContainExactlyInAnyOrder(actual, expected, emptyList(), newArrayList("Luke"), comparisonStrategy));
   }
 
+  @Test
+  void should_fail_if_actual_contains_all_given_values_but_size_differ_according_to_total_order_comparison_strategy() {
+    AssertionInfo info = someInfo();
+    ComparatorBasedComparisonStrategy totalOrderComparisonStrategy = new ComparatorBasedComparisonStrategy((TotalOrderComparator<String>) String::compareToIgnoreCase);
+    Iterables iterablesWithTotalOrderComparisonStrategy = new Iterables(totalOrderComparisonStrategy);
+    actual = newArrayList("Luke", "Leia", "luke", "Han");
+    Object[] expected = { "LUKE", "Leia", "Yoda", "Leia" };
+
+    Throwable error = catchThrowable(() -> iterablesWithTotalOrderComparisonStrategy.assertContainsExactlyInAnyOrder(info, actual, expected));
+
+    String expectedMessage = shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Yoda", "Leia"),
+        newArrayList("luke", "Han"), totalOrderComparisonStrategy).create(info.description(), info.representation());
+    assertThat(error).isInstanceOf(AssertionError.class).hasMessage(expectedMessage);
+  }
+
 }
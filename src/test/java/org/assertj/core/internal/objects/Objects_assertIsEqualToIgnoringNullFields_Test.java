@@ -82,6 +82,23 @@ class Objects_assertIsEqualToIgnoringNullFields_Test extends ObjectsBaseTest {
     Assertions.setAllowComparingPrivateFields(true);
   }
 
+  @Test
+  void should_pass_when_private_fields_with_throwing_public_getter_are_not_compared() {
+    Assertions.setAllowComparingPrivateFields(false);
+    Assertions.setAllowExtractingPrivateFields(false);
+    try {
+      WithThrowingGetter actual = new WithThrowingGetter("1", "Yoda");
+      WithThrowingGetter other = new WithThrowingGetter("2", "Yoda");
+      // id is ignored because it is private and its public getter throws an exception
+      objects.assertIsEqualToIgnoringNullFields(someInfo(), actual, other, noFieldComparators(),
+                                                defaultTypeComparators());
+    } finally {
+      // reset
+      Assertions.setAllowComparingPrivateFields(true);
+      Assertions.setAllowExtractingPrivateFields(true);
+    }
+  }
+
   @Test
   void should_fail_if_actual_is_null() {
     assertThatExceptionOfType(AssertionError.class).isThrownBy(() ->{
@@ -144,6 +161,20 @@ class Objects_assertIsEqualToIgnoringNullFields_Test extends ObjectsBaseTest {
                                               defaultTypeComparators());
   }
 
+  public static class WithThrowingGetter {
+    private final String id;
+    public final String name;
+
+    WithThrowingGetter(String id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    public String getId() {
+      throw new IllegalStateException("id " + id + " is not readable");
+    }
+  }
+
   // example taken from
   // http://stackoverflow.com/questions/8540768/when-is-the-jvm-bytecode-access-modifier-flag-0x1000-hex-synthetic-set
   class OuterClass {
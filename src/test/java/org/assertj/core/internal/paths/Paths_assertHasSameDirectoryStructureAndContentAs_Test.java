@@ -0,0 +1,199 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createDirectory;
+import static java.nio.file.Files.createFile;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.error.ShouldBeDirectory.shouldBeDirectory;
+import static org.assertj.core.error.ShouldExist.shouldExist;
+import static org.assertj.core.error.ShouldHaveSameDirectoryStructureAndContent.shouldHaveSameDirectoryStructureAndContent;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.assertj.core.error.ErrorMessageFactory;
+import org.assertj.core.internal.PathsBaseTest;
+import org.junit.jupiter.api.Test;
+
+class Paths_assertHasSameDirectoryStructureAndContentAs_Test extends PathsBaseTest {
+
+  @Test
+  void should_fail_if_expected_is_null() throws IOException {
+    // GIVEN
+    Path actual = createDirectory(tempDir.resolve("actual"));
+    // WHEN
+    Throwable thrown = catchThrowable(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, actual, null));
+    // THEN
+    then(thrown).isInstanceOf(NullPointerException.class)
+                .hasMessage("The given directory to compare actual to should not be null");
+  }
+
+  @Test
+  void should_fail_if_expected_is_not_a_directory() throws IOException {
+    // GIVEN
+    Path actual = createDirectory(tempDir.resolve("actual"));
+    Path expected = createFile(tempDir.resolve("expected"));
+    // WHEN
+    Throwable thrown = catchThrowable(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected));
+    // THEN
+    then(thrown).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("The given Path <%s> to compare actual to should be an existing directory", expected);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() throws IOException {
+    // GIVEN
+    Path expected = createDirectory(tempDir.resolve("expected"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, null, expected));
+    // THEN
+    then(error).hasMessage(actualIsNull());
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_exist() throws IOException {
+    // GIVEN
+    Path actual = tempDir.resolve("non-existent");
+    Path expected = createDirectory(tempDir.resolve("expected"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected));
+    // THEN
+    then(error).hasMessage(shouldExist(actual).create());
+  }
+
+  @Test
+  void should_fail_if_actual_is_not_a_directory() throws IOException {
+    // GIVEN
+    Path actual = createFile(tempDir.resolve("actual"));
+    Path expected = createDirectory(tempDir.resolve("expected"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected));
+    // THEN
+    then(error).hasMessage(shouldBeDirectory(actual).create());
+  }
+
+  @Test
+  void should_pass_if_actual_has_the_same_structure_and_content_as_expected() throws IOException {
+    // GIVEN
+    Path actual = createTree(tempDir.resolve("actual"));
+    Path expected = createTree(tempDir.resolve("expected"));
+    // WHEN/THEN
+    paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected);
+  }
+
+  @Test
+  void should_pass_if_actual_and_expected_are_empty() throws IOException {
+    // GIVEN
+    Path actual = createDirectory(tempDir.resolve("actual"));
+    Path expected = createDirectory(tempDir.resolve("expected"));
+    // WHEN/THEN
+    paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected);
+  }
+
+  @Test
+  void should_fail_reporting_missing_unexpected_and_different_entries() throws IOException {
+    // GIVEN
+    Path actual = createTree(tempDir.resolve("actual"));
+    Path expected = createTree(tempDir.resolve("expected"));
+    // missing directory reported without its content
+    Files.write(createDirectories(expected.resolve("a/missing")).resolve("file.txt"), "content".getBytes());
+    Files.delete(actual.resolve("a/b/file.txt"));
+    createFile(actual.resolve("unexpected.txt"));
+    // same size but different content
+    Files.write(actual.resolve("a/file.txt"), "A content".getBytes());
+    // different size
+    Files.write(actual.resolve("file.txt"), "longer content".getBytes());
+    // different type
+    Files.delete(actual.resolve("a/b/empty.txt"));
+    createDirectory(actual.resolve("a/b/empty.txt"));
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected));
+    // THEN
+    ErrorMessageFactory expectedError = shouldHaveSameDirectoryStructureAndContent(actual, expected,
+                                                                                   list(Paths.get("a", "b", "file.txt"),
+                                                                                        Paths.get("a", "missing")),
+                                                                                   list(Paths.get("unexpected.txt")),
+                                                                                   list(Paths.get("a", "b", "empty.txt"),
+                                                                                        Paths.get("a", "file.txt"),
+                                                                                        Paths.get("file.txt")));
+    then(error).hasMessage(expectedError.create(info.description(), info.representation()));
+  }
+
+  @Test
+  void should_fail_if_large_files_differ_at_their_last_byte() throws IOException {
+    // GIVEN
+    byte[] content = new byte[3 * 1024 * 1024 + 1];
+    Arrays.fill(content, (byte) 42);
+    Path actual = createDirectory(tempDir.resolve("actual"));
+    Path expected = createDirectory(tempDir.resolve("expected"));
+    Files.write(expected.resolve("large.bin"), content);
+    Files.write(actual.resolve("same.bin"), content);
+    Files.write(expected.resolve("same.bin"), content);
+    content[content.length - 1] = 24;
+    Files.write(actual.resolve("large.bin"), content);
+    // WHEN
+    AssertionError error = expectAssertionError(() -> paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected));
+    // THEN
+    ErrorMessageFactory expectedError = shouldHaveSameDirectoryStructureAndContent(actual, expected, emptyList(), emptyList(),
+                                                                                   list(Paths.get("large.bin")));
+    then(error).hasMessage(expectedError.create(info.description(), info.representation()));
+  }
+
+  @Test
+  void should_not_prevent_deleting_the_compared_files() throws IOException {
+    // GIVEN
+    byte[] content = new byte[3 * 1024 * 1024];
+    Path actual = createDirectory(tempDir.resolve("actual"));
+    Path expected = createDirectory(tempDir.resolve("expected"));
+    Path actualFile = Files.write(actual.resolve("large.bin"), content);
+    Path expectedFile = Files.write(expected.resolve("large.bin"), content);
+    paths.assertHasSameDirectoryStructureAndContentAs(info, actual, expected);
+    // WHEN
+    Files.delete(actualFile);
+    Files.delete(expectedFile);
+    // THEN
+    then(actualFile).doesNotExist();
+    then(expectedFile).doesNotExist();
+  }
+
+  // @format:off
+  // The layout:
+  //  root
+  //  |—— a
+  //  |    |—— b
+  //  |    |    |—— empty.txt
+  //  |    |    |—— file.txt
+  //  |    |—— file.txt
+  //  |—— empty
+  //  |—— file.txt
+  // @format:on
+  private static Path createTree(Path root) throws IOException {
+    Path b = createDirectories(root.resolve("a/b"));
+    createFile(b.resolve("empty.txt"));
+    Files.write(b.resolve("file.txt"), "b content".getBytes());
+    Files.write(root.resolve("a/file.txt"), "a content".getBytes());
+    createDirectory(root.resolve("empty"));
+    Files.write(root.resolve("file.txt"), "content".getBytes());
+    return root;
+  }
+}
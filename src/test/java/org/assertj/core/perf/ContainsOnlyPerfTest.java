@@ -16,9 +16,13 @@ import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
+import org.assertj.core.util.TotalOrderComparator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
@@ -59,4 +63,36 @@ class ContainsOnlyPerfTest {
     assertThat(objects).usingElementComparator(Integer::compare)
                        .containsOnly(0, 1);
   }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_1mDistinctElements() {
+    final List<Integer> objects = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      objects.add(i);
+    }
+    final List<Integer> shuffled = new ArrayList<>(objects);
+    Collections.shuffle(shuffled);
+    assertThat(objects).containsExactlyInAnyOrderElementsOf(shuffled)
+                       .containsOnlyElementsOf(shuffled)
+                       .containsAll(shuffled)
+                       .isSubsetOf(shuffled);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_200kElements_usingTotalOrderComparator() {
+    final List<BigDecimal> objects = new ArrayList<>();
+    for (int i = 0; i < 200_000; i++) {
+      objects.add(BigDecimal.valueOf(i));
+    }
+    final List<BigDecimal> shuffled = new ArrayList<>();
+    for (BigDecimal object : objects) {
+      shuffled.add(object.setScale(2));
+    }
+    Collections.shuffle(shuffled);
+    assertThat(objects).usingElementComparator((TotalOrderComparator<BigDecimal>) BigDecimal::compareTo)
+                       .containsExactlyInAnyOrderElementsOf(shuffled)
+                       .containsOnlyElementsOf(shuffled);
+  }
 }
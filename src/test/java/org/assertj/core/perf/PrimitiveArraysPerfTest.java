@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Ensures assertions on large primitive arrays compare their elements without boxing them, boxing 10 million
+ * elements several times (and comparing them pairwise for containsExactlyInAnyOrder) would not fit in the time limit.
+ */
+class PrimitiveArraysPerfTest {
+
+  private static final int SIZE = 10_000_000;
+
+  @Test
+  @Timeout(value = 10)
+  void test_assertions_on_10mElements_long_array() {
+    long[] actual = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      actual[i] = i;
+    }
+    long[] reversed = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      reversed[i] = SIZE - 1 - i;
+    }
+    assertThat(actual).isSorted()
+                      .doesNotHaveDuplicates()
+                      .containsExactly(actual.clone())
+                      .containsExactlyInAnyOrder(reversed)
+                      .containsOnly(reversed)
+                      .contains(SIZE - 1, 0)
+                      .startsWith(0, 1)
+                      .endsWith(SIZE - 2, SIZE - 1)
+                      .containsSequence(SIZE / 2, SIZE / 2 + 1);
+  }
+}
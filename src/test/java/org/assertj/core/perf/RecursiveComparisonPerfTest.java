@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that the recursive comparison tracks visited values in O(1), comparing graphs of N nodes is then
+ * an O(N) rather than O(N^2) operation.
+ * <p>
+ * It also ensures that unordered collections elements are only compared to the elements with the same fingerprint,
+ * comparing sets of N elements is not anymore an O(N^2) recursive comparisons operation.
+ * <p>
+ * Each node below references its parent, this creates cycles and forces the comparison to check every node against the
+ * visited ones. Without coverage instrumentation, a linear lookup takes about 20 seconds to compare 100 000 nodes while an
+ * O(1) lookup takes about 2 seconds, 20 seconds is thus a safe threshold to detect a regression on any test agent.
+ */
+class RecursiveComparisonPerfTest {
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_100k_nodes_graph() {
+    // GIVEN
+    Node actual = graph(100_000);
+    Node expected = graph(100_000);
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_100k_nodes_graph_with_a_difference() {
+    // GIVEN
+    Node actual = graph(100_000);
+    Node expected = graph(100_000);
+    expected.children.get(50_000).name = "other";
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isNotEqualTo(expected);
+  }
+
+  @Test
+  @Timeout(value = 20)
+  void test_recursive_comparison_of_20k_elements_sets() {
+    // GIVEN
+    Set<Order> actual = new HashSet<>();
+    Set<Order> expected = new HashSet<>();
+    for (int i = 0; i < 20_000; i++) {
+      actual.add(new Order(i, "product-" + i, i % 10));
+      expected.add(new Order(i, "product-" + i, i % 10));
+    }
+    // WHEN/THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .isEqualTo(expected);
+  }
+
+  private static Node graph(int size) {
+    Node root = new Node("root", null);
+    for (int i = 0; i < size; i++) {
+      root.children.add(new Node("node-" + i, root));
+    }
+    return root;
+  }
+
+  static class Node {
+    String name;
+    Node parent;
+    List<Node> children = new ArrayList<>();
+
+    Node(String name, Node parent) {
+      this.name = name;
+      this.parent = parent;
+    }
+  }
+
+  static class Order {
+    long id;
+    String product;
+    int quantity;
+
+    Order(long id, String product, int quantity) {
+      this.id = id;
+      this.product = product;
+      this.quantity = quantity;
+    }
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Ensures satisfiesExactlyInAnyOrder matches consumers to elements in polynomial time, searching all the assignments of
+ * permissive consumers to elements would not fit in the time limit.
+ */
+class SatisfiesExactlyInAnyOrderPerfTest {
+
+  private static final int SIZE = 40;
+
+  @Test
+  @Timeout(value = 5)
+  void test_satisfiesExactlyInAnyOrder_with_permissive_consumers_failing() {
+    List<Integer> actual = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+    // all consumers but the last two are satisfied by any element, the last two by the same element only
+    @SuppressWarnings("unchecked")
+    Consumer<Integer>[] consumers = new Consumer[SIZE];
+    for (int i = 0; i < SIZE - 2; i++) {
+      consumers[i] = element -> assertThat(element).isNotNegative();
+    }
+    consumers[SIZE - 2] = element -> assertThat(element).isZero();
+    consumers[SIZE - 1] = element -> assertThat(element).isZero();
+    expectAssertionError(() -> assertThat(actual).satisfiesExactlyInAnyOrder(consumers));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_satisfiesExactlyInAnyOrder_with_500Elements_and_permissive_consumers() {
+    int size = 500;
+    List<Integer> actual = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    // consumer i is satisfied by elements >= size - 1 - i, i.e. only one assignment works
+    @SuppressWarnings("unchecked")
+    Consumer<Integer>[] consumers = new Consumer[size];
+    for (int i = 0; i < size; i++) {
+      int min = size - 1 - i;
+      consumers[i] = element -> assertThat(element).isGreaterThanOrEqualTo(min);
+    }
+    assertThat(actual).satisfiesExactlyInAnyOrder(consumers);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Ensures creating a soft assertion proxy does not look up the proxy class constructor reflectively each time.
+ */
+class SoftAssertionsCreationPerfTest {
+
+  private static final int SOFT_ASSERTIONS_COUNT = 2_000_000;
+
+  @Test
+  @Timeout(value = 10)
+  void test_2m_soft_assertions() {
+    SoftAssertions softly = new SoftAssertions();
+    List<String> list = Lists.list("a", "b");
+    for (int i = 0; i < SOFT_ASSERTIONS_COUNT; i++) {
+      softly.assertThat(i).isNotNegative();
+      // method changing the object under test creates a second proxy
+      softly.assertThat(list).size().isEqualTo(2);
+    }
+    softly.assertAll();
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.util.Throwables.removeAssertJRelatedElementsFromStackTrace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Ensures removing the AssertJ-related elements of a deep stack trace is linear in its depth.
+ */
+class StackTraceFilteringPerfTest {
+
+  private static final int STACK_DEPTH = 200_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_filtering_deep_stack_trace() {
+    AssertionError error = new AssertionError();
+    StackTraceElement[] stackTrace = new StackTraceElement[STACK_DEPTH];
+    for (int i = 0; i < STACK_DEPTH; i++) {
+      // distinct elements, half of them related to AssertJ
+      String className = i % 2 == 0 ? "org.assertj.core.api.Assert" + i : "reactor.core.publisher.Flux" + i;
+      stackTrace[i] = new StackTraceElement(className, "method", null, i);
+    }
+    error.setStackTrace(stackTrace);
+    removeAssertJRelatedElementsFromStackTrace(error);
+  }
+}
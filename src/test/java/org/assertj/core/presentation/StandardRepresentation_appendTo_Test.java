@@ -0,0 +1,234 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.presentation;
+
+import static java.lang.Integer.MAX_VALUE;
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchIllegalArgumentException;
+import static org.assertj.core.api.Assertions.catchNullPointerException;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Maps.newHashMap;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StandardRepresentation_appendTo_Test extends AbstractBaseRepresentationTest {
+
+  @ParameterizedTest
+  @MethodSource
+  void should_append_the_same_representation_as_toStringOf_when_limits_are_not_reached(Object value) {
+    // GIVEN
+    StringBuilder output = new StringBuilder();
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(output, value, MAX_VALUE, MAX_VALUE);
+    // THEN
+    then(output.toString()).isEqualTo(String.valueOf(STANDARD_REPRESENTATION.toStringOf(value)));
+  }
+
+  static Stream<Object> should_append_the_same_representation_as_toStringOf_when_limits_are_not_reached() {
+    List<Object> selfReferencingList = list("a");
+    selfReferencingList.add(selfReferencingList);
+    Map<String, Object> selfReferencingMap = newHashMap("key", "value");
+    selfReferencingMap.put("self", selfReferencingMap);
+    return Stream.of(null, "string", 42L, list(), list(1, "two", '3'), list(list(1, 2), array(3, 4), new int[] { 5, 6 }),
+                     list(stringOfLength(50), stringOfLength(50)), list(list(stringOfLength(50), stringOfLength(50)), "end"),
+                     IntStream.range(0, 2000).boxed().toArray(), IntStream.range(0, 2000).toArray(),
+                     list(IntStream.range(0, 2000).boxed().toArray()), selfReferencingList, selfReferencingMap,
+                     newHashMap("key", list(1, 2)), tuple(1, list(2, 3), "four"), new Object[0][0]);
+  }
+
+  @Test
+  void should_append_the_same_representation_as_toStringOf_with_few_elements_for_printing() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(3);
+    Object value = list(list(1, 2, 3, 4, 5), array(stringOfLength(100), "b", "c", "d"), newHashMap("k1", list(1, 2, 3, 4)),
+                        list(6, 7), 8);
+    StringBuilder output = new StringBuilder();
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(output, value, MAX_VALUE, MAX_VALUE);
+    // THEN
+    then(output.toString()).isEqualTo(STANDARD_REPRESENTATION.toStringOf(value));
+  }
+
+  @Test
+  void should_stop_formatting_when_max_length_is_reached() {
+    // GIVEN
+    StringBuilder output = new StringBuilder();
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(output, list("abc", "def"), 8, MAX_VALUE);
+    // THEN
+    then(output.toString()).isEqualTo("[\"abc\", ...");
+  }
+
+  @Test
+  void should_stop_formatting_when_max_elements_is_reached_at_any_nesting_level() {
+    // GIVEN
+    StringBuilder output = new StringBuilder();
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(output, list(list(1, 2, 3), list(4, 5, 6)), MAX_VALUE, 6);
+    // THEN
+    then(output.toString()).isEqualTo("[[1, 2, 3], [4, ...");
+  }
+
+  @Test
+  void should_stop_formatting_huge_nested_iterables_when_max_length_is_reached() {
+    // GIVEN
+    // 10^18 strings with no memory footprint
+    Iterable<?> hugeNestedIterable = lazyIterable(1_000_000, () -> lazyIterable(1_000_000, () -> lazyIterable(1_000_000,
+                                                                                                            () -> "element")));
+    StringBuilder output = new StringBuilder();
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(output, hugeNestedIterable, 1000, MAX_VALUE);
+    // THEN
+    then(output).hasSize(1000 + "...".length())
+                .startsWith("[[[\"element\",")
+                .endsWith("...");
+  }
+
+  @Test
+  void should_truncate_the_error_message_values_of_a_failing_assertion_on_a_huge_nested_graph() {
+    // GIVEN
+    // 100^4 strings sharing the same lists, representing all of them would take several GB
+    List<Object> actual = list("element");
+    for (int i = 0; i < 4; i++) {
+      actual = nCopies(100, actual);
+    }
+    List<Object> hugeNestedGraph = actual;
+    StandardRepresentation.setMaxLengthForErrorMessageValues(10_000);
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(hugeNestedGraph).containsExactly("element"));
+    // THEN
+    then(assertionError).hasMessageContaining("[[[[[\"element\"],")
+                        .hasMessageContaining("...");
+    then(assertionError.getMessage()).hasSizeLessThan(11_000);
+  }
+
+  @Test
+  void should_truncate_the_representation_of_subclasses_overriding_toStringOf() {
+    // GIVEN
+    StandardRepresentation representation = new StandardRepresentation() {
+      @Override
+      public String toStringOf(Object object) {
+        return object instanceof List ? "custom list" : super.toStringOf(object);
+      }
+    };
+    StringBuilder output = new StringBuilder();
+    // WHEN
+    representation.appendTo(output, list(1, 2), 6, MAX_VALUE);
+    // THEN
+    then(output.toString()).isEqualTo("custom...");
+  }
+
+  @Test
+  void should_only_represent_the_displayed_elements_once() {
+    // GIVEN
+    AtomicInteger representations = new AtomicInteger();
+    Iterable<?> iterable = lazyIterable(1_000_000, () -> countingElement(representations));
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(iterable);
+    // THEN
+    then(representation).contains("...");
+    then(representations).hasValue(StandardRepresentation.getMaxElementsForPrinting());
+  }
+
+  @Test
+  void should_only_append_the_displayed_elements() {
+    // GIVEN
+    AtomicInteger representations = new AtomicInteger();
+    Iterable<?> iterable = lazyIterable(1_000_000, () -> countingElement(representations));
+    // WHEN
+    STANDARD_REPRESENTATION.appendTo(new StringBuilder(), iterable, MAX_VALUE, MAX_VALUE);
+    // THEN
+    // the elements tried on a single line are represented again as the iterable is too long to be formatted on one line
+    int maxElementsForPrinting = StandardRepresentation.getMaxElementsForPrinting();
+    int maxLengthForSingleLine = StandardRepresentation.getMaxLengthForSingleLineDescription();
+    then(representations.get()).isBetween(maxElementsForPrinting, maxElementsForPrinting + maxLengthForSingleLine);
+  }
+
+  @Test
+  void should_fail_if_output_is_null() {
+    // WHEN
+    NullPointerException exception = catchNullPointerException(() -> STANDARD_REPRESENTATION.appendTo(null, "foo", 10, 10));
+    // THEN
+    then(exception).hasMessage("The output to write the representation to should not be null");
+  }
+
+  @Test
+  void should_fail_if_max_length_is_negative() {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> STANDARD_REPRESENTATION.appendTo(new StringBuilder(),
+                                                                                                              "foo", -1, 10));
+    // THEN
+    then(exception).hasMessage("maxLength must be >= 0 but was -1");
+  }
+
+  @Test
+  void should_fail_if_max_elements_is_negative() {
+    // WHEN
+    IllegalArgumentException exception = catchIllegalArgumentException(() -> STANDARD_REPRESENTATION.appendTo(new StringBuilder(),
+                                                                                                              "foo", 10, -1));
+    // THEN
+    then(exception).hasMessage("maxElements must be >= 0 but was -1");
+  }
+
+  private static Object countingElement(AtomicInteger representations) {
+    return new Object() {
+      @Override
+      public String toString() {
+        representations.incrementAndGet();
+        return "element";
+      }
+    };
+  }
+
+  private static String stringOfLength(int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append('x');
+    }
+    return builder.toString();
+  }
+
+  // an Iterable that is neither a collection nor overriding toString is represented as a group
+  private static Iterable<Object> lazyIterable(long size, Supplier<Object> elementSupplier) {
+    return () -> new Iterator<Object>() {
+      private long next;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public Object next() {
+        next++;
+        return elementSupplier.get();
+      }
+    };
+  }
+}
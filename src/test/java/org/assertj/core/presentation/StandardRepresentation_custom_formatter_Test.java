@@ -13,10 +13,23 @@
 package org.assertj.core.presentation;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.presentation.BinaryRepresentation.BINARY_REPRESENTATION;
 import static org.assertj.core.presentation.HexadecimalRepresentation.HEXA_REPRESENTATION;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.presentation.UnicodeRepresentation.UNICODE_REPRESENTATION;
+import static org.assertj.core.util.Lists.list;
+import static org.assertj.core.util.Lists.newArrayList;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.AfterEach;
@@ -68,4 +81,93 @@ class StandardRepresentation_custom_formatter_Test {
     assertThat(STANDARD_REPRESENTATION.toStringOf(intNumber)).isEqualTo("8");
   }
 
+  @Test
+  void should_use_formatter_registered_for_superclass() {
+    // GIVEN
+    Object number = 8;
+    StandardRepresentation.registerFormatterForType(Number.class, value -> "number(" + value + ")");
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(number);
+    // THEN
+    then(representation).isEqualTo("number(8)");
+  }
+
+  @Test
+  void should_use_formatter_registered_for_interface() {
+    // GIVEN
+    Object list = newArrayList("a", "b");
+    StandardRepresentation.registerFormatterForType(Iterable.class, value -> "iterable");
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(representation).isEqualTo("iterable");
+  }
+
+  @Test
+  void should_use_formatter_registered_for_the_closest_supertype() {
+    // GIVEN
+    Object list = newArrayList("a", "b");
+    StandardRepresentation.registerFormatterForType(Object.class, value -> "object");
+    StandardRepresentation.registerFormatterForType(Iterable.class, value -> "iterable");
+    StandardRepresentation.registerFormatterForType(Collection.class, value -> "collection");
+    StandardRepresentation.registerFormatterForType(AbstractList.class, value -> "abstract list");
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(representation).isEqualTo("abstract list");
+  }
+
+  @Test
+  void should_use_formatter_registered_for_closest_interface_if_none_is_registered_for_superclasses() {
+    // GIVEN
+    Object list = newArrayList("a", "b");
+    StandardRepresentation.registerFormatterForType(Iterable.class, value -> "iterable");
+    StandardRepresentation.registerFormatterForType(Collection.class, value -> "collection");
+    // WHEN
+    String representation = STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(representation).isEqualTo("collection");
+  }
+
+  @Test
+  void should_use_formatter_registered_after_formatting_a_value_of_the_same_type() {
+    // GIVEN
+    Object number = 8;
+    StandardRepresentation.registerFormatterForType(Number.class, value -> "number(" + value + ")");
+    then(STANDARD_REPRESENTATION.toStringOf(number)).isEqualTo("number(8)");
+    // WHEN
+    StandardRepresentation.registerFormatterForType(Integer.class, value -> "int(" + value + ")");
+    // THEN
+    then(STANDARD_REPRESENTATION.toStringOf(number)).isEqualTo("int(8)");
+  }
+
+  @Test
+  void should_support_registering_formatters_while_formatting_concurrently() throws Exception {
+    // GIVEN
+    List<Object> values = list(1, 2L, (short) 3, (byte) 4, 5.0, 6.0f, BigInteger.ONE, BigDecimal.TEN, "abc", 'c');
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    // WHEN
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        Object value = values.get(i % values.size());
+        tasks.add(executor.submit(() -> {
+          registerFormatterFor(value.getClass());
+          return STANDARD_REPRESENTATION.toStringOf(value);
+        }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    // THEN
+    then(values).allSatisfy(value -> then(STANDARD_REPRESENTATION.toStringOf(value)).isEqualTo("formatted"));
+  }
+
+  private static <T> void registerFormatterFor(Class<T> type) {
+    StandardRepresentation.registerFormatterForType(type, value -> "formatted");
+  }
+
 }
@@ -18,6 +18,7 @@ import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -35,6 +36,24 @@ class DateUtil_format_with_date_time_with_ms_format_Test {
     assertThat(formatAsDatetimeWithMs(formatter.parse(dateAsString))).isEqualTo("1994-08-26T00:00:00.000");
   }
 
+  @Test
+  void should_format_dates_like_simple_date_format() {
+    SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    Random random = new Random(42);
+    for (int i = 0; i < 1000; i++) {
+      // dates from about 1900 to 2100
+      Date date = new Date((long) ((random.nextDouble() - 0.5) * 2 * 4_102_444_800_000L));
+      assertThat(formatAsDatetimeWithMs(date)).isEqualTo(formatter.format(date));
+    }
+  }
+
+  @Test
+  void should_format_dates_before_gregorian_cutover_and_after_year_9999_like_simple_date_format() throws ParseException {
+    SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS");
+    assertThat(formatAsDatetimeWithMs(formatter.parse("1492-10-12T10:11:12.013"))).isEqualTo("1492-10-12T10:11:12.013");
+    assertThat(formatAsDatetimeWithMs(formatter.parse("12345-06-07T10:11:12.013"))).isEqualTo("12345-06-07T10:11:12.013");
+  }
+
   @Test
   void should_return_null_if_date_is_null() {
     assertThat(formatAsDatetimeWithMs(null)).isNull();
@@ -0,0 +1,64 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Throwables.withoutAssertJRelatedElements;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link Throwables#withoutAssertJRelatedElements(StackTraceElement[])}</code>.
+ */
+class Throwables_withoutAssertJRelatedElements_Test {
+
+  @Test
+  void should_remove_assertj_related_elements() {
+    // GIVEN
+    StackTraceElement[] stackTrace = { element("org.assertj.core.internal.Failures"),
+        element("org.assertj.core.api.AbstractAssert"), element("com.example.MyTest"), element("org.assertj.core.api.Foo"),
+        element("org.junit.Runner") };
+    // WHEN
+    StackTraceElement[] filtered = withoutAssertJRelatedElements(stackTrace);
+    // THEN
+    then(filtered).containsExactly(element("com.example.MyTest"), element("org.junit.Runner"));
+  }
+
+  @Test
+  void should_remove_reflective_constructor_call_element_made_by_assertj() {
+    // GIVEN
+    StackTraceElement[] stackTrace = { element("jdk.internal.reflect.NativeConstructorAccessorImpl"),
+        element("java.lang.reflect.Constructor"), element("org.assertj.core.error.ConstructorInvoker"),
+        element("org.assertj.core.error.ShouldBeEqual"), element("java.lang.reflect.Constructor"),
+        element("com.example.MyTest") };
+    // WHEN
+    StackTraceElement[] filtered = withoutAssertJRelatedElements(stackTrace);
+    // THEN
+    then(filtered).containsExactly(element("jdk.internal.reflect.NativeConstructorAccessorImpl"),
+                                   element("java.lang.reflect.Constructor"), element("com.example.MyTest"));
+  }
+
+  @Test
+  void should_return_given_stack_trace_if_it_has_no_assertj_related_elements() {
+    // GIVEN
+    StackTraceElement[] stackTrace = { element("com.example.MyTest"), element("org.junit.Runner") };
+    // WHEN
+    StackTraceElement[] filtered = withoutAssertJRelatedElements(stackTrace);
+    // THEN
+    then(filtered).isSameAs(stackTrace);
+  }
+
+  private static StackTraceElement element(String className) {
+    return new StackTraceElement(className, "method", className + ".java", 1);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util.diff.myers;
+
+import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
+import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.InsertDelta;
+import org.assertj.core.util.diff.Patch;
+import org.assertj.core.util.diff.SummaryDelta;
+import org.junit.jupiter.api.Test;
+
+class LinearSpaceMyersDiffTest {
+
+  @Test
+  void should_return_empty_patch_for_equal_sequences() {
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(list("a", "b", "c"), list("a", "b", "c"));
+    // THEN
+    then(patch.getDeltas()).isEmpty();
+  }
+
+  @Test
+  void should_find_insert_delete_and_change_deltas() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f");
+    List<String> revised = list("a", "x", "c", "d", "f", "g");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+    // THEN
+    then(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("b")), new Chunk<>(1, list("x"))),
+                                            new DeleteDelta<>(new Chunk<>(4, list("e")), new Chunk<>(4, emptyList())),
+                                            new InsertDelta<>(new Chunk<>(6, emptyList()), new Chunk<>(5, list("g"))));
+  }
+
+  @Test
+  void should_compute_minimal_patches_like_myers_diff() {
+    // GIVEN
+    Random random = new Random(42);
+    for (int i = 0; i < 500; i++) {
+      List<String> original = randomLines(random);
+      List<String> revised = randomLines(random);
+      // WHEN
+      Patch<String> patch = new LinearSpaceMyersDiff<String>().diff(original, revised);
+      // THEN
+      Patch<String> myersPatch = new MyersDiff<String>().diff(original, revised);
+      then(editDistance(patch)).as("edit distance of %s and %s", original, revised)
+                               .isEqualTo(editDistance(myersPatch));
+      then(patch.applyTo(original)).isEqualTo(revised);
+    }
+  }
+
+  @Test
+  void should_summarize_differences_beyond_max_edit_distance() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f");
+    List<String> revised = list("a", "x", "y", "z", "f");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(6).diff(original, revised);
+    // THEN
+    then(patch.getDeltas()).containsExactly(new SummaryDelta<>(new Chunk<>(1, list("b", "c", "d", "e")),
+                                                               new Chunk<>(1, list("x", "y", "z"))));
+    then(patch.getDeltas().get(0)).hasToString(format("Changed content at line 2: 4 lines differ, too many differences to list them%n"));
+    then(patch.applyTo(original)).isEqualTo(revised);
+  }
+
+  @Test
+  void should_compute_differences_up_to_max_edit_distance() {
+    // GIVEN
+    List<String> original = list("a", "b", "c", "d", "e", "f");
+    List<String> revised = list("a", "x", "y", "z", "f");
+    // WHEN
+    Patch<String> patch = new LinearSpaceMyersDiff<String>(7).diff(original, revised);
+    // THEN
+    then(patch.getDeltas()).containsExactly(new ChangeDelta<>(new Chunk<>(1, list("b", "c", "d", "e")),
+                                                              new Chunk<>(1, list("x", "y", "z"))));
+  }
+
+  private static List<String> randomLines(Random random) {
+    int size = random.nextInt(20);
+    List<String> lines = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      lines.add(String.valueOf((char) ('a' + random.nextInt(4))));
+    }
+    return lines;
+  }
+
+  private static int editDistance(Patch<String> patch) {
+    int editDistance = 0;
+    for (Delta<String> delta : patch.getDeltas()) {
+      editDistance += delta.getOriginal().size() + delta.getRevised().size();
+    }
+    return editDistance;
+  }
+}
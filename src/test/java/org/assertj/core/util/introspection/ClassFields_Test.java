@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2022 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.Test;
+
+class ClassFields_Test {
+
+  @Test
+  void should_return_declared_fields_including_inherited_ones_in_order() {
+    // WHEN
+    ClassFields classFields = ClassFields.of(Child.class);
+    // THEN
+    then(classFields.getDeclaredFieldsIncludingInherited()).extracting(Field::getName)
+                                                           .containsExactly("age", "hidden", "name", "hidden");
+    then(classFields.getFieldsNames()).containsOnly("age", "hidden", "name");
+  }
+
+  @Test
+  void should_cache_fields_metadata_per_class() {
+    // WHEN
+    ClassFields classFields = ClassFields.of(Child.class);
+    // THEN
+    then(ClassFields.of(Child.class)).isSameAs(classFields);
+    then(ClassFields.of(Parent.class)).isNotSameAs(classFields);
+  }
+
+  @Test
+  void should_return_unmodifiable_fields() {
+    // GIVEN
+    ClassFields classFields = ClassFields.of(Child.class);
+    // WHEN
+    Throwable thrown = catchThrowable(() -> classFields.getFieldsNames().clear());
+    // THEN
+    then(thrown).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_read_field_values_with_accessors() {
+    // GIVEN
+    Child child = new Child();
+    // WHEN
+    ClassFields classFields = ClassFields.of(Child.class);
+    // THEN
+    then(classFields.getAccessor("name").read(child)).isEqualTo("parent");
+    then(classFields.getAccessor("age").read(child)).isEqualTo(10);
+    then(classFields.getAccessor("hidden").read(child)).isEqualTo("child");
+  }
+
+  @Test
+  void should_not_provide_accessor_for_static_or_unknown_fields() {
+    // WHEN
+    ClassFields classFields = ClassFields.of(Child.class);
+    // THEN
+    then(classFields.getAccessor("CONSTANT")).isNull();
+    then(classFields.getAccessor("unknown")).isNull();
+  }
+
+  @Test
+  void should_create_accessor_on_first_access_and_cache_it() {
+    // GIVEN
+    ClassFields classFields = ClassFields.of(Child.class);
+    // WHEN
+    ClassFields.FieldAccessor accessor = classFields.getAccessor("age");
+    // THEN
+    then(classFields.getAccessor("age")).isSameAs(accessor);
+  }
+
+  @Test
+  void should_read_public_field_values_with_accessors() {
+    // GIVEN
+    WithPublicField withPublicField = new WithPublicField();
+    // WHEN
+    ClassFields classFields = ClassFields.of(WithPublicField.class);
+    // THEN
+    then(classFields.getAccessor("value").read(withPublicField)).isEqualTo("public");
+  }
+
+  public static class WithPublicField {
+    public String value = "public";
+  }
+
+  @SuppressWarnings("unused")
+  private static class Parent {
+    private String name = "parent";
+    private String hidden = "parent";
+  }
+
+  @SuppressWarnings("unused")
+  private static class Child extends Parent {
+    static final String CONSTANT = "constant";
+    private int age = 10;
+    private String hidden = "child";
+  }
+}
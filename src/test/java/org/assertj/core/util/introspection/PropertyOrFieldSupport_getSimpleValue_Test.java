@@ -103,4 +103,89 @@ class PropertyOrFieldSupport_getSimpleValue_Test {
 
   }
 
+  @Nested
+  class With_POJO_input {
+
+    @Test
+    void should_extract_field_value_if_getter_fails() {
+      // GIVEN
+      FailingGetter input = new FailingGetter();
+      // WHEN
+      Object value = underTest.getSimpleValue("name", input);
+      // THEN
+      then(value).isEqualTo("field");
+    }
+
+    @Test
+    void should_fail_with_getter_error_if_getter_fails_and_there_is_no_field() {
+      // GIVEN
+      FailingGetter input = new FailingGetter();
+      // WHEN
+      Throwable thrown = catchThrowable(() -> underTest.getSimpleValue("nickname", input));
+      // THEN
+      then(thrown).isInstanceOf(IntrospectionError.class)
+                  .hasMessageContaining("Unable to obtain the value of the property <'nickname'>");
+    }
+
+    @Test
+    void should_rethrow_error_thrown_by_getter_rather_than_extracting_field_value() {
+      // GIVEN
+      ErrorThrowingGetter input = new ErrorThrowingGetter();
+      // WHEN
+      Throwable thrown = catchThrowable(() -> underTest.getSimpleValue("name", input));
+      // THEN
+      then(thrown).isSameAs(ErrorThrowingGetter.ERROR);
+    }
+
+    @Test
+    void should_honor_bare_name_property_methods_setting_changes() {
+      // GIVEN
+      BareName input = new BareName();
+      try {
+        Introspection.setExtractBareNamePropertyMethods(false);
+        then(underTest.getSimpleValue("name", input)).isEqualTo("field");
+        // WHEN
+        Introspection.setExtractBareNamePropertyMethods(true);
+        Object value = underTest.getSimpleValue("name", input);
+        // THEN
+        then(value).isEqualTo("bare name method");
+      } finally {
+        Introspection.setExtractBareNamePropertyMethods(true);
+      }
+    }
+
+  }
+
+  @SuppressWarnings("unused")
+  private static class FailingGetter {
+    private final String name = "field";
+
+    public String getName() {
+      throw new IllegalStateException("boom");
+    }
+
+    public String getNickname() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static class ErrorThrowingGetter {
+    private static final AssertionError ERROR = new AssertionError("boom");
+    private final String name = "field";
+
+    public String getName() {
+      throw ERROR;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  private static class BareName {
+    private final String name = "field";
+
+    public String name() {
+      return "bare name method";
+    }
+  }
+
 }
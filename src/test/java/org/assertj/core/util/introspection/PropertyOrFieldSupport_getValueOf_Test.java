@@ -138,7 +138,7 @@ class PropertyOrFieldSupport_getValueOf_Test {
   @Test
   void should_throw_error_when_no_property_nor_public_field_match_given_name_if_extraction_is_limited_to_public_fields() {
     // GIVEN
-    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(new PropertySupport(), EXTRACTION_OF_PUBLIC_FIELD_ONLY);
+    PropertyOrFieldSupport underTest = new PropertyOrFieldSupport(EXTRACTION_OF_PUBLIC_FIELD_ONLY);
     // WHEN
     Throwable thrown = catchThrowable(() -> underTest.getValueOf("city", yoda));
     // THEN